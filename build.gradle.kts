@@ -3,6 +3,7 @@ plugins {
     id("org.springframework.boot") version "3.5.9"
     id("io.spring.dependency-management") version "1.1.7"
     id("org.asciidoctor.jvm.convert") version "4.0.5"
+    id("me.champeau.jmh") version "0.7.2"
     kotlin("jvm")
 }
 
@@ -13,9 +14,13 @@ group = "com.erp"
 version = "0.0.1-SNAPSHOT"
 description = "mini"
 
+// 빌드 JDK 버전 (기본 17, 가상 스레드 실행은 -PjavaVersion=21)
+// JavaExec 블록 안에서는 javaVersion 이 JavaExec.javaVersion 으로 해석되므로 다른 이름 사용
+val targetJavaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(targetJavaVersion)
     }
 }
 
@@ -36,8 +41,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.retry:spring-retry")
+    implementation("org.springframework.session:spring-session-core")
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-jcache")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
     implementation("me.paulschwarz:spring-dotenv:3.0.0")
     implementation("org.flywaydb:flyway-core")
@@ -56,6 +65,8 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:mysql:1.17.6")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    jmh("org.mockito:mockito-core")
+    jmh("org.testcontainers:mysql:1.17.6")
     implementation(kotlin("stdlib-jdk8"))
 }
 
@@ -70,6 +81,27 @@ sourceSets {
     }
 }
 
+tasks.named<JavaExec>("bootRun") {
+    if (targetJavaVersion >= 21) {
+        // 가상 스레드가 캐리어 스레드에 고정(pinning)되는 지점 출력
+        jvmArgs("-Djdk.tracePinnedThreads=short")
+    }
+}
+
+// 부하 테스트 전용 소스셋 (src/loadTest, 단위/통합 테스트와 분리)
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    loadTest.implementationConfigurationName("org.testcontainers:mysql:1.17.6")
+    loadTest.implementationConfigurationName("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
 tasks.named<Delete>("clean") {
     delete(file(generatedDir))
 }
@@ -90,6 +122,47 @@ tasks.test {
     }
 }
 
+// 벤치마크: ./gradlew jmh (특정 벤치마크만: ./gradlew jmh -Pjmh.includes=StockServiceBenchmark)
+// DB 벤치마크(*DbBenchmark)는 Testcontainers MySQL을 사용하므로 Docker가 필요함
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    timeUnit.set("us")
+    benchmarkMode.set(listOf("thrpt", "avgt"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// 가상 스레드 / 플랫폼 스레드 부하 비교 (서버 가상 스레드는 Java 21 실행 시에만 적용, Docker 필요)
+// 소스셋은 기본 toolchain(17)으로 컴파일되므로 Java 21 API 를 쓰지 않는다
+// ./gradlew loadTest -PjavaVersion=21 [-Ploadtest.blockers=400 -Ploadtest.probes=20 -Ploadtest.seconds=20 -Ploadtest.pool=100]
+tasks.register<JavaExec>("loadTest") {
+    description = "Compares platform and virtual thread request handling under row lock waits"
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.erp.mini.loadtest.LockWaitLoadTest")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(targetJavaVersion)
+    })
+    systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+}
+
+// 주문 흐름 작업 재현 (판매 / 구매 입고 / 재고 조정 혼합, Zipf 인기 SKU, Docker 필요)
+// ./gradlew orderLoadTest [-Ploadtest.workers=32 -Ploadtest.seconds=30 -Ploadtest.zipf=1.1
+//     -Ploadtest.mix=sale:70,purchase:10,adjust:20 -Perp.stock.lock.enabled=false ...]
+tasks.register<JavaExec>("orderLoadTest") {
+    description = "Replays a mixed order lifecycle workload and reports latency percentiles, retries and deadlocks"
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.erp.mini.loadtest.OrderLifecycleLoadTest")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(targetJavaVersion)
+    })
+    systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") || it.startsWith("erp.") })
+}
+
 tasks.register<Test>("integrationTest") {
     description = "Runs integration tests"
     group = "verification"
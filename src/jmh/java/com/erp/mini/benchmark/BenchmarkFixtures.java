@@ -0,0 +1,70 @@
+package com.erp.mini.benchmark;
+
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.partner.domain.PartnerType;
+import com.erp.mini.stock.domain.Stock;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 엔티티 생성 (DB 없이 id 직접 지정)
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    public static Item item(long id) {
+        return withId(Item.createItem("상품-" + id, "IC" + String.format("%06d", id), BigDecimal.valueOf(1000), ItemStatus.ACTIVE), id);
+    }
+
+    public static Warehouse warehouse(long id) {
+        return withId(Warehouse.createWarehouse("창고-" + id, "loc", WarehouseStatus.ACTIVE), id);
+    }
+
+    public static Partner customer(long id) {
+        return withId(Partner.createPartner("고객-" + id, PartnerType.CUSTOMER, "010-0000-0000", "bench@erp.com"), id);
+    }
+
+    public static Stock stock(long id, Item item, Warehouse warehouse, long qty) {
+        Stock stock = withId(Stock.createStock(item, warehouse), id);
+        stock.increase(qty);
+        return stock;
+    }
+
+    // 상품 lines 개, 창고 1개 기준 (item_id 1..lines, warehouse_id 1)
+    // 입력 순서를 섞어 정렬 비용이 포함되도록 함
+    public static Map<StockKey, Long> shuffledLineMap(int lines, long qty, long seed) {
+        List<StockKey> keys = new ArrayList<>(lines);
+
+        for (long itemId = 1; itemId <= lines; itemId++) {
+            keys.add(new StockKey(itemId, 1L));
+        }
+
+        Collections.shuffle(keys, new Random(seed));
+
+        Map<StockKey, Long> lineMap = new LinkedHashMap<>();
+        keys.forEach(key -> lineMap.put(key, qty));
+
+        return lineMap;
+    }
+
+    private static <T> T withId(T entity, long id) {
+        Field field = ReflectionUtils.findField(entity.getClass(), "id");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, entity, id);
+        return entity;
+    }
+}
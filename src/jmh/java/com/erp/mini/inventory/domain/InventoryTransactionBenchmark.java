@@ -0,0 +1,42 @@
+package com.erp.mini.inventory.domain;
+
+import com.erp.mini.benchmark.BenchmarkFixtures;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.warehouse.domain.Warehouse;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 재고 이력 팩토리 메서드 벤치마크 (검증 + 객체 생성 비용)
+ */
+@State(Scope.Benchmark)
+public class InventoryTransactionBenchmark {
+
+    private Item item;
+    private Warehouse warehouse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        item = BenchmarkFixtures.item(1L);
+        warehouse = BenchmarkFixtures.warehouse(1L);
+    }
+
+    @Benchmark
+    public InventoryTransaction purchaseInbound() {
+        return InventoryTransaction.purchaseInbound(item, warehouse, 10L, 1L);
+    }
+
+    @Benchmark
+    public InventoryTransaction cancelSalesInbound() {
+        return InventoryTransaction.cancelSalesInbound(item, warehouse, 10L, 1L);
+    }
+
+    @Benchmark
+    public InventoryTransaction salesOutbound() {
+        return InventoryTransaction.salesOutbound(item, warehouse, 10L, 1L);
+    }
+
+    @Benchmark
+    public InventoryTransaction adjust() {
+        return InventoryTransaction.adjust(item, warehouse, -3L, "재고 실사");
+    }
+}
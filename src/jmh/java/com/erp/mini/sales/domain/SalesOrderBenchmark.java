@@ -0,0 +1,49 @@
+package com.erp.mini.sales.domain;
+
+import com.erp.mini.benchmark.BenchmarkFixtures;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.warehouse.domain.Warehouse;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 판매건 라인 추가 벤치마크
+ * addLine 은 containsLine 으로 기존 라인을 확인하므로 lines 개 추가 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class SalesOrderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int lines;
+
+    private Partner partner;
+    private Item[] items;
+    private Warehouse warehouse;
+
+    private final OrderCustomerInfo customerInfo = new OrderCustomerInfo("홍길동", "01012345678");
+    private final ShippingAddress shippingAddress = new ShippingAddress("01234", "서울시", "상세 주소");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        partner = BenchmarkFixtures.customer(1L);
+        warehouse = BenchmarkFixtures.warehouse(1L);
+        items = new Item[lines];
+
+        for (int i = 0; i < lines; i++) {
+            items[i] = BenchmarkFixtures.item(i + 1L);
+        }
+    }
+
+    @Benchmark
+    public SalesOrder addLines() {
+        SalesOrder salesOrder = SalesOrder.createSalesOrder(partner, customerInfo, shippingAddress);
+
+        for (Item item : items) {
+            salesOrder.addLine(item, warehouse, 1L, BigDecimal.TEN);
+        }
+
+        return salesOrder;
+    }
+}
@@ -0,0 +1,99 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.benchmark.BenchmarkFixtures;
+import com.erp.mini.inventory.repo.InventoryTransactionJdbcRepository;
+import com.erp.mini.inventory.repo.InventoryTransactionRepository;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.domain.Stock;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.repo.ItemStockSummaryJdbcRepository;
+import com.erp.mini.stock.repo.StockJdbcRepository;
+import com.erp.mini.stock.repo.StockRepository;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * StockService.apply 인메모리 벤치마크 (DB I/O 제외)
+ * 저장소는 stubOnly mock 으로 대체하여 정렬 / Map 구성 / 엔티티 변경 / 이력 생성 비용만 측정한다.
+ * mock 호출 비용은 라인 수와 무관한 상수 + 라인당 getReferenceById 가 포함된다.
+ */
+@State(Scope.Benchmark)
+public class StockServiceBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    int lines;
+
+    private StockService stockService;
+    private Map<StockKey, Long> lineMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ItemRepository itemRepository = stub(ItemRepository.class);
+        WarehouseRepository warehouseRepository = stub(WarehouseRepository.class);
+        StockRepository stockRepository = stub(StockRepository.class);
+
+        Warehouse warehouse = BenchmarkFixtures.warehouse(1L);
+        List<Stock> stocks = new ArrayList<>(lines);
+
+        for (long itemId = 1; itemId <= lines; itemId++) {
+            Item item = BenchmarkFixtures.item(itemId);
+            // 감소를 반복해도 부족하지 않도록 충분한 초기 수량
+            stocks.add(BenchmarkFixtures.stock(itemId, item, warehouse, Long.MAX_VALUE / 4));
+        }
+
+        given(stockRepository.findAllByKeysForUpdate(any())).willReturn(stocks);
+        given(itemRepository.getReferenceById(anyLong())).willAnswer(inv -> BenchmarkFixtures.item(inv.getArgument(0)));
+        given(warehouseRepository.getReferenceById(anyLong())).willReturn(warehouse);
+
+        stockService = new StockService(
+                itemRepository,
+                warehouseRepository,
+                stockRepository,
+                stub(InventoryTransactionRepository.class),
+                stub(StockJdbcRepository.class),
+                stub(InventoryTransactionJdbcRepository.class),
+                stub(ItemStockSummaryJdbcRepository.class),
+                stub(StockReservationService.class),
+                stub(StockDeltaCombiner.class)
+        );
+
+        lineMap = BenchmarkFixtures.shuffledLineMap(lines, 1L, 42L);
+    }
+
+    @Benchmark
+    public void increase() {
+        stockService.increase(lineMap, 1L);
+    }
+
+    @Benchmark
+    public void decrease() {
+        stockService.decrease(lineMap, 1L);
+    }
+
+    @Benchmark
+    public void restore() {
+        stockService.restore(lineMap, 1L);
+    }
+
+    @Benchmark
+    public List<StockKey> getSortedKeys() {
+        return StockService.getSortedKeys(lineMap);
+    }
+
+    // 호출 기록을 남기지 않아 반복 호출 시 메모리가 늘지 않음
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,138 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.MiniApplication;
+import com.erp.mini.common.security.CustomUserDetails;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StockService 실제 DB 벤치마크 (MySQL 8 Testcontainers, Docker 필요)
+ * 락 조회 + 조건부 변경 + 이력 batch insert + 요약 upsert 까지 포함한 트랜잭션 1건 비용을 측정한다.
+ * 재고가 줄지 않도록 decrease / restore 를 한 쌍으로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class StockServiceDbBenchmark {
+
+    private static final int ITEM_COUNT = 100;
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    private MySQLContainer<?> mysql;
+    private GenericContainer<?> redis;
+    private ConfigurableApplicationContext context;
+
+    private StockService stockService;
+    private Map<StockKey, Long> lineMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("benchdb")
+                .withUsername("root")
+                .withPassword("password")
+                .withUrlParam("rewriteBatchedStatements", "true");
+        redis = new GenericContainer<>(DockerImageName.parse("redis:latest"))
+                .withExposedPorts(6379);
+
+        mysql.start();
+        redis.start();
+
+        context = new SpringApplicationBuilder(MiniApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "spring.datasource.username=" + mysql.getUsername(),
+                        "spring.datasource.password=" + mysql.getPassword(),
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "logging.level.root=warn"
+                )
+                .run();
+
+        // 벤치마크 스레드가 여러 개여도 auditor 가 보이도록 전역 모드 사용
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        CustomUserDetails principal = new CustomUserDetails(1L, "bench", "", true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        stockService = context.getBean(StockService.class);
+        lineMap = seed(context.getBean(ItemRepository.class), context.getBean(WarehouseRepository.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+
+        if (context != null) {
+            context.close();
+        }
+
+        if (redis != null) {
+            redis.stop();
+        }
+
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Benchmark
+    public void decreaseAndRestore() {
+        stockService.decrease(lineMap, 1L);
+        stockService.restore(lineMap, 1L);
+    }
+
+    private Map<StockKey, Long> seed(ItemRepository itemRepository, WarehouseRepository warehouseRepository) {
+        Warehouse warehouse = warehouseRepository.save(
+                Warehouse.createWarehouse("벤치마크 창고", "loc", WarehouseStatus.ACTIVE));
+
+        List<StockKey> keys = new ArrayList<>(ITEM_COUNT);
+
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            Item item = itemRepository.save(
+                    Item.createItem("벤치마크 상품-" + i, String.format("BM%06d", i), BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+            keys.add(new StockKey(item.getId(), warehouse.getId()));
+        }
+
+        Map<StockKey, Long> seedMap = new LinkedHashMap<>();
+        keys.forEach(key -> seedMap.put(key, 1_000_000L));
+        stockService.increase(seedMap, 0L);
+
+        // 락 순서 정렬 비용이 포함되도록 입력 순서를 섞음
+        Collections.shuffle(keys, new Random(42L));
+
+        Map<StockKey, Long> result = new LinkedHashMap<>();
+        keys.subList(0, lines).forEach(key -> result.put(key, 1L));
+
+        return result;
+    }
+}
@@ -0,0 +1,295 @@
+package com.erp.mini.loadtest;
+
+import com.erp.mini.MiniApplication;
+import com.erp.mini.common.security.CustomUserDetails;
+import com.erp.mini.common.security.SecurityContextUtil;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.service.StockService;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 행 락 대기 상황에서 플랫폼 스레드(Tomcat 기본 200) / 가상 스레드 요청 처리 비교
+ * blockers 개의 클라이언트가 같은 재고 행을 계속 조정(SELECT ... FOR UPDATE)하고,
+ * probes 개의 클라이언트는 DB 를 쓰지 않는 /actuator/health/ping 을 호출한다.
+ * 플랫폼 스레드는 락 대기 요청이 요청 스레드를 모두 점유하면 가벼운 요청까지 줄을 서므로 두 지표를 같이 본다.
+ *
+ * JVM 내부 stripe 락이 대기를 흡수하지 않도록 erp.stock.lock.enabled=false 로 실행한다.
+ * 실행: ./gradlew loadTest -PjavaVersion=21 (서버 가상 스레드는 Java 21 실행 시에만 켜짐, Docker 필요)
+ * 클라이언트는 플랫폼 스레드를 쓰므로 소스셋은 Java 17 로도 컴파일된다.
+ */
+public class LockWaitLoadTest {
+
+    private static final int BLOCKERS = Integer.getInteger("loadtest.blockers", 400);
+    private static final int PROBES = Integer.getInteger("loadtest.probes", 20);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 20);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool", 100);
+
+    private static final String EMPLOYEE_NUMBER = "LOADTEST01";
+    private static final String PASSWORD = "loadtest-password";
+
+    private static StockKey hotKey;
+
+    public static void main(String[] args) throws Exception {
+        MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("loadtest")
+                .withUsername("root")
+                .withPassword("password")
+                .withUrlParam("rewriteBatchedStatements", "true");
+        GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:latest"))
+                .withExposedPorts(6379);
+
+        mysql.start();
+        redis.start();
+
+        try {
+            Result platform = run(mysql, redis, false);
+            Result virtual = run(mysql, redis, true);
+
+            System.out.printf("%nblockers=%d probes=%d seconds=%d pool=%d%n", BLOCKERS, PROBES, SECONDS, POOL_SIZE);
+            System.out.printf("%-10s %14s %14s %14s %14s %14s%n",
+                    "mode", "adjust/s", "adjust p50ms", "adjust p99ms", "ping p50ms", "ping p99ms");
+            platform.print("platform");
+            virtual.print("virtual");
+        } finally {
+            redis.stop();
+            mysql.stop();
+        }
+    }
+
+    private static Result run(MySQLContainer<?> mysql, GenericContainer<?> redis, boolean virtualThreads) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MiniApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "spring.datasource.username=" + mysql.getUsername(),
+                        "spring.datasource.password=" + mysql.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "erp.stock.lock.enabled=false",
+                        "logging.level.root=warn"
+                )
+                .run();
+
+        try {
+            if (hotKey == null) {
+                hotKey = seed(context);
+            }
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = login(baseUrl);
+
+            // 워밍업 후 측정
+            load(client, baseUrl, WARMUP_SECONDS);
+            return load(client, baseUrl, SECONDS);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static StockKey seed(ConfigurableApplicationContext context) throws Exception {
+        StockKey[] key = new StockKey[1];
+
+        SecurityContextUtil.runAs(new CustomUserDetails(1L, "loadtest", "", true), () -> {
+            Item item = context.getBean(ItemRepository.class).save(
+                    Item.createItem("부하 테스트 상품", "LT000001", BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+            Warehouse warehouse = context.getBean(WarehouseRepository.class).save(
+                    Warehouse.createWarehouse("부하 테스트 창고", "loc", WarehouseStatus.ACTIVE));
+
+            key[0] = new StockKey(item.getId(), warehouse.getId());
+            context.getBean(StockService.class).increase(Map.of(key[0], 1_000L), 0L);
+        });
+
+        HttpClient client = HttpClient.newHttpClient();
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/user"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"name":"부하테스트","employeeNumber":"%s","password":"%s"}
+                                """.formatted(EMPLOYEE_NUMBER, PASSWORD)))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        return key[0];
+    }
+
+    private static HttpClient login(String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newCachedThreadPool())
+                .build();
+
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "employeeNumber=" + EMPLOYEE_NUMBER + "&password=" + PASSWORD))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        if (response.statusCode() != 302 || response.headers().firstValue("Location").orElse("").contains("error")) {
+            throw new IllegalStateException("로그인 실패 status=" + response.statusCode());
+        }
+
+        return client;
+    }
+
+    private static Result load(HttpClient client, String baseUrl, int seconds) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<LatencyRecorder> adjustRecorders = new ArrayList<>();
+        List<LatencyRecorder> probeRecorders = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(BLOCKERS + PROBES);
+
+        try {
+            for (int i = 0; i < BLOCKERS; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                adjustRecorders.add(recorder);
+                executor.submit(() -> loop(running, recorder, () -> client.send(adjustRequest(baseUrl),
+                        HttpResponse.BodyHandlers.discarding())));
+            }
+
+            for (int i = 0; i < PROBES; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                probeRecorders.add(recorder);
+                executor.submit(() -> loop(running, recorder, () -> client.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/ping")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding())));
+            }
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+            running.set(false);
+        } finally {
+            // 진행 중인 요청이 끝나야 recorder 를 합칠 수 있음
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return new Result(
+                LatencyRecorder.merge(adjustRecorders),
+                LatencyRecorder.merge(probeRecorders),
+                seconds
+        );
+    }
+
+    private static HttpRequest adjustRequest(String baseUrl) {
+        long actualQty = ThreadLocalRandom.current().nextLong(1, 1_000);
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/stock/adjust"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("""
+                        {"itemId":%d,"warehouseId":%d,"actualQty":%d,"reason":"부하 테스트"}
+                        """.formatted(hotKey.getItemId(), hotKey.getWarehouseId(), actualQty)))
+                .build();
+    }
+
+    private static void loop(AtomicBoolean running, LatencyRecorder recorder, Call call) {
+        while (running.get()) {
+            long started = System.nanoTime();
+
+            try {
+                HttpResponse<?> response = call.send();
+
+                if (response.statusCode() >= 400) {
+                    recorder.failed++;
+                    continue;
+                }
+            } catch (Exception e) {
+                recorder.failed++;
+                continue;
+            }
+
+            recorder.add(System.nanoTime() - started);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        HttpResponse<?> send() throws Exception;
+    }
+
+    // 클라이언트 스레드마다 하나씩 사용 (동기화 없음)
+    private static class LatencyRecorder {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long failed;
+
+        void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+
+            nanos[size++] = value;
+        }
+
+        static LatencyRecorder merge(List<LatencyRecorder> recorders) {
+            LatencyRecorder merged = new LatencyRecorder();
+
+            for (LatencyRecorder recorder : recorders) {
+                for (int i = 0; i < recorder.size; i++) {
+                    merged.add(recorder.nanos[i]);
+                }
+
+                merged.failed += recorder.failed;
+            }
+
+            Arrays.sort(merged.nanos, 0, merged.size);
+            return merged;
+        }
+
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return Double.NaN;
+            }
+
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return nanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    private record Result(LatencyRecorder adjust, LatencyRecorder probe, int seconds) {
+
+        void print(String mode) {
+            System.out.printf("%-10s %14.1f %14.2f %14.2f %14.2f %14.2f   (failed adjust=%d ping=%d)%n",
+                    mode,
+                    adjust.size / (double) seconds,
+                    adjust.percentileMillis(50),
+                    adjust.percentileMillis(99),
+                    probe.percentileMillis(50),
+                    probe.percentileMillis(99),
+                    adjust.failed,
+                    probe.failed);
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package com.erp.mini.loadtest;
+
+import com.erp.mini.MiniApplication;
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.security.CustomUserDetails;
+import com.erp.mini.common.security.SecurityContextUtil;
+import com.erp.mini.purchase.dto.PurchaseOrderRequest;
+import com.erp.mini.purchase.service.PurchaseOrderService;
+import com.erp.mini.sales.dto.SalesOrderRequest;
+import com.erp.mini.sales.service.SalesOrderService;
+import com.erp.mini.seed.SeedDataGenerator;
+import com.erp.mini.seed.SeedDataShape;
+import com.erp.mini.stock.dto.AdjustStockRequest;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.service.StockService;
+import com.erp.mini.user.domain.User;
+import com.erp.mini.user.repo.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 주문 흐름 작업 재현 부하 테스트 (외부 부하 도구 없이 서비스 메서드를 직접 호출)
+ * workers 개의 작업자가 mix 비율로 아래 흐름을 반복한다.
+ *   sale     SalesOrderService.createSale -> orderSales -> shipped (cancel-ratio 비율은 cancelSales)
+ *   purchase PurchaseOrderService.createPurchase -> orderPurchase -> receive
+ *   adjust   StockService.adjust
+ * 상품 / 창고 조합(SKU)은 Zipf 분포(zipf 지수가 클수록 소수 인기 SKU 에 집중)로 골라 운영의 행 락 경합을 재현한다.
+ *
+ * 단계별 지연은 HdrHistogram 으로 기록하고, 처리량 / 백분위 지연, @Retryable 재시도 횟수(erp.retry.attempts),
+ * InnoDB 데드락 / 락 대기 시간 초과 횟수(information_schema.innodb_metrics)를 측정 구간 기준으로 출력한다.
+ * 기준 데이터는 SeedDataGenerator 로 만들고, 종료 시 재고와 재고 이력 합계가 맞는지 확인한다.
+ *
+ * 실행: ./gradlew orderLoadTest (Docker 필요, Java 17 / 21 모두 실행 가능)
+ * 애플리케이션 설정은 -Perp.* 로 그대로 전달 (예: -Perp.stock.lock.enabled=false -Perp.stock.combining.enabled=true)
+ */
+public class OrderLifecycleLoadTest {
+
+    private static final int WORKERS = Integer.getInteger("loadtest.workers", 32);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool", 20);
+    private static final int ITEMS = Integer.getInteger("loadtest.items", 1000);
+    private static final int WAREHOUSES = Integer.getInteger("loadtest.warehouses", 5);
+    private static final int HISTORY_ORDERS = Integer.getInteger("loadtest.history-orders", 0);
+    private static final int MAX_LINES = Integer.getInteger("loadtest.max-lines", 3);
+    private static final long INITIAL_QTY = Long.getLong("loadtest.initial-qty", 1_000L);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final double ZIPF = Double.parseDouble(System.getProperty("loadtest.zipf", "1.1"));
+    private static final double CANCEL_RATIO = Double.parseDouble(System.getProperty("loadtest.cancel-ratio", "0.2"));
+    private static final String MIX = System.getProperty("loadtest.mix", "sale:70,purchase:10,adjust:20");
+
+    // 지연 기록 범위 (1us ~ 60s, 유효 숫자 3자리)
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    // MySQL 오류 코드
+    private static final int ER_LOCK_DEADLOCK = 1213;
+    private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+
+    public static void main(String[] args) throws Exception {
+        MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("loadtest")
+                .withUsername("root")
+                .withPassword("password")
+                .withUrlParam("rewriteBatchedStatements", "true");
+        GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:latest"))
+                .withExposedPorts(6379);
+
+        mysql.start();
+        redis.start();
+
+        try (ConfigurableApplicationContext context = start(mysql, redis)) {
+            Fixture fixture = seed(context);
+            Harness harness = new Harness(context, fixture, Workflow.parse(MIX));
+
+            harness.run(WARMUP_SECONDS);
+            harness.reset();
+
+            Metrics before = Metrics.capture(context);
+            long started = System.nanoTime();
+            harness.run(SECONDS);
+            double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+            Metrics after = Metrics.capture(context);
+
+            harness.print(elapsed, before, after, fixture);
+        } finally {
+            redis.stop();
+            mysql.stop();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(MySQLContainer<?> mysql, GenericContainer<?> redis) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=" + mysql.getJdbcUrl(),
+                "spring.datasource.username=" + mysql.getUsername(),
+                "spring.datasource.password=" + mysql.getPassword(),
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.data.redis.host=" + redis.getHost(),
+                "spring.data.redis.port=" + redis.getMappedPort(6379),
+                "spring.jpa.hibernate.ddl-auto=validate",
+                "erp.stock.snapshot.enabled=false",
+                "logging.level.root=warn"
+        ));
+
+        // -Perp.* 로 넘긴 애플리케이션 설정 (기본값보다 뒤에 두어 덮어쓰기)
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("erp."))
+                .sorted()
+                .forEach(name -> properties.add(name + "=" + System.getProperty(name)));
+
+        return new SpringApplicationBuilder(MiniApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    private static Fixture seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = context.getBean(UserRepository.class).save(User.createUser("부하테스트", "LOADTEST02", "unused"));
+        CustomUserDetails principal = new CustomUserDetails(user.getId(), "LOADTEST02", "", true);
+
+        // 모든 창고에 재고를 두어 SKU = 상품 x 창고
+        context.getBean(SeedDataGenerator.class).generate(new SeedDataShape(
+                ITEMS, WAREHOUSES, 50, 10, WAREHOUSES, HISTORY_ORDERS, MAX_LINES, 30, 4, 1000, SEED));
+
+        List<StockKey> keys = new ArrayList<>(jdbcTemplate.query(
+                "select item_id, warehouse_id from stocks order by id",
+                (rs, rowNum) -> new StockKey(rs.getLong("item_id"), rs.getLong("warehouse_id"))));
+
+        // 인기 SKU 가 특정 상품 / 창고에 몰리지 않도록 순위를 섞음
+        Collections.shuffle(keys, new Random(SEED));
+
+        // 생성 데이터의 재고(여유 수량)만으로는 판매가 바로 재고 부족으로 끝나므로 조정으로 초기 수량 설정
+        // (존재하지 않는 구매건을 참조하는 입고 이력이 남지 않도록 ADJUST 사용)
+        StockService stockService = context.getBean(StockService.class);
+        SecurityContextUtil.runAs(principal, () -> keys.forEach(key -> stockService.adjust(
+                new AdjustStockRequest(key.getItemId(), key.getWarehouseId(), INITIAL_QTY, "부하 테스트 초기 재고"))));
+
+        // 데드락 / 락 대기 시간 초과 카운터 (기본 비활성일 수 있음)
+        jdbcTemplate.execute("set global innodb_monitor_enable = 'lock_deadlocks'");
+        jdbcTemplate.execute("set global innodb_monitor_enable = 'lock_timeouts'");
+
+        return new Fixture(
+                principal,
+                keys,
+                new ZipfSampler(keys.size(), ZIPF),
+                jdbcTemplate.queryForList("select id from partners where type = 'CUSTOMER' order by id", Long.class),
+                jdbcTemplate.queryForList("select id from partners where type = 'SUPPLIER' order by id", Long.class)
+        );
+    }
+
+    private record Fixture(
+            CustomUserDetails principal,
+            List<StockKey> keys,
+            ZipfSampler sampler,
+            List<Long> customerIds,
+            List<Long> supplierIds
+    ) {
+        // 한 주문 안에서 겹치지 않는 SKU 1 ~ MAX_LINES 개
+        List<StockKey> pickKeys() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int count = Math.min(keys.size(), 1 + random.nextInt(MAX_LINES));
+            Set<StockKey> picked = new HashSet<>();
+
+            while (picked.size() < count) {
+                picked.add(keys.get(sampler.next()));
+            }
+
+            return new ArrayList<>(picked);
+        }
+
+        <T> T pick(List<T> values) {
+            return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+        }
+    }
+
+    private enum Workflow {
+        SALE, PURCHASE, ADJUST;
+
+        // "sale:70,purchase:10,adjust:20" -> 가중치 누적 배열
+        static Workflow[] parse(String mix) {
+            List<Workflow> weighted = new ArrayList<>();
+
+            for (String entry : mix.split(",")) {
+                String[] pair = entry.trim().split(":");
+                Workflow workflow = valueOf(pair[0].trim().toUpperCase());
+                int weight = Integer.parseInt(pair[1].trim());
+
+                for (int i = 0; i < weight; i++) {
+                    weighted.add(workflow);
+                }
+            }
+
+            if (weighted.isEmpty()) {
+                throw new IllegalArgumentException("loadtest.mix 에 가중치가 없습니다: " + mix);
+            }
+
+            return weighted.toArray(Workflow[]::new);
+        }
+    }
+
+    private enum Operation {
+        SALE_CREATE("sale.create"),
+        SALE_ORDER("sale.order"),
+        SALE_SHIP("sale.ship"),
+        SALE_CANCEL("sale.cancel"),
+        PURCHASE_CREATE("purchase.create"),
+        PURCHASE_ORDER("purchase.order"),
+        PURCHASE_RECEIVE("purchase.receive"),
+        STOCK_ADJUST("stock.adjust");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Harness {
+
+        private final Fixture fixture;
+        private final Workflow[] mix;
+        private final SalesOrderService salesOrderService;
+        private final PurchaseOrderService purchaseOrderService;
+        private final StockService stockService;
+
+        private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        private final Map<Workflow, LongAdder> completed = new EnumMap<>(Workflow.class);
+        private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> failed = new ConcurrentHashMap<>();
+        private final LongAdder deadlockErrors = new LongAdder();
+        private final LongAdder lockTimeoutErrors = new LongAdder();
+
+        private Harness(ConfigurableApplicationContext context, Fixture fixture, Workflow[] mix) {
+            this.fixture = fixture;
+            this.mix = mix;
+            this.salesOrderService = context.getBean(SalesOrderService.class);
+            this.purchaseOrderService = context.getBean(PurchaseOrderService.class);
+            this.stockService = context.getBean(StockService.class);
+
+            for (Operation operation : Operation.values()) {
+                recorders.put(operation, new Recorder(MAX_LATENCY_MICROS, 3));
+            }
+
+            for (Workflow workflow : Workflow.values()) {
+                completed.put(workflow, new LongAdder());
+            }
+        }
+
+        void run(int seconds) throws InterruptedException {
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+
+            for (int i = 0; i < WORKERS; i++) {
+                executor.submit(() -> SecurityContextUtil.runAs(fixture.principal(), () -> {
+                    while (running.get()) {
+                        Workflow workflow = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+
+                        boolean done = switch (workflow) {
+                            case SALE -> sale();
+                            case PURCHASE -> purchase();
+                            case ADJUST -> adjust();
+                        };
+
+                        if (done) {
+                            completed.get(workflow).increment();
+                        }
+                    }
+                }));
+            }
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+            running.set(false);
+            executor.shutdown();
+
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+
+        // 워밍업 구간 기록 제거
+        void reset() {
+            recorders.values().forEach(Recorder::reset);
+            completed.values().forEach(LongAdder::reset);
+            rejected.clear();
+            failed.clear();
+            deadlockErrors.reset();
+            lockTimeoutErrors.reset();
+        }
+
+        private boolean sale() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<SalesOrderRequest.SaleLine> lines = fixture.pickKeys().stream()
+                    .map(key -> new SalesOrderRequest.SaleLine(
+                            key.getItemId(), key.getWarehouseId(), BigDecimal.valueOf(1000), 1L + random.nextInt(5)))
+                    .toList();
+
+            Long customerId = fixture.pick(fixture.customerIds());
+            Long salesOrderId = step(Operation.SALE_CREATE, () -> salesOrderService.createSale(new SalesOrderRequest(
+                    customerId, "부하테스트", "01012345678", "01234", "부하 테스트 주소", "상세 주소", lines)));
+
+            if (salesOrderId == null || !execute(Operation.SALE_ORDER, () -> salesOrderService.orderSales(salesOrderId))) {
+                return false;
+            }
+
+            return random.nextDouble() < CANCEL_RATIO
+                    ? execute(Operation.SALE_CANCEL, () -> salesOrderService.cancelSales(salesOrderId))
+                    : execute(Operation.SALE_SHIP, () -> salesOrderService.shipped(salesOrderId));
+        }
+
+        private boolean purchase() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<PurchaseOrderRequest.PurchaseLine> lines = fixture.pickKeys().stream()
+                    .map(key -> new PurchaseOrderRequest.PurchaseLine(
+                            key.getItemId(), key.getWarehouseId(), BigDecimal.valueOf(800), 10L + random.nextInt(50)))
+                    .toList();
+
+            Long supplierId = fixture.pick(fixture.supplierIds());
+            Long purchaseOrderId = step(Operation.PURCHASE_CREATE, () -> purchaseOrderService.createPurchase(
+                    new PurchaseOrderRequest(supplierId, lines)));
+
+            return purchaseOrderId != null
+                    && execute(Operation.PURCHASE_ORDER, () -> purchaseOrderService.orderPurchase(purchaseOrderId))
+                    && execute(Operation.PURCHASE_RECEIVE, () -> purchaseOrderService.receive(purchaseOrderId));
+        }
+
+        private boolean adjust() {
+            StockKey key = fixture.keys().get(fixture.sampler().next());
+            long actualQty = ThreadLocalRandom.current().nextLong(INITIAL_QTY / 2, INITIAL_QTY + 1);
+
+            return execute(Operation.STOCK_ADJUST, () -> stockService.adjust(
+                    new AdjustStockRequest(key.getItemId(), key.getWarehouseId(), actualQty, "부하 테스트")));
+        }
+
+        private boolean execute(Operation operation, Runnable call) {
+            return step(operation, () -> {
+                call.run();
+                return Boolean.TRUE;
+            }) != null;
+        }
+
+        // 성공한 호출만 지연 기록, 실패는 원인별로 집계하고 null 반환
+        private <T> T step(Operation operation, Supplier<T> call) {
+            long started = System.nanoTime();
+
+            try {
+                T result = call.get();
+                recorders.get(operation).recordValue(
+                        Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started)));
+                return result;
+            } catch (BusinessException e) {
+                // 재고 부족 등 업무 규칙에 의한 거절
+                count(rejected, operation.label + " / " + e.getErrorCode());
+            } catch (RuntimeException e) {
+                count(failed, operation.label + " / " + e.getClass().getSimpleName());
+                classifyLockError(e);
+            }
+
+            return null;
+        }
+
+        // 재시도 후에도 호출자까지 올라온 데드락 / 락 대기 시간 초과
+        private void classifyLockError(Throwable throwable) {
+            for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+                if (cause instanceof SQLException sqlException) {
+                    if (sqlException.getErrorCode() == ER_LOCK_DEADLOCK) {
+                        deadlockErrors.increment();
+                    } else if (sqlException.getErrorCode() == ER_LOCK_WAIT_TIMEOUT) {
+                        lockTimeoutErrors.increment();
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        private static void count(Map<String, LongAdder> counters, String key) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+
+        void print(double elapsed, Metrics before, Metrics after, Fixture fixture) {
+            System.out.printf("%nworkers=%d seconds=%d pool=%d skus=%d zipf=%.2f mix=%s cancel-ratio=%.2f%n",
+                    WORKERS, SECONDS, POOL_SIZE, fixture.keys().size(), ZIPF, MIX, CANCEL_RATIO);
+
+            System.out.printf("%n%-18s %10s %10s%n", "workflow", "completed", "per sec");
+            completed.forEach((workflow, count) -> System.out.printf("%-18s %10d %10.1f%n",
+                    workflow.name().toLowerCase(), count.sum(), count.sum() / elapsed));
+
+            System.out.printf("%n%-18s %10s %10s %9s %9s %9s %9s %9s%n",
+                    "operation", "count", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            recorders.forEach((operation, recorder) -> {
+                Histogram histogram = recorder.getIntervalHistogram();
+
+                System.out.printf("%-18s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        operation.label,
+                        histogram.getTotalCount(),
+                        histogram.getTotalCount() / elapsed,
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(90)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()));
+            });
+
+            printCounts("rejected (업무 규칙)", new TreeMap<>(rejected));
+            printCounts("failed", new TreeMap<>(failed));
+
+            System.out.printf("%n%-40s %10s%n", "retries (erp.retry.attempts)", "count");
+            after.retries().forEach((key, count) -> {
+                long delta = Math.round(count - before.retries().getOrDefault(key, 0.0));
+
+                if (delta > 0) {
+                    System.out.printf("%-40s %10d%n", key, delta);
+                }
+            });
+
+            System.out.printf("%ninnodb deadlocks=%d lock wait timeouts=%d (호출자까지 전달된 deadlock=%d timeout=%d)%n",
+                    after.deadlocks() - before.deadlocks(),
+                    after.lockTimeouts() - before.lockTimeouts(),
+                    deadlockErrors.sum(),
+                    lockTimeoutErrors.sum());
+            System.out.printf("재고 / 재고 이력 합계 불일치 SKU=%d%n", after.ledgerMismatches());
+        }
+
+        private static void printCounts(String title, Map<String, LongAdder> counts) {
+            System.out.printf("%n%-40s %10s%n", title, "count");
+
+            if (counts.isEmpty()) {
+                System.out.printf("%-40s %10d%n", "-", 0);
+            }
+
+            counts.forEach((key, count) -> System.out.printf("%-40s %10d%n", key, count.sum()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+
+    // 측정 구간 전후 비교용 누적 지표
+    private record Metrics(Map<String, Double> retries, long deadlocks, long lockTimeouts, long ledgerMismatches) {
+
+        static Metrics capture(ConfigurableApplicationContext context) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            Map<String, Double> retries = new LinkedHashMap<>();
+
+            for (Counter counter : context.getBean(MeterRegistry.class).find("erp.retry.attempts").counters()) {
+                String key = shortName(counter.getId().getTag("name")) + " / " + counter.getId().getTag("exception");
+                retries.merge(key, counter.count(), Double::sum);
+            }
+
+            return new Metrics(
+                    new TreeMap<>(retries),
+                    innodbMetric(jdbcTemplate, "lock_deadlocks"),
+                    innodbMetric(jdbcTemplate, "lock_timeouts"),
+                    jdbcTemplate.queryForObject("""
+                            select count(*) from stocks s
+                            where s.qty <> (select coalesce(sum(t.qty_delta), 0) from inventory_transactions t
+                                            where t.item_id = s.item_id and t.warehouse_id = s.warehouse_id)
+                            """, Long.class)
+            );
+        }
+
+        private static long innodbMetric(JdbcTemplate jdbcTemplate, String name) {
+            return jdbcTemplate.queryForObject(
+                    "select count from information_schema.innodb_metrics where name = ?", Long.class, name);
+        }
+
+        // "public void com.erp.mini.stock.service.StockService.adjust(...)" -> "StockService.adjust"
+        private static String shortName(String name) {
+            if (name == null) {
+                return "unknown";
+            }
+
+            String method = name.contains("(") ? name.substring(0, name.indexOf('(')) : name;
+            String[] parts = method.substring(method.lastIndexOf(' ') + 1).split("\\.");
+
+            return parts.length < 2 ? method : parts[parts.length - 2] + "." + parts[parts.length - 1];
+        }
+    }
+
+    // 순위 k(0부터)를 1/(k+1)^exponent 에 비례하는 확률로 선택
+    private static final class ZipfSampler {
+
+        private final double[] cdf;
+
+        private ZipfSampler(int size, double exponent) {
+            this.cdf = new double[size];
+            double sum = 0;
+
+            for (int i = 0; i < size; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cdf[i] = sum;
+            }
+
+            for (int i = 0; i < size; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int next() {
+            int index = Arrays.binarySearch(cdf, ThreadLocalRandom.current().nextDouble());
+            return Math.min(cdf.length - 1, index >= 0 ? index : -index - 1);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.erp.mini.common.cache;
+
+import com.erp.mini.item.dto.ItemSnapshot;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.partner.dto.PartnerSnapshot;
+import com.erp.mini.partner.repo.PartnerRepository;
+import com.erp.mini.warehouse.dto.WarehouseSnapshot;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 / 창고 / 거래처 기준 정보 캐시 (id -> 불변 스냅샷)
+ * 주문 생성 시 참조 검증(상태, 유형)을 DB 조회 없이 처리하기 위해 사용하며,
+ * 상태를 변경하는 서비스에서 커밋 이후 무효화한다.
+ * 무효화는 MasterDataInvalidationPublisher 로 다른 인스턴스에도 전파되어 해당 인스턴스의 캐시에서도 제거된다.
+ *
+ * 일괄 조회의 미스 구간 로딩은 키 잠금 없이 DB 를 조회하므로, 로딩 중 무효화된 키는 캐시에 넣지 않는다.
+ * (키별 무효화 세대를 로딩 전후로 비교, 단건 조회는 Caffeine 이 같은 키의 로딩과 무효화를 직렬화함)
+ */
+@Component
+public class MasterDataCache {
+
+    private final SnapshotCache<ItemSnapshot> items;
+    private final SnapshotCache<WarehouseSnapshot> warehouses;
+    private final SnapshotCache<PartnerSnapshot> partners;
+    private final MasterDataInvalidationPublisher invalidationPublisher;
+
+    public MasterDataCache(
+            ItemRepository itemRepository,
+            WarehouseRepository warehouseRepository,
+            PartnerRepository partnerRepository,
+            MasterDataInvalidationPublisher invalidationPublisher,
+            @Value("${erp.cache.master-data.maximum-size:10000}") long maximumSize,
+            @Value("${erp.cache.master-data.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.items = new SnapshotCache<>(maximumSize, expireAfterWrite, ids -> itemRepository.findAllById(ids).stream()
+                .map(ItemSnapshot::from)
+                .collect(Collectors.toMap(ItemSnapshot::id, Function.identity())));
+
+        this.warehouses = new SnapshotCache<>(maximumSize, expireAfterWrite, ids -> warehouseRepository.findAllById(ids).stream()
+                .map(WarehouseSnapshot::from)
+                .collect(Collectors.toMap(WarehouseSnapshot::id, Function.identity())));
+
+        this.partners = new SnapshotCache<>(maximumSize, expireAfterWrite, ids -> partnerRepository.findAllById(ids).stream()
+                .map(PartnerSnapshot::from)
+                .collect(Collectors.toMap(PartnerSnapshot::id, Function.identity())));
+    }
+
+    // 존재하지 않으면 null (캐싱하지 않음)
+    public ItemSnapshot getItem(Long itemId) {
+        return items.get(itemId);
+    }
+
+    // 존재하는 id만 결과에 포함 (미스 구간은 findAllById 한 번으로 로딩)
+    public Map<Long, ItemSnapshot> getItems(Collection<Long> itemIds) {
+        return items.getAll(itemIds);
+    }
+
+    public WarehouseSnapshot getWarehouse(Long warehouseId) {
+        return warehouses.get(warehouseId);
+    }
+
+    public Map<Long, WarehouseSnapshot> getWarehouses(Collection<Long> warehouseIds) {
+        return warehouses.getAll(warehouseIds);
+    }
+
+    public PartnerSnapshot getPartner(Long partnerId) {
+        return partners.get(partnerId);
+    }
+
+    public Map<Long, PartnerSnapshot> getPartners(Collection<Long> partnerIds) {
+        return partners.getAll(partnerIds);
+    }
+
+    public void evictItem(Long itemId) {
+        evictAfterCommit(MasterDataType.ITEM, itemId);
+    }
+
+    public void evictWarehouse(Long warehouseId) {
+        evictAfterCommit(MasterDataType.WAREHOUSE, warehouseId);
+    }
+
+    public void evictPartner(Long partnerId) {
+        evictAfterCommit(MasterDataType.PARTNER, partnerId);
+    }
+
+    // 이 인스턴스의 캐시만 무효화 (다른 인스턴스에서 받은 메시지 처리용, 다시 발행하지 않음)
+    public void invalidateLocal(MasterDataType type, Long id) {
+        switch (type) {
+            case ITEM -> items.invalidate(id);
+            case WAREHOUSE -> warehouses.invalidate(id);
+            case PARTNER -> partners.invalidate(id);
+        }
+    }
+
+    // 커밋 전에 무효화하면 다른 요청이 변경 전 값을 다시 적재할 수 있으므로 커밋 이후 무효화
+    private void evictAfterCommit(MasterDataType type, Long id) {
+        Runnable eviction = () -> {
+            invalidateLocal(type, id);
+            invalidationPublisher.publish(type, id);
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private static class SnapshotCache<T> {
+
+        // 키별 무효화 세대 (키 해시로 나눈 구간 단위, 같은 구간의 다른 키 무효화는 불필요한 미적재로만 이어짐)
+        private static final int GENERATION_STRIPES = 1024;
+
+        private final LoadingCache<Long, T> cache;
+        private final Function<List<Long>, Map<Long, T>> loader;
+        private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+        SnapshotCache(long maximumSize, Duration expireAfterWrite, Function<List<Long>, Map<Long, T>> loader) {
+            this.loader = loader;
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(expireAfterWrite)
+                    .build(key -> loader.apply(List.of(key)).get(key));
+        }
+
+        T get(Long id) {
+            return cache.get(id);
+        }
+
+        Map<Long, T> getAll(Collection<Long> ids) {
+            Map<Long, T> result = new HashMap<>(cache.getAllPresent(ids));
+
+            List<Long> missingIds = ids.stream()
+                    .filter(id -> !result.containsKey(id))
+                    .distinct()
+                    .toList();
+
+            if (missingIds.isEmpty()) {
+                return result;
+            }
+
+            Map<Long, Long> loadingGenerations = new HashMap<>();
+            missingIds.forEach(id -> loadingGenerations.put(id, generations.get(stripe(id))));
+
+            Map<Long, T> loaded = loader.apply(missingIds);
+
+            // 세대 비교와 저장을 같은 키의 compute 안에서 처리해, 비교 이후의 무효화는 저장이 끝난 뒤 반영되도록 함
+            loaded.forEach((id, value) -> cache.asMap().compute(id, (key, current) ->
+                    generations.get(stripe(key)) == loadingGenerations.get(key) ? value : current));
+
+            result.putAll(loaded);
+            return result;
+        }
+
+        void invalidate(Long id) {
+            generations.incrementAndGet(stripe(id));
+            cache.invalidate(id);
+        }
+
+        private static int stripe(Long id) {
+            return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.erp.mini.common.cache;
+
+/**
+ * 인스턴스 간 기준 정보 캐시 무효화 메시지
+ * Redis 채널에는 "{nodeId}:{type}:{id}" 문자열로 발행한다.
+ */
+public record MasterDataInvalidation(
+        String nodeId,
+        MasterDataType type,
+        Long id
+) {
+    public String encode() {
+        return nodeId + ":" + type.name() + ":" + id;
+    }
+
+    // 형식이 맞지 않으면 IllegalArgumentException
+    public static MasterDataInvalidation decode(String message) {
+        String[] parts = message.split(":");
+
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 메시지입니다: " + message);
+        }
+
+        return new MasterDataInvalidation(parts[0], MasterDataType.valueOf(parts[1]), Long.valueOf(parts[2]));
+    }
+}
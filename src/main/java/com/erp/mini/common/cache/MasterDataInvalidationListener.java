@@ -0,0 +1,43 @@
+package com.erp.mini.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스가 발행한 기준 정보 무효화 메시지 수신
+ * MasterDataCache 스냅샷과 Hibernate 2차 캐시 엔티티를 함께 제거한다.
+ * 발행한 인스턴스는 커밋 시점에 이미 반영(2차 캐시는 READ_WRITE 전략으로 갱신)했으므로 자기 메시지는 무시한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MasterDataInvalidationListener implements MessageListener {
+
+    private final MasterDataCache masterDataCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final String nodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        MasterDataInvalidation invalidation;
+
+        try {
+            invalidation = MasterDataInvalidation.decode(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("처리할 수 없는 캐시 무효화 메시지 message={}", body);
+            return;
+        }
+
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+
+        masterDataCache.invalidateLocal(invalidation.type(), invalidation.id());
+        entityManagerFactory.getCache().evict(invalidation.type().getEntityClass(), invalidation.id());
+    }
+}
@@ -0,0 +1,52 @@
+package com.erp.mini.common.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 기준 정보 변경을 다른 인스턴스에 알리는 Redis pub/sub 발행기
+ * MasterDataCache 가 커밋 이후 로컬 캐시를 무효화하면서 함께 호출한다.
+ *
+ * pub/sub 은 전달을 보장하지 않으므로 발행 실패나 구독 끊김으로 유실된 메시지는
+ * 각 캐시의 만료 시간(erp.cache.master-data.expire-after-write, application.conf)으로 보완한다.
+ */
+@Slf4j
+@Getter
+@Component
+public class MasterDataInvalidationPublisher {
+
+    // 자기 자신이 발행한 메시지를 구분하기 위한 인스턴스 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String channel;
+
+    public MasterDataInvalidationPublisher(
+            StringRedisTemplate redisTemplate,
+            @Value("${erp.cache.invalidation.enabled:false}") boolean enabled,
+            @Value("${erp.cache.invalidation.channel:erp:cache:master-data}") String channel
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    // 이미 커밋된 뒤이므로 실패해도 예외를 던지지 않는다
+    public void publish(MasterDataType type, Long id) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, new MasterDataInvalidation(nodeId, type, id).encode());
+        } catch (RuntimeException e) {
+            log.warn("기준 정보 캐시 무효화 발행 실패 type={}, id={}", type, id, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.erp.mini.common.cache;
+
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.warehouse.domain.Warehouse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 캐시 무효화 대상 기준 정보 (2차 캐시 엔티티 클래스)
+@Getter
+@RequiredArgsConstructor
+public enum MasterDataType {
+    ITEM(Item.class),
+    WAREHOUSE(Warehouse.class),
+    PARTNER(Partner.class);
+
+    private final Class<?> entityClass;
+}
@@ -0,0 +1,193 @@
+package com.erp.mini.common.cache;
+
+import com.erp.mini.user.dto.UserNameDto;
+import com.erp.mini.user.repo.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 id -> 이름 캐시 (주문 상세 / 재고 이력의 생성자 / 수정자 표시용)
+ * 조회 쿼리마다 users 를 조인하지 않도록 감사 컬럼(created_by, updated_by) id 만 조회하고 이름은 여기서 채운다.
+ *
+ * 전체 사용자를 id 로 정렬된 long[] / String[] 스냅샷으로 들고 이진 탐색한다. (사용자당 Long / Map.Entry 객체 없음)
+ * 사용자 이름은 변경 기능이 없으므로 등록 시에만 스냅샷에 추가하고, 다른 인스턴스에서 등록되어 없는 id 가 조회되면
+ * 전체를 다시 적재한다. (erp.cache.user-name.reload-interval 에 한 번까지)
+ */
+@Component
+public class UserNameCache {
+
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new String[0]);
+
+    private final UserRepository userRepository;
+    private final long reloadIntervalNanos;
+
+    private volatile Snapshot snapshot;
+    private volatile long loadedAt;
+
+    private record Snapshot(long[] ids, String[] names) {
+
+        String find(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? names[index] : null;
+        }
+
+        Snapshot with(long id, String name) {
+            int index = Arrays.binarySearch(ids, id);
+
+            if (index >= 0) {
+                return this;
+            }
+
+            int insertAt = -index - 1;
+
+            long[] newIds = new long[ids.length + 1];
+            String[] newNames = new String[names.length + 1];
+
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            System.arraycopy(names, 0, newNames, 0, insertAt);
+            newIds[insertAt] = id;
+            newNames[insertAt] = name;
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            System.arraycopy(names, insertAt, newNames, insertAt + 1, names.length - insertAt);
+
+            return new Snapshot(newIds, newNames);
+        }
+    }
+
+    public UserNameCache(
+            UserRepository userRepository,
+            @Value("${erp.cache.user-name.reload-interval:5s}") Duration reloadInterval
+    ) {
+        this.userRepository = userRepository;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+    }
+
+    // 존재하지 않으면 null
+    public String getName(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+
+        String name = current().find(userId);
+
+        if (name == null && reloadIfStale()) {
+            name = snapshot.find(userId);
+        }
+
+        return name;
+    }
+
+    // 존재하는 id만 결과에 포함 (없는 id 가 있으면 전체 재적재 한 번)
+    public Map<Long, String> getNames(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>(userIds.size() * 2);
+        boolean missed = fill(current(), userIds, result);
+
+        if (missed && reloadIfStale()) {
+            fill(snapshot, userIds, result);
+        }
+
+        return result;
+    }
+
+    // 사용자 등록 후 커밋되면 스냅샷에 추가
+    public void add(Long userId, String name) {
+        if (userId == null) {
+            return;
+        }
+
+        Runnable addition = () -> {
+            synchronized (this) {
+                if (snapshot != null) {
+                    snapshot = snapshot.with(userId, name);
+                }
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addition.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addition.run();
+            }
+        });
+    }
+
+    private static boolean fill(Snapshot snapshot, Collection<Long> userIds, Map<Long, String> result) {
+        boolean missed = false;
+
+        for (Long userId : userIds) {
+            if (userId == null || result.containsKey(userId)) {
+                continue;
+            }
+
+            String name = snapshot.find(userId);
+
+            if (name == null) {
+                missed = true;
+            } else {
+                result.put(userId, name);
+            }
+        }
+
+        return missed;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot == null) {
+                load();
+            }
+
+            return snapshot;
+        }
+    }
+
+    private synchronized boolean reloadIfStale() {
+        if (System.nanoTime() - loadedAt < reloadIntervalNanos) {
+            return false;
+        }
+
+        load();
+        return true;
+    }
+
+    private void load() {
+        List<UserNameDto> users = userRepository.findAllNames();
+
+        if (users.isEmpty()) {
+            snapshot = EMPTY;
+        } else {
+            long[] ids = new long[users.size()];
+            String[] names = new String[users.size()];
+
+            // id 순 정렬 조회
+            for (int i = 0; i < users.size(); i++) {
+                ids[i] = users.get(i).id();
+                names[i] = users.get(i).name();
+            }
+
+            snapshot = new Snapshot(ids, names);
+        }
+
+        loadedAt = System.nanoTime();
+    }
+}
@@ -0,0 +1,38 @@
+package com.erp.mini.common.config;
+
+import com.erp.mini.common.cache.MasterDataCache;
+import com.erp.mini.common.cache.MasterDataInvalidationListener;
+import com.erp.mini.common.cache.MasterDataInvalidationPublisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 여러 인스턴스 운영 시 기준 정보 캐시(MasterDataCache, Hibernate 2차 캐시) 무효화 메시지 구독
+ * 캐시는 인스턴스별 로컬 캐시이므로 다른 인스턴스의 변경은 Redis 채널로 받아 제거한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "erp.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer masterDataInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            MasterDataCache masterDataCache,
+            MasterDataInvalidationPublisher invalidationPublisher,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new MasterDataInvalidationListener(masterDataCache, entityManagerFactory, invalidationPublisher.getNodeId()),
+                new ChannelTopic(invalidationPublisher.getChannel())
+        );
+
+        return container;
+    }
+}
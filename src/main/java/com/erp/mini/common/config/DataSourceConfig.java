@@ -0,0 +1,89 @@
+package com.erp.mini.common.config;
+
+import com.erp.mini.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 replica 로 분리
+ * 트랜잭션 시작 시 커넥션을 바로 잡지 않고(LazyConnectionDataSourceProxy) 첫 쿼리 시점의 read-only 여부로
+ * primary / replica 를 고르므로, 조회 트래픽이 주문 처리의 행 락과 primary 커넥션을 두고 경쟁하지 않는다.
+ * 쓰기 트랜잭션 안에서 호출된 읽기 전용 메서드는 바깥 트랜잭션의 primary 커넥션을 그대로 사용한다.
+ * (서비스 트랜잭션 밖에서 Spring Data 리포지토리 조회 메서드를 직접 호출하면 readOnly 이므로 replica 로 간다)
+ * 복제 지연만큼 방금 쓴 데이터가 보이지 않을 수 있으므로, 쓰기 직후 같은 데이터를 읽어야 하는 조회는 쓰기 트랜잭션에서 처리한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "erp.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    // spring.datasource.* (기존 단일 DataSource 설정)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${erp.datasource.replica.urls}") String[] urls,
+            @Value("${erp.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${erp.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${erp.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${erp.datasource.replica.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${erp.datasource.replica.max-lag:5s}") Duration maxLag
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        for (int i = 0; i < urls.length; i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(urls[i].trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setMaximumPoolSize(maximumPoolSize);
+            // replica 장애 시 요청이 오래 묶이지 않고 primary 로 넘어가도록 짧게
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setReadOnly(true);
+            // replica 가 내려가 있어도 애플리케이션은 기동 (지연 확인에서 사용 불가로 표시)
+            config.setInitializationFailTimeout(-1);
+
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, meterRegistry);
+    }
+
+    // JPA / JdbcTemplate / Flyway 가 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaRoutingDataSource replicaDataSource
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+
+        return dataSource;
+    }
+}
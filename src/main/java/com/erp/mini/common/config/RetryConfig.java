@@ -1,9 +1,30 @@
 package com.erp.mini.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
 import org.springframework.retry.annotation.EnableRetry;
 
 @EnableRetry
 @Configuration
 public class RetryConfig {
+
+    // @Retryable 재시도 횟수 (erp.stock.lock.contended 와 비교해 stripe 락으로 줄어든 재시도를 확인)
+    @Bean
+    public RetryListener retryMetricsListener(MeterRegistry meterRegistry) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                Object name = context.getAttribute(RetryContext.NAME);
+
+                meterRegistry.counter("erp.retry.attempts",
+                        "name", name == null ? "unknown" : name.toString(),
+                        "exception", throwable.getClass().getSimpleName()
+                ).increment();
+            }
+        };
+    }
 }
@@ -1,9 +1,16 @@
 package com.erp.mini.common.config;
 
+import com.erp.mini.common.security.BoundedPasswordEncoder;
+import com.erp.mini.common.security.CustomAuthenticationProvider;
+import com.erp.mini.common.security.CustomUserDetailsService;
 import com.erp.mini.common.security.RestAccessDeniedHandler;
 import com.erp.mini.common.security.RestAuthenticationEntryPoint;
+import com.erp.mini.common.security.RestLoginFailureHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
@@ -11,13 +18,29 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // BCrypt 계산은 전용 스레드 풀에서 실행 (대기열 초과 시 429)
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${erp.security.password.threads:2}") int threads,
+            @Value("${erp.security.password.queue-capacity:50}") int queueCapacity,
+            @Value("${erp.security.password.timeout:3s}") Duration timeout
+    ) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry, threads, queueCapacity, timeout);
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationProvider authenticationProvider(
+            CustomUserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder
+    ) {
+        return new CustomAuthenticationProvider(userDetailsService, passwordEncoder);
     }
 
     @Bean
@@ -41,7 +64,7 @@ public class SecurityConfig {
                         .usernameParameter("employeeNumber")
                         .passwordParameter("password")
                         .defaultSuccessUrl("/", true)
-                        .failureUrl("/login?error=true")
+                        .failureHandler(new RestLoginFailureHandler("/login?error=true"))
                         .permitAll()
                 )
 
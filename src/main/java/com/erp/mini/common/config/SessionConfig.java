@@ -0,0 +1,35 @@
+package com.erp.mini.common.config;
+
+import com.erp.mini.common.session.RedisHttpSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+/**
+ * HTTP 세션을 Redis 에 저장 (SessionRepositoryFilter 가 Spring Security 보다 앞에서 HttpSession 을 대체)
+ * 세션 쿠키 이름은 기존과 같은 JSESSIONID 를 사용한다. (server.servlet.session.cookie.name)
+ */
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(name = "erp.session.redis.enabled", havingValue = "true")
+public class SessionConfig {
+
+    @Bean
+    public RedisHttpSessionRepository sessionRepository(
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${server.servlet.session.timeout:30m}") Duration maxInactiveInterval,
+            @Value("${erp.session.touch-interval:60s}") Duration touchInterval,
+            @Value("${erp.session.near-cache.ttl:2s}") Duration nearCacheTtl,
+            @Value("${erp.session.near-cache.maximum-size:10000}") long nearCacheMaximumSize
+    ) {
+        return new RedisHttpSessionRepository(
+                connectionFactory, meterRegistry, maxInactiveInterval, touchInterval, nearCacheTtl, nearCacheMaximumSize);
+    }
+}
@@ -0,0 +1,159 @@
+package com.erp.mini.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource (LazyConnectionDataSourceProxy 의 readOnlyDataSource)
+ * 복제 지연이 max-lag 이하인 replica 를 돌아가며 사용하고, 모든 replica 가 지연 / 장애 상태면 primary 로 보낸다.
+ * 지연은 주기적으로 SHOW REPLICA STATUS 의 Seconds_Behind_Source 로 확인하며,
+ * 복제 상태를 노출하지 않는 서버(관리형 읽기 노드, 테스트용 단독 MySQL)는 지연 0 으로 본다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // 확인 전 / 연결 실패 / 복제 중단
+    static final long UNAVAILABLE = -1L;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    // 사용할 DataSource 에서 연결을 얻는 방법 (기본 계정 / 지정 계정)
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long lagSeconds = UNAVAILABLE;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replica 가 1개 이상 필요합니다.");
+        }
+
+        this.primary = primary;
+        this.maxLagSeconds = maxLag.toSeconds();
+
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+
+            Gauge.builder("erp.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("replica 복제 지연 (초, -1 이면 사용 불가)")
+                    .baseUnit("seconds")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        });
+
+        this.fallbackCounter = Counter.builder("erp.datasource.replica.fallback")
+                .description("사용 가능한 replica 가 없어 primary 로 보낸 읽기 전용 연결 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Scheduled(fixedDelayString = "${erp.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            replica.lagSeconds = measureLag(replica);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+
+            if (!isAvailable(replica)) {
+                continue;
+            }
+
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                // 다음 지연 확인 전까지 제외
+                replica.lagSeconds = UNAVAILABLE;
+                log.warn("replica 연결 실패, 다른 replica 또는 primary 로 전환 name={}", replica.name, e);
+            }
+        }
+
+        fallbackCounter.increment();
+        return opener.open(primary);
+    }
+
+    private boolean isAvailable(Replica replica) {
+        long lag = replica.lagSeconds;
+        return lag != UNAVAILABLE && lag <= maxLagSeconds;
+    }
+
+    private long measureLag(Replica replica) {
+        try (Connection con = replica.dataSource.getConnection();
+             Statement statement = con.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!rs.next()) {
+                return 0L;
+            }
+
+            long lag = rs.getLong("Seconds_Behind_Source");
+
+            // 복제 스레드가 멈추면 NULL
+            return rs.wasNull() ? UNAVAILABLE : lag;
+        } catch (SQLException e) {
+            log.warn("replica 지연 확인 실패 name={}", replica.name, e);
+            return UNAVAILABLE;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.erp.mini.common.response;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorResponse<>(content, nextCursor, nextCursor != null);
+    }
+}
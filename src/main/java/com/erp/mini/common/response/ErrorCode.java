@@ -13,7 +13,8 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "비로그인 상태입니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "해당 권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "해당 리소스를 찾을 수 없습니다."),
-    BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.")
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.")
     ;
 
     public final HttpStatus status;
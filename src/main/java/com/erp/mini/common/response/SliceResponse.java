@@ -0,0 +1,29 @@
+package com.erp.mini.common.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public record SliceResponse<T>(
+        List<T> content,
+        SliceInfo sliceInfo
+) {
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return new SliceResponse<>(
+                slice.getContent(),
+                new SliceInfo(
+                        slice.getNumber() + 1,
+                        slice.getSize(),
+                        slice.isFirst(),
+                        slice.hasNext()
+                )
+        );
+    }
+
+    public record SliceInfo(
+            int page,
+            int size,
+            boolean first,
+            boolean hasNext
+    ) {}
+}
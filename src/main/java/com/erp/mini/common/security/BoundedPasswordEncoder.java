@@ -0,0 +1,134 @@
+package com.erp.mini.common.security;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt) 작업을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 로그인이 몰려도 해시 계산에 쓰는 CPU 를 threads 개로 제한해 재고 / 주문 요청 지연을 막는다.
+ *
+ * 대기열(queue-capacity)이 가득 차거나 timeout 안에 끝나지 않으면 즉시 429(TOO_MANY_REQUESTS)로 거절한다.
+ * 요청 스레드는 결과를 기다리는 동안 CPU 를 쓰지 않는다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            MeterRegistry meterRegistry,
+            int threads,
+            int queueCapacity,
+            Duration timeout
+    ) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.rejectedCounter = Counter.builder("erp.security.password.rejected")
+                .description("대기열 초과 / 시간 초과로 거절된 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+
+        Gauge.builder("erp.security.password.queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("erp.security.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 실행 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private BusinessException reject() {
+        rejectedCounter.increment();
+        return new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "비밀번호 처리 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("erp.security.password.hash")
+                .description("비밀번호 해시 계산 시간 (대기열 대기 제외)")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
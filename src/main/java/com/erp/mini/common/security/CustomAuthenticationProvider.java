@@ -0,0 +1,31 @@
+package com.erp.mini.common.security;
+
+import com.erp.mini.common.response.BusinessException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 폼 로그인 인증
+ * 비밀번호 해시 거절(BusinessException)은 그대로 던지면 필터 밖으로 나가 500 이 되므로
+ * 인증 예외로 감싸 RestLoginFailureHandler 에서 응답하도록 한다.
+ */
+public class CustomAuthenticationProvider extends DaoAuthenticationProvider {
+
+    public CustomAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        super(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return super.authenticate(authentication);
+        } catch (BusinessException e) {
+            throw new InternalAuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.erp.mini.common.security;
+
+import com.erp.mini.common.response.ApiError;
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.CustomResponse;
+import com.erp.mini.common.response.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+import java.io.IOException;
+
+// 로그인 실패 시 로그인 페이지로 이동, 비밀번호 해시 거절(429 등)은 에러 응답
+public class RestLoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public RestLoginFailureHandler(String defaultFailureUrl) {
+        super(defaultFailureUrl);
+    }
+
+    @Override
+    public void onAuthenticationFailure(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AuthenticationException exception
+    ) throws IOException, ServletException {
+        if (!(exception.getCause() instanceof BusinessException businessException)) {
+            super.onAuthenticationFailure(request, response, exception);
+            return;
+        }
+
+        ErrorCode code = businessException.getErrorCode();
+
+        CustomResponse<Void> body = CustomResponse.failBody(
+                ApiError.of(code.name(), businessException.getMessage())
+        );
+
+        response.setStatus(code.status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        mapper.writeValue(response.getWriter(), body);
+    }
+}
@@ -1,12 +1,11 @@
-package com.erp.mini.seed;
+package com.erp.mini.common.security;
 
-import com.erp.mini.common.security.CustomUserDetails;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
- * 시드 데이터 삽입 시 CreatedBy, UpdatedBy 값이 필요하므로 구현
+ * 요청 스레드가 아닌 곳(시드 데이터, 예약 재고 반영 등)에서 CreatedBy, UpdatedBy 값이 필요하므로 구현
  */
 public final class SecurityContextUtil {
 
@@ -0,0 +1,418 @@
+package com.erp.mini.common.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 HTTP 세션 저장소 (Spring Session SessionRepository 구현)
+ * 세션을 인스턴스 heap 이 아닌 Redis 에 두므로 sticky session 없이 어느 인스턴스로든 요청을 보낼 수 있고,
+ * 인스턴스 재시작 시에도 로그인이 유지된다.
+ *
+ * erp:session:{id} (hash, TTL = 만료 간격)
+ *   created        생성 시각(ms)
+ *   accessed       마지막 접근 시각(ms)
+ *   max-inactive   만료 간격(초)
+ *   attr:{name}    속성 값 (JDK 직렬화, SecurityContext 포함)
+ *
+ * - 쓰기 병합: 요청 중 변경된 속성만 저장 시점에 한 번의 pipeline 으로 반영한다.
+ *   속성 변경 없이 접근 시각만 바뀐 경우는 touch-interval 이 지났을 때만 기록하므로
+ *   실제 만료는 최대 touch-interval 만큼 앞당겨질 수 있다.
+ * - near-cache: 역직렬화한 세션을 인스턴스 로컬에 near-cache.ttl 동안 보관한다.
+ *   다른 인스턴스의 변경(로그아웃 포함)은 최대 이 시간만큼 늦게 보일 수 있으므로 짧게 유지한다.
+ * - 기존 세션의 변경분은 key 가 남아 있을 때만 기록한다 (Lua 스크립트로 EXISTS 확인 후 반영).
+ *   다른 인스턴스에서 로그아웃 / 만료된 뒤 늦게 도착한 저장이 세션을 되살리거나 일부 필드만 있는 hash 를 만들지 않도록 한다.
+ */
+public class RedisHttpSessionRepository implements SessionRepository<RedisHttpSessionRepository.RedisHttpSession> {
+
+    private static final String KEY_PREFIX = "erp:session:";
+    private static final String CREATED = "created";
+    private static final String ACCESSED = "accessed";
+    private static final String MAX_INACTIVE = "max-inactive";
+    private static final String ATTRIBUTE_PREFIX = "attr:";
+
+    // ARGV = [만료(ms), 변경 필드 수 n, 필드1, 값1, ..., 필드n, 값n, 삭제 필드...]
+    private static final RedisScript<Long> UPDATE_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local n = tonumber(ARGV[2])
+            for i = 0, n - 1 do
+                redis.call('HSET', KEYS[1], ARGV[3 + i * 2], ARGV[4 + i * 2])
+            end
+            for i = 3 + n * 2, #ARGV do
+                redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Duration defaultMaxInactiveInterval;
+    private final Duration touchInterval;
+
+    // 저장된 상태 그대로의 스냅샷 (lastAccessedTime = Redis 에 기록된 접근 시각)
+    private final Cache<String, MapSession> nearCache;
+
+    private final Timer findTimer;
+    private final Timer saveTimer;
+    private final Timer deleteTimer;
+    private final Counter nearCacheHitCounter;
+    private final Counter nearCacheMissCounter;
+
+    public RedisHttpSessionRepository(
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            Duration defaultMaxInactiveInterval,
+            Duration touchInterval,
+            Duration nearCacheTtl,
+            long nearCacheMaximumSize
+    ) {
+        this.valueSerializer = RedisSerializer.java(getClass().getClassLoader());
+        this.redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashValueSerializer(valueSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.touchInterval = touchInterval;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
+
+        this.findTimer = redisTimer("find", meterRegistry);
+        this.saveTimer = redisTimer("save", meterRegistry);
+        this.deleteTimer = redisTimer("delete", meterRegistry);
+        this.nearCacheHitCounter = nearCacheCounter("hit", meterRegistry);
+        this.nearCacheMissCounter = nearCacheCounter("miss", meterRegistry);
+    }
+
+    @Override
+    public RedisHttpSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+
+        return new RedisHttpSession(session, null);
+    }
+
+    @Override
+    public void save(RedisHttpSession session) {
+        saveTimer.record(() -> write(session));
+    }
+
+    @Override
+    public RedisHttpSession findById(String id) {
+        MapSession cached = nearCache.getIfPresent(id);
+
+        if (cached != null) {
+            nearCacheHitCounter.increment();
+        } else {
+            nearCacheMissCounter.increment();
+            cached = findTimer.record(() -> load(id));
+
+            if (cached == null) {
+                return null;
+            }
+
+            nearCache.put(id, cached);
+        }
+
+        if (cached.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+
+        // 요청마다 별도 사본 (속성 객체는 기존 heap 세션처럼 같은 인스턴스 안에서 공유)
+        return new RedisHttpSession(new MapSession(cached), cached.getLastAccessedTime());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        nearCache.invalidate(id);
+        deleteTimer.record(() -> redisTemplate.delete(key(id)));
+    }
+
+    private MapSession load(String id) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(id));
+
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        // 필수 필드가 빠진 hash 는 세션으로 보지 않고 제거
+        if (!(entries.get(CREATED) instanceof Long)
+                || !(entries.get(ACCESSED) instanceof Long)
+                || !(entries.get(MAX_INACTIVE) instanceof Integer)) {
+            redisTemplate.delete(key(id));
+            return null;
+        }
+
+        MapSession session = new MapSession(id);
+        session.setCreationTime(Instant.ofEpochMilli((Long) entries.get(CREATED)));
+        session.setLastAccessedTime(Instant.ofEpochMilli((Long) entries.get(ACCESSED)));
+        session.setMaxInactiveInterval(Duration.ofSeconds((Integer) entries.get(MAX_INACTIVE)));
+
+        entries.forEach((field, value) -> {
+            String name = (String) field;
+
+            if (name.startsWith(ATTRIBUTE_PREFIX)) {
+                session.setAttribute(name.substring(ATTRIBUTE_PREFIX.length()), value);
+            }
+        });
+
+        return session;
+    }
+
+    private void write(RedisHttpSession session) {
+        String id = session.getId();
+
+        // 세션 고정 방지로 id 가 바뀐 경우 (로그인 성공 시)
+        if (session.originalId != null && !session.originalId.equals(id)) {
+            nearCache.invalidate(session.originalId);
+
+            try {
+                redisTemplate.rename(key(session.originalId), key(id));
+                session.originalId = id;
+            } catch (RedisSystemException e) {
+                // 그사이 만료되어 key 가 없으면 새 세션으로 전체 기록
+                session.persistedAccessedTime = null;
+            }
+        }
+
+        Map<String, Object> changes = new HashMap<>();
+        Set<String> removed = session.removed;
+        Instant lastAccessedTime = session.getLastAccessedTime();
+
+        if (session.isNew()) {
+            changes.put(CREATED, session.getCreationTime().toEpochMilli());
+            changes.put(MAX_INACTIVE, (int) session.getMaxInactiveInterval().getSeconds());
+            session.getAttributeNames().forEach(name -> changes.put(ATTRIBUTE_PREFIX + name, session.getAttribute(name)));
+        } else {
+            session.changed.forEach(name -> changes.put(ATTRIBUTE_PREFIX + name, session.getAttribute(name)));
+
+            if (session.maxInactiveIntervalChanged) {
+                changes.put(MAX_INACTIVE, (int) session.getMaxInactiveInterval().getSeconds());
+            }
+        }
+
+        boolean touch = !changes.isEmpty() || !removed.isEmpty()
+                || Duration.between(session.persistedAccessedTime, lastAccessedTime).compareTo(touchInterval) >= 0;
+
+        if (!touch) {
+            return;
+        }
+
+        changes.put(ACCESSED, lastAccessedTime.toEpochMilli());
+
+        if (!session.isNew()) {
+            if (!updateIfExists(id, changes, removed, session.getMaxInactiveInterval())) {
+                // 그사이 다른 인스턴스에서 삭제(로그아웃) 또는 만료됨 -> 되살리지 않음
+                nearCache.invalidate(id);
+                return;
+            }
+
+            markPersisted(session, lastAccessedTime);
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                String key = key(id);
+
+                ops.opsForHash().putAll(key, changes);
+
+                if (!removed.isEmpty()) {
+                    ops.opsForHash().delete(key, removed.stream().map(name -> ATTRIBUTE_PREFIX + name).toArray());
+                }
+
+                ops.expire(key, session.getMaxInactiveInterval());
+                return null;
+            }
+        });
+
+        markPersisted(session, lastAccessedTime);
+    }
+
+    private boolean updateIfExists(String id, Map<String, Object> changes, Set<String> removed, Duration maxInactiveInterval) {
+        List<Object> args = new ArrayList<>();
+        args.add(bytes(String.valueOf(maxInactiveInterval.toMillis())));
+        args.add(bytes(String.valueOf(changes.size())));
+
+        changes.forEach((field, value) -> {
+            args.add(bytes(field));
+            args.add(valueSerializer.serialize(value));
+        });
+
+        removed.forEach(name -> args.add(bytes(ATTRIBUTE_PREFIX + name)));
+
+        Long updated = redisTemplate.execute(UPDATE_IF_EXISTS_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                List.of(key(id)), args.toArray());
+
+        return updated != null && updated == 1L;
+    }
+
+    private void markPersisted(RedisHttpSession session, Instant lastAccessedTime) {
+        session.markPersisted(lastAccessedTime);
+
+        MapSession snapshot = new MapSession(session.delegate);
+        snapshot.setLastAccessedTime(lastAccessedTime);
+        nearCache.put(session.getId(), snapshot);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String key(String id) {
+        return KEY_PREFIX + id;
+    }
+
+    private static Timer redisTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("erp.session.redis")
+                .description("Redis 세션 저장소 명령 처리 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter nearCacheCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("erp.session.near-cache")
+                .description("세션 near-cache 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 단위 세션 (MapSession 위임 + 변경 추적)
+     * 같은 속성을 여러 번 바꿔도 저장 시점의 최종 값만 한 번 기록한다.
+     */
+    public static final class RedisHttpSession implements Session {
+
+        private final MapSession delegate;
+        private final Set<String> changed = new HashSet<>();
+        private final Set<String> removed = new HashSet<>();
+
+        // 아직 Redis 에 없는 세션이면 null
+        private String originalId;
+        private Instant persistedAccessedTime;
+        private boolean maxInactiveIntervalChanged;
+
+        private RedisHttpSession(MapSession delegate, Instant persistedAccessedTime) {
+            this.delegate = delegate;
+            this.persistedAccessedTime = persistedAccessedTime;
+            this.originalId = persistedAccessedTime == null ? null : delegate.getId();
+        }
+
+        private boolean isNew() {
+            return persistedAccessedTime == null;
+        }
+
+        private void markPersisted(Instant accessedTime) {
+            persistedAccessedTime = accessedTime;
+            originalId = delegate.getId();
+            maxInactiveIntervalChanged = false;
+            changed.clear();
+            removed.clear();
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            if (attributeValue == null) {
+                removeAttribute(attributeName);
+                return;
+            }
+
+            delegate.setAttribute(attributeName, attributeValue);
+            removed.remove(attributeName);
+            changed.add(attributeName);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+            changed.remove(attributeName);
+            removed.add(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+            maxInactiveIntervalChanged = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.erp.mini.common.util;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * size + 1 건을 조회한 결과를 Slice로 변환 (count 쿼리 없이 다음 페이지 여부만 판단)
+ */
+public final class SliceUtil {
+
+    private SliceUtil() {
+    }
+
+    public static <T> Slice<T> toSlice(List<T> contents, Pageable pageable) {
+        boolean hasNext = contents.size() > pageable.getPageSize();
+
+        List<T> page = hasNext
+                ? new ArrayList<>(contents.subList(0, pageable.getPageSize()))
+                : contents;
+
+        return new SliceImpl<>(page, pageable, hasNext);
+    }
+}
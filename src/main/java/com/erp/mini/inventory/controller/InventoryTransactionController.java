@@ -1,9 +1,12 @@
 package com.erp.mini.inventory.controller;
 
+import com.erp.mini.common.response.CursorResponse;
 import com.erp.mini.common.response.CustomResponse;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.inventory.domain.TransactionType;
 import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxExportFormat;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
 import com.erp.mini.inventory.dto.ItxSearchDto;
 import com.erp.mini.inventory.service.InventoryTransactionService;
@@ -14,8 +17,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -49,6 +55,80 @@ public class InventoryTransactionController {
         return CustomResponse.ok(response);
     }
 
+    @Operation(summary = "재고 이력 검색 (슬라이스)", description = "전체 건수 없이 다음 페이지 여부만 포함하여 재고 이력을 검색한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공")
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<CustomResponse<SliceResponse<ItxSearchDto>>> searchInventoryTransactionSlice(
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+        ItxSearchCondition condition = new ItxSearchCondition(itemId, warehouseId, startDate, endDate, type);
+
+        SliceResponse<ItxSearchDto> response = inventoryTransactionService.getInventoryTransactionSlice(condition, pageable);
+
+        return CustomResponse.ok(response);
+    }
+
+    @Operation(summary = "재고 이력 검색 (커서 기반)", description = "다음 페이지 커서를 이용하여 재고 이력을 검색한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 커서")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CustomResponse<CursorResponse<ItxSearchDto>>> searchInventoryTransactionByCursor(
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        ItxSearchCondition condition = new ItxSearchCondition(itemId, warehouseId, startDate, endDate, type);
+
+        CursorResponse<ItxSearchDto> response
+                = inventoryTransactionService.getInventoryTransactionByCursor(condition, cursor, size);
+
+        return CustomResponse.ok(response);
+    }
+
+    @Operation(summary = "재고 이력 내보내기", description = "검색 조건에 맞는 재고 이력 전체를 CSV 또는 NDJSON 으로 스트리밍한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInventoryTransaction(
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "CSV") ItxExportFormat format
+    ) {
+        ItxSearchCondition condition = new ItxSearchCondition(itemId, warehouseId, startDate, endDate, type);
+
+        // 응답 스레드에서 조회 + 기록을 함께 수행 (트랜잭션도 이 안에서 시작/종료)
+        StreamingResponseBody body = outputStream ->
+                inventoryTransactionService.exportInventoryTransaction(condition, format, outputStream);
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("inventory-transactions." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+
     @Operation(summary = "재고 이력 상세 조회", description = "재고 이력을 상세 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공")
@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "inventory_transactions", indexes = {
         @Index(name = "idx_inventory_transactions_warehouse_created", columnList = "warehouse_id, created_at"),
-        @Index(name = "idx_inventory_transactions_item_created", columnList = "item_id, created_at")
+        @Index(name = "idx_inventory_transactions_item_created", columnList = "item_id, created_at"),
+        @Index(name = "idx_inventory_transactions_created", columnList = "created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,49 @@
+package com.erp.mini.inventory.dto;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 재고 이력 커서 (createdAt, id) - 클라이언트에는 불투명 토큰으로만 노출
+public record ItxCursor(
+        LocalDateTime createdAt,
+        Long itxId
+) {
+    private static final String DELIMITER = "_";
+
+    public static ItxCursor from(ItxSearchDto dto) {
+        return new ItxCursor(dto.createdAt(), dto.itxId());
+    }
+
+    public static ItxCursor from(ItxSearchRow row) {
+        return new ItxCursor(row.createdAt(), row.itxId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + itxId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ItxCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+
+            if (parts.length != 2) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "올바르지 않은 커서입니다.");
+            }
+
+            return new ItxCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "올바르지 않은 커서입니다.");
+        }
+    }
+}
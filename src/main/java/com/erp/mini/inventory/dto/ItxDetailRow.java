@@ -0,0 +1,46 @@
+package com.erp.mini.inventory.dto;
+
+import com.erp.mini.inventory.domain.RefType;
+import com.erp.mini.inventory.domain.TransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이력 상세 조회 결과 행 (users 조인 없이 작성자 id 만 조회)
+ * 작성자 이름은 UserNameCache 로 채워 ItxDetailResponse 로 변환한다.
+ */
+public record ItxDetailRow(
+        Long itxId,
+        String itemCode,
+        String itemName,
+        String warehouseCode,
+        String warehouseName,
+        TransactionType type,
+        long qtyDelta,
+        LocalDateTime createdAt,
+        Long createdBy,
+        Long refId,
+        RefType refType,
+        String reason,
+        String partnerCode,
+        String partnerName
+) {
+    public ItxDetailResponse toResponse(String createdByName) {
+        return new ItxDetailResponse(
+                itxId,
+                itemCode,
+                itemName,
+                warehouseCode,
+                warehouseName,
+                type,
+                qtyDelta,
+                createdAt,
+                createdByName,
+                refId,
+                refType,
+                reason,
+                partnerCode,
+                partnerName
+        );
+    }
+}
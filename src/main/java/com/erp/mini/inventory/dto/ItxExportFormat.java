@@ -0,0 +1,23 @@
+package com.erp.mini.inventory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+@Getter
+@Schema(description = "재고 이력 내보내기 형식")
+public enum ItxExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson")
+    ;
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ItxExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+}
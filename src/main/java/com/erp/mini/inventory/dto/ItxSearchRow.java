@@ -0,0 +1,35 @@
+package com.erp.mini.inventory.dto;
+
+import com.erp.mini.inventory.domain.TransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이력 목록 조회 결과 행 (users 조인 없이 작성자 id 만 조회)
+ * 작성자 이름은 UserNameCache 로 채워 ItxSearchDto 로 변환한다.
+ */
+public record ItxSearchRow(
+        Long itxId,
+        String itemCode,
+        String itemName,
+        String warehouseCode,
+        String warehouseName,
+        TransactionType type,
+        long qtyDelta,
+        LocalDateTime createdAt,
+        Long createdBy
+) {
+    public ItxSearchDto toDto(String createdByName) {
+        return new ItxSearchDto(
+                itxId,
+                itemCode,
+                itemName,
+                warehouseCode,
+                warehouseName,
+                type,
+                qtyDelta,
+                createdAt,
+                createdByName
+        );
+    }
+}
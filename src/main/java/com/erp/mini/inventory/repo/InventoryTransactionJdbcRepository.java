@@ -0,0 +1,95 @@
+package com.erp.mini.inventory.repo;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.inventory.domain.InventoryTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 재고 이력 JDBC 일괄 저장
+ * IDENTITY 전략에서는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 이력 적재는 JDBC batch 로 처리한다.
+ * JPA Auditing 을 거치지 않기 때문에 created_by / created_at 은 여기서 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryTransactionJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into inventory_transactions
+                (item_id, warehouse_id, type, qty_delta, ref_type, ref_id, reason, created_by, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<Long> auditorAware;
+
+    public void saveAll(List<InventoryTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        Long createdBy = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "작업자 정보를 확인할 수 없습니다."));
+
+        saveAll(transactions, createdBy);
+    }
+
+    // 요청 스레드 밖(SecurityContext 없음)에서 저장할 때는 작업자를 직접 전달
+    public void saveAll(List<InventoryTransaction> transactions, Long createdBy) {
+        saveAll(transactions, Collections.nCopies(transactions.size(), createdBy));
+    }
+
+    // 여러 요청을 묶어 저장할 때는 이력마다 작업자를 전달 (createdBys 는 transactions 와 같은 순서)
+    public void saveAll(List<InventoryTransaction> transactions, List<Long> createdBys) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        if (transactions.size() != createdBys.size()) {
+            throw new IllegalArgumentException("이력 수와 작업자 수가 일치하지 않습니다.");
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                InventoryTransaction tx = transactions.get(i);
+
+                ps.setLong(1, tx.getItem().getId());
+                ps.setLong(2, tx.getWarehouse().getId());
+                ps.setString(3, tx.getType().name());
+                ps.setLong(4, tx.getQtyDelta());
+
+                if (tx.getRefType() == null) {
+                    ps.setNull(5, Types.VARCHAR);
+                    ps.setNull(6, Types.BIGINT);
+                } else {
+                    ps.setString(5, tx.getRefType().name());
+                    ps.setLong(6, tx.getRefId());
+                }
+
+                ps.setString(7, tx.getReason());
+                ps.setLong(8, createdBys.get(i));
+                ps.setTimestamp(9, createdAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return transactions.size();
+            }
+        });
+    }
+}
@@ -1,12 +1,20 @@
 package com.erp.mini.inventory.repo;
 
-import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxCursor;
+import com.erp.mini.inventory.dto.ItxDetailRow;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
-import com.erp.mini.inventory.dto.ItxSearchDto;
+import com.erp.mini.inventory.dto.ItxSearchRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface InventoryTransactionRepositoryCustom {
-    Page<ItxSearchDto> findInventoryTransaction(ItxSearchCondition condition, Pageable pageable);
-    ItxDetailResponse findInventoryTransactionDetail(Long inventoryTransactionId);
+    Page<ItxSearchRow> findInventoryTransaction(ItxSearchCondition condition, Pageable pageable);
+    Slice<ItxSearchRow> findInventoryTransactionSlice(ItxSearchCondition condition, Pageable pageable);
+    List<ItxSearchRow> findInventoryTransactionByCursor(ItxSearchCondition condition, ItxCursor cursor, int size);
+    ItxDetailRow findInventoryTransactionDetail(Long inventoryTransactionId);
+    Stream<ItxSearchRow> streamInventoryTransaction(ItxSearchCondition condition);
 }
@@ -6,23 +6,29 @@ import static com.erp.mini.warehouse.domain.QWarehouse.warehouse;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import com.erp.mini.common.util.SliceUtil;
 import com.erp.mini.inventory.domain.RefType;
 import com.erp.mini.inventory.domain.TransactionType;
-import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxCursor;
+import com.erp.mini.inventory.dto.ItxDetailRow;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
-import com.erp.mini.inventory.dto.ItxSearchDto;
+import com.erp.mini.inventory.dto.ItxSearchRow;
 import com.erp.mini.partner.domain.QPartner;
 import com.erp.mini.purchase.domain.QPurchaseOrder;
 import com.erp.mini.sales.domain.QSalesOrder;
-import com.erp.mini.user.domain.QUser;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -33,31 +39,8 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
         private final JPAQueryFactory queryFactory;
 
         @Override
-        public Page<ItxSearchDto> findInventoryTransaction(ItxSearchCondition condition, Pageable pageable) {
-                QUser createdBy = new QUser("createdBy");
-
-                List<ItxSearchDto> contents = queryFactory
-                                .select(Projections.constructor(
-                                                ItxSearchDto.class,
-                                                inventoryTransaction.id,
-                                                item.code,
-                                                item.name,
-                                                warehouse.code,
-                                                warehouse.name,
-                                                inventoryTransaction.type,
-                                                inventoryTransaction.qtyDelta,
-                                                inventoryTransaction.createdAt,
-                                                createdBy.name))
-                                .from(inventoryTransaction)
-                                .join(inventoryTransaction.item, item)
-                                .join(inventoryTransaction.warehouse, warehouse)
-                                .leftJoin(createdBy).on(createdBy.id.eq(inventoryTransaction.createdBy))
-                                .where(
-                                                eqItemId(condition.itemId()),
-                                                eqWarehouseId(condition.warehouseId()),
-                                                afterStartDate(condition.startDate()),
-                                                beforeEndDate(condition.endDate()),
-                                                eqInventoryTransactionType(condition.type()))
+        public Page<ItxSearchRow> findInventoryTransaction(ItxSearchCondition condition, Pageable pageable) {
+                List<ItxSearchRow> contents = searchQuery(condition)
                                 .orderBy(
                                                 inventoryTransaction.createdAt.desc(),
                                                 inventoryTransaction.id.desc())
@@ -65,7 +48,7 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
                                 .limit(pageable.getPageSize())
                                 .fetch();
 
-                Long count = queryFactory
+                JPAQuery<Long> countQuery = queryFactory
                                 .select(inventoryTransaction.id.count())
                                 .from(inventoryTransaction)
                                 .where(
@@ -73,16 +56,55 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
                                                 eqWarehouseId(condition.warehouseId()),
                                                 afterStartDate(condition.startDate()),
                                                 beforeEndDate(condition.endDate()),
-                                                eqInventoryTransactionType(condition.type()))
-                                .fetchOne();
+                                                eqInventoryTransactionType(condition.type()));
+
+                return PageableExecutionUtils.getPage(contents, pageable, () -> {
+                        Long count = countQuery.fetchOne();
+                        return count != null ? count : 0;
+                });
+        }
+
+        @Override
+        public Slice<ItxSearchRow> findInventoryTransactionSlice(ItxSearchCondition condition, Pageable pageable) {
+                List<ItxSearchRow> contents = searchQuery(condition)
+                                .orderBy(
+                                                inventoryTransaction.createdAt.desc(),
+                                                inventoryTransaction.id.desc())
+                                .offset(pageable.getOffset())
+                                .limit(pageable.getPageSize() + 1L)
+                                .fetch();
+
+                return SliceUtil.toSlice(contents, pageable);
+        }
 
-                return new PageImpl<>(contents, pageable, count != null ? count : 0);
+        // 커서 기반 조회 - OFFSET 없이 (createdAt, id) 이후 구간부터 size + 1 건 조회
+        @Override
+        public List<ItxSearchRow> findInventoryTransactionByCursor(ItxSearchCondition condition, ItxCursor cursor, int size) {
+                return searchQuery(condition)
+                                .where(afterCursor(cursor))
+                                .orderBy(
+                                                inventoryTransaction.createdAt.desc(),
+                                                inventoryTransaction.id.desc())
+                                .limit(size + 1L)
+                                .fetch();
         }
 
+        // 내보내기용 스트리밍 조회 - 결과를 리스트로 적재하지 않고 forward-only 커서로 한 행씩 읽음
+        // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 행 단위로 스트리밍
+        // 반환된 Stream 은 트랜잭션 안에서 소비 후 반드시 close 해야 함
         @Override
-        public ItxDetailResponse findInventoryTransactionDetail(Long inventoryTransactionId) {
-                QUser createdBy = new QUser("createdBy");
+        public Stream<ItxSearchRow> streamInventoryTransaction(ItxSearchCondition condition) {
+                return searchQuery(condition)
+                                .orderBy(
+                                                inventoryTransaction.createdAt.asc(),
+                                                inventoryTransaction.id.asc())
+                                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                                .stream();
+        }
 
+        @Override
+        public ItxDetailRow findInventoryTransactionDetail(Long inventoryTransactionId) {
                 QSalesOrder salesOrder = new QSalesOrder("salesOrder");
                 QPurchaseOrder purchaseOrder = new QPurchaseOrder("purchaseOrder");
 
@@ -91,7 +113,7 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
 
                 return queryFactory
                                 .select(Projections.constructor(
-                                                ItxDetailResponse.class,
+                                                ItxDetailRow.class,
                                                 inventoryTransaction.id,
                                                 item.code,
                                                 item.name,
@@ -100,7 +122,7 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
                                                 inventoryTransaction.type,
                                                 inventoryTransaction.qtyDelta,
                                                 inventoryTransaction.createdAt,
-                                                createdBy.name,
+                                                inventoryTransaction.createdBy,
                                                 inventoryTransaction.refId,
                                                 inventoryTransaction.refType,
                                                 inventoryTransaction.reason,
@@ -115,7 +137,6 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
                                 .from(inventoryTransaction)
                                 .join(inventoryTransaction.item, item)
                                 .join(inventoryTransaction.warehouse, warehouse)
-                                .leftJoin(createdBy).on(createdBy.id.eq(inventoryTransaction.createdBy))
                                 .leftJoin(salesOrder).on(inventoryTransaction.refType.eq(RefType.SALES_ORDER)
                                                 .and(inventoryTransaction.refId.eq(salesOrder.id)))
                                 .leftJoin(purchaseOrder).on(inventoryTransaction.refType.eq(RefType.PURCHASE_ORDER)
@@ -126,6 +147,41 @@ public class InventoryTransactionRepositoryImpl implements InventoryTransactionR
                                 .fetchOne();
         }
 
+        // 작성자는 id 만 조회 (이름은 서비스에서 UserNameCache 로 채움)
+        private JPAQuery<ItxSearchRow> searchQuery(ItxSearchCondition condition) {
+                return queryFactory
+                                .select(Projections.constructor(
+                                                ItxSearchRow.class,
+                                                inventoryTransaction.id,
+                                                item.code,
+                                                item.name,
+                                                warehouse.code,
+                                                warehouse.name,
+                                                inventoryTransaction.type,
+                                                inventoryTransaction.qtyDelta,
+                                                inventoryTransaction.createdAt,
+                                                inventoryTransaction.createdBy))
+                                .from(inventoryTransaction)
+                                .join(inventoryTransaction.item, item)
+                                .join(inventoryTransaction.warehouse, warehouse)
+                                .where(
+                                                eqItemId(condition.itemId()),
+                                                eqWarehouseId(condition.warehouseId()),
+                                                afterStartDate(condition.startDate()),
+                                                beforeEndDate(condition.endDate()),
+                                                eqInventoryTransactionType(condition.type()));
+        }
+
+        private BooleanExpression afterCursor(ItxCursor cursor) {
+                if (cursor == null) {
+                        return null;
+                }
+
+                return inventoryTransaction.createdAt.lt(cursor.createdAt())
+                                .or(inventoryTransaction.createdAt.eq(cursor.createdAt())
+                                                .and(inventoryTransaction.id.lt(cursor.itxId())));
+        }
+
         private BooleanExpression eqItemId(Long itemId) {
                 return itemId != null
                                 ? inventoryTransaction.item.id.eq(itemId)
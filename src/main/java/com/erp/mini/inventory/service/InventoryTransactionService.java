@@ -1,41 +1,189 @@
 package com.erp.mini.inventory.service;
 
+import com.erp.mini.common.cache.UserNameCache;
 import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.CursorResponse;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
+import com.erp.mini.inventory.dto.ItxCursor;
 import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxDetailRow;
+import com.erp.mini.inventory.dto.ItxExportFormat;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
 import com.erp.mini.inventory.dto.ItxSearchDto;
+import com.erp.mini.inventory.dto.ItxSearchRow;
 import com.erp.mini.inventory.repo.InventoryTransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 public class InventoryTransactionService {
 
+    private static final String CSV_HEADER = "itxId,itemCode,itemName,warehouseCode,warehouseName,type,qtyDelta,createdAt,createdBy";
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final InventoryTransactionRepository inventoryTransactionRepository;
+    private final ObjectMapper objectMapper;
+    private final UserNameCache userNameCache;
 
     // 재고 이력 리스트 조회
     @Transactional(readOnly = true)
     public PageResponse<ItxSearchDto> getInventoryTransaction(ItxSearchCondition condition, Pageable pageable) {
-        Page<ItxSearchDto> pages
+        Page<ItxSearchRow> pages
                 = inventoryTransactionRepository.findInventoryTransaction(condition, pageable);
 
-        return PageResponse.from(pages);
+        return PageResponse.from(pages.map(withNames(pages.getContent())::toDto));
+    }
+
+    // 재고 이력 리스트 조회 (count 생략)
+    @Transactional(readOnly = true)
+    public SliceResponse<ItxSearchDto> getInventoryTransactionSlice(ItxSearchCondition condition, Pageable pageable) {
+        Slice<ItxSearchRow> slice
+                = inventoryTransactionRepository.findInventoryTransactionSlice(condition, pageable);
+
+        return SliceResponse.from(slice.map(withNames(slice.getContent())::toDto));
+    }
+
+    // 재고 이력 리스트 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public CursorResponse<ItxSearchDto> getInventoryTransactionByCursor(ItxSearchCondition condition, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "조회 건수는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
+
+        List<ItxSearchRow> rows
+                = inventoryTransactionRepository.findInventoryTransactionByCursor(condition, ItxCursor.decode(cursor), size);
+
+        Names names = withNames(rows);
+        List<ItxSearchDto> contents = rows.stream().map(names::toDto).toList();
+
+        if (contents.size() <= size) {
+            return CursorResponse.of(contents, null);
+        }
+
+        List<ItxSearchDto> page = contents.subList(0, size);
+        String nextCursor = ItxCursor.from(page.get(page.size() - 1)).encode();
+
+        return CursorResponse.of(page, nextCursor);
+    }
+
+    // 재고 이력 내보내기 (CSV / NDJSON)
+    // 조회한 행을 바로 출력 스트림에 기록하므로 건수와 무관하게 메모리 사용량이 일정함
+    @Transactional(readOnly = true)
+    public void exportInventoryTransaction(
+            ItxSearchCondition condition, ItxExportFormat format, OutputStream outputStream
+    ) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == ItxExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<ItxSearchRow> rows = inventoryTransactionRepository.streamInventoryTransaction(condition)) {
+            Iterator<ItxSearchRow> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                // 작성자 이름은 메모리 캐시에서 행마다 조회 (DB 왕복 없음)
+                ItxSearchRow source = iterator.next();
+                ItxSearchDto row = source.toDto(userNameCache.getName(source.createdBy()));
+
+                if (format == ItxExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+
+                writer.write('\n');
+            }
+        }
+
+        writer.flush();
     }
 
     @Transactional(readOnly = true)
     public ItxDetailResponse getInventoryTransactionDetail(Long itxId) {
-        ItxDetailResponse response = inventoryTransactionRepository.findInventoryTransactionDetail(itxId);
+        ItxDetailRow row = inventoryTransactionRepository.findInventoryTransactionDetail(itxId);
 
-        if (response == null) {
+        if (row == null) {
             throw new BusinessException(ErrorCode.NOT_FOUND, "해당 재고 이력이 존재하지 않습니다.");
         }
 
-        return response;
+        return row.toResponse(userNameCache.getName(row.createdBy()));
+    }
+
+    // 조회한 행의 작성자 이름을 한 번에 조회
+    private Names withNames(List<ItxSearchRow> rows) {
+        return new Names(userNameCache.getNames(rows.stream()
+                .map(ItxSearchRow::createdBy)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())));
+    }
+
+    private record Names(Map<Long, String> names) {
+
+        ItxSearchDto toDto(ItxSearchRow row) {
+            return row.toDto(names.get(row.createdBy()));
+        }
+    }
+
+    private void writeCsvRow(Writer writer, ItxSearchDto row) throws IOException {
+        writer.write(String.valueOf(row.itxId()));
+        writer.write(',');
+        writer.write(csvValue(row.itemCode()));
+        writer.write(',');
+        writer.write(csvValue(row.itemName()));
+        writer.write(',');
+        writer.write(csvValue(row.warehouseCode()));
+        writer.write(',');
+        writer.write(csvValue(row.warehouseName()));
+        writer.write(',');
+        writer.write(String.valueOf(row.type()));
+        writer.write(',');
+        writer.write(String.valueOf(row.qtyDelta()));
+        writer.write(',');
+        writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+        writer.write(',');
+        writer.write(csvValue(row.createdBy()));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 기록 (RFC 4180)
+    // 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR 로 시작하는 값은 앞에 ' 를 붙임
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.erp.mini.item.controller;
 
 import com.erp.mini.common.response.CustomResponse;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.item.dto.AddItemRequest;
 import com.erp.mini.item.dto.ChangeItemPriceRequest;
 import com.erp.mini.item.dto.SearchItemCondition;
@@ -71,6 +72,26 @@ public class ItemController {
         return CustomResponse.ok(response);
     }
 
+    // 상품 목록 검색 (슬라이스)
+    @Operation(summary = "상품 목록 검색 (슬라이스)", description = "전체 건수 없이 다음 페이지 여부만 포함하여 상품 목록을 검색한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공")
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<CustomResponse<SliceResponse<SearchItemResponse>>> searchItemsSlice(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String code,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+        SearchItemCondition searchItemCondition = new SearchItemCondition(code, name);
+
+        SliceResponse<SearchItemResponse> response = itemService.getItemBySearchSlice(searchItemCondition, pageable);
+
+        return CustomResponse.ok(response);
+    }
+
     // 수정 (가격)
     @Operation(summary = "상품 가격 수정", description = "상품 가격을 수정한다.")
     @ApiResponses({
@@ -1,16 +1,18 @@
 package com.erp.mini.item.domain;
 
 import com.erp.mini.common.entity.BaseEntity;
-import com.erp.mini.common.response.BusinessException;
-import com.erp.mini.common.response.ErrorCode;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(
         name = "items",
         uniqueConstraints = {@UniqueConstraint(name = "uq_items_code", columnNames = {"code"})},
@@ -57,8 +59,6 @@ public class Item extends BaseEntity {
     }
 
     public void ensureAvailable() {
-        if (status == ItemStatus.INACTIVE) {
-            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 상품은 비활성화 상태입니다.");
-        }
+        status.ensureAvailable();
     }
 }
\ No newline at end of file
@@ -18,9 +18,10 @@ public class ItemCodeSequence {
     @Column(nullable = false)
     private Long nextVal;
 
-    public Long getNextAndIncrement() {
-        long current = nextVal;
-        nextVal = current + 1;
-        return current;
+    // size 만큼의 구간 [start, start + size)을 예약하고 시작 값을 반환
+    public Long reserveBlock(int size) {
+        long start = nextVal;
+        nextVal = start + size;
+        return start;
     }
 }
@@ -0,0 +1,23 @@
+package com.erp.mini.item.dto;
+
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+
+import java.math.BigDecimal;
+
+// 캐시 보관용 상품 스냅샷 (불변)
+public record ItemSnapshot(
+        Long id,
+        String code,
+        String name,
+        BigDecimal basePrice,
+        ItemStatus status
+) {
+    public static ItemSnapshot from(Item item) {
+        return new ItemSnapshot(item.getId(), item.getCode(), item.getName(), item.getBasePrice(), item.getStatus());
+    }
+
+    public void ensureAvailable() {
+        status.ensureAvailable();
+    }
+}
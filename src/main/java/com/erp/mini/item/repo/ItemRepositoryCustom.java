@@ -4,7 +4,9 @@ import com.erp.mini.item.dto.SearchItemCondition;
 import com.erp.mini.item.dto.SearchItemResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ItemRepositoryCustom {
     Page<SearchItemResponse> search(SearchItemCondition searchItemCondition, Pageable pageable);
-}
\ No newline at end of file
+    Slice<SearchItemResponse> searchSlice(SearchItemCondition searchItemCondition, Pageable pageable);
+}
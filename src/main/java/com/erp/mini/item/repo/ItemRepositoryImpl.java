@@ -1,14 +1,17 @@
 package com.erp.mini.item.repo;
 
+import com.erp.mini.common.util.SliceUtil;
 import com.erp.mini.item.dto.SearchItemCondition;
 import com.erp.mini.item.dto.SearchItemResponse;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 
@@ -22,34 +25,51 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
     @Override
     public Page<SearchItemResponse> search(SearchItemCondition searchItemCondition, Pageable pageable) {
-        List<SearchItemResponse> contents = jpaQueryFactory
-                .select(Projections.constructor(
-                        SearchItemResponse.class,
-                        item.id,
-                        item.name,
-                        item.code,
-                        item.status
-                ))
+        List<SearchItemResponse> contents = searchQuery(searchItemCondition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(item.count())
                 .from(item)
                 .where(
                         nameStarts(searchItemCondition.name()),
                         codeStarts(searchItemCondition.code())
-                )
-                .orderBy(item.id.desc())
+                );
+
+        // 첫 페이지가 size 보다 작거나 마지막 페이지인 경우 count 쿼리 생략
+        return PageableExecutionUtils.getPage(contents, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total == null ? 0 : total;
+        });
+    }
+
+    @Override
+    public Slice<SearchItemResponse> searchSlice(SearchItemCondition searchItemCondition, Pageable pageable) {
+        List<SearchItemResponse> contents = searchQuery(searchItemCondition)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        Long total = jpaQueryFactory
-                .select(item.count())
+        return SliceUtil.toSlice(contents, pageable);
+    }
+
+    private JPAQuery<SearchItemResponse> searchQuery(SearchItemCondition searchItemCondition) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        SearchItemResponse.class,
+                        item.id,
+                        item.name,
+                        item.code,
+                        item.status
+                ))
                 .from(item)
                 .where(
                         nameStarts(searchItemCondition.name()),
                         codeStarts(searchItemCondition.code())
                 )
-                .fetchOne();
-
-        return new PageImpl<>(contents, pageable, total == null ? 0 : total);
+                .orderBy(item.id.desc());
     }
 
     private BooleanExpression nameStarts(String name) {
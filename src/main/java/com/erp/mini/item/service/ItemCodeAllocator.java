@@ -0,0 +1,86 @@
+package com.erp.mini.item.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 코드 번호 할당기 (hi-lo 방식)
+ * item_code_sequence 에서 blockSize 만큼의 구간을 짧은 별도 트랜잭션으로 예약하고,
+ * 구간 내 번호는 노드 메모리에서 AtomicLong 으로 배분한다.
+ * 번호는 노드 간에도 중복되지 않으며, 재기동이나 롤백으로 사용되지 않은 번호는 건너뛴다(gap 허용).
+ */
+@Component
+public class ItemCodeAllocator {
+
+    private final ItemCodeBlockReserver itemCodeBlockReserver;
+    private final int blockSize;
+
+    // 구간 재예약은 한 스레드만 수행 (synchronized 대신 사용해 가상 스레드 pinning 방지)
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = Block.EMPTY;
+
+    public ItemCodeAllocator(
+            ItemCodeBlockReserver itemCodeBlockReserver,
+            @Value("${erp.item-code.block-size:100}") int blockSize
+    ) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("erp.item-code.block-size 는 1 이상이어야 합니다.");
+        }
+
+        this.itemCodeBlockReserver = itemCodeBlockReserver;
+        this.blockSize = blockSize;
+    }
+
+    public long next() {
+        while (true) {
+            Block current = block;
+            long value = current.tryNext();
+
+            if (value != Block.EXHAUSTED) {
+                return value;
+            }
+
+            refill(current);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+
+        try {
+            // 대기하는 동안 다른 스레드가 이미 새 구간을 받아왔으면 그대로 사용
+            if (block != exhausted) {
+                return;
+            }
+
+            long start = itemCodeBlockReserver.reserve(blockSize);
+            block = new Block(start, start + blockSize);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    // 예약된 구간 [next, end)
+    private static final class Block {
+
+        private static final long EXHAUSTED = -1L;
+        private static final Block EMPTY = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        private long tryNext() {
+            long value = next.getAndIncrement();
+            return value < end ? value : EXHAUSTED;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.erp.mini.item.service;
+
+import com.erp.mini.item.repo.ItemCodeSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class ItemCodeBlockReserver {
+
+    private final ItemCodeSequenceRepository itemCodeSequenceRepository;
+
+    // 시퀀스 행 락은 구간 예약 동안만 잡고 바로 커밋 (호출한 트랜잭션과 분리)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(int size) {
+        return itemCodeSequenceRepository.getItemCodeSequence().reserveBlock(size);
+    }
+}
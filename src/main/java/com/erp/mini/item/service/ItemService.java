@@ -2,18 +2,20 @@ package com.erp.mini.item.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.erp.mini.common.cache.MasterDataCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.item.dto.AddItemRequest;
 import com.erp.mini.item.dto.ChangeItemPriceRequest;
 import com.erp.mini.item.dto.SearchItemCondition;
 import com.erp.mini.item.dto.SearchItemResponse;
-import com.erp.mini.item.repo.ItemCodeSequenceRepository;
 import com.erp.mini.item.repo.ItemRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,14 +25,16 @@ import lombok.RequiredArgsConstructor;
 public class ItemService {
 
     private final ItemRepository itemRepository;
-    private final ItemCodeSequenceRepository itemCodeSequenceRepository;
+    private final ItemCodeAllocator itemCodeAllocator;
+    private final MasterDataCache masterDataCache;
 
     private static final String ITEM_CODE_PREFIX = "IC";
 
     // 등록
     @Transactional
     public void addItem(AddItemRequest request) {
-        Long sequence = itemCodeSequenceRepository.getItemCodeSequence().getNextAndIncrement();
+        // 시퀀스 행 락 없이 노드에 예약된 구간에서 번호 할당
+        long sequence = itemCodeAllocator.next();
         String code = ITEM_CODE_PREFIX + String.format("%06d", sequence);
 
         Item item = Item.createItem(
@@ -47,6 +51,7 @@ public class ItemService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 상품이 존재하지 않습니다."));
 
         item.deactivate();
+        masterDataCache.evictItem(itemId);
     }
 
     // 상품 목록 조회(Prefix(인덱스 활용) + like(startsWith))
@@ -57,6 +62,14 @@ public class ItemService {
         return PageResponse.from(contents);
     }
 
+    // 상품 목록 조회 (count 생략, 다음 페이지 여부만 반환)
+    @Transactional(readOnly = true)
+    public SliceResponse<SearchItemResponse> getItemBySearchSlice(SearchItemCondition searchItemCondition, Pageable pageable) {
+        Slice<SearchItemResponse> contents = itemRepository.searchSlice(searchItemCondition, pageable);
+
+        return SliceResponse.from(contents);
+    }
+
     // 수정 (가격 변동)
     @Transactional
     public void changePrice(Long itemId, ChangeItemPriceRequest request) {
@@ -64,5 +77,6 @@ public class ItemService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 상품이 존재하지 않습니다."));
 
         item.changePrice(request.basePrice());
+        masterDataCache.evictItem(itemId);
     }
 }
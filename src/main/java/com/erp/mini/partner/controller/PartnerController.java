@@ -2,6 +2,7 @@ package com.erp.mini.partner.controller;
 
 import com.erp.mini.common.response.CustomResponse;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.partner.domain.PartnerType;
 import com.erp.mini.partner.dto.AddPartnerRequest;
 import com.erp.mini.partner.dto.SearchPartnerCondition;
@@ -72,4 +73,23 @@ public class PartnerController {
 
         return CustomResponse.ok(response);
     }
+
+    @Operation(summary = "거래처 검색 (슬라이스)", description = "전체 건수 없이 다음 페이지 여부만 포함하여 거래처 목록을 검색한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공")
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<CustomResponse<SliceResponse<SearchPartnerResponse>>> searchPartnersSlice(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) PartnerType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SearchPartnerCondition condition = new SearchPartnerCondition(keyword, type);
+        Pageable pageable = PageRequest.of(page, size);
+
+        SliceResponse<SearchPartnerResponse> response = partnerService.searchPartnersSlice(condition, pageable);
+
+        return CustomResponse.ok(response);
+    }
 }
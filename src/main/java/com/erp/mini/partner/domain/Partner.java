@@ -7,8 +7,12 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(
         name = "partners",
         uniqueConstraints = {@UniqueConstraint(name = "uq_partners_code", columnNames = {"code"})},
@@ -73,14 +77,10 @@ public class Partner extends BaseEntity {
     }
 
     public void validateSupplier() {
-        if (this.type != PartnerType.SUPPLIER) {
-            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래처는 고객사입니다.");
-        }
+        this.type.validateSupplier();
     }
 
     public void validateCustomer() {
-        if (this.type != PartnerType.CUSTOMER) {
-            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래처는 공급처입니다.");
-        }
+        this.type.validateCustomer();
     }
 }
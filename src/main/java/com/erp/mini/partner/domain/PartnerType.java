@@ -1,5 +1,21 @@
 package com.erp.mini.partner.domain;
 
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+
 public enum PartnerType {
-    CUSTOMER, SUPPLIER
-}
\ No newline at end of file
+    CUSTOMER, SUPPLIER;
+
+    // 거래처 엔티티와 캐시 스냅샷이 같은 규칙으로 검증
+    public void validateSupplier() {
+        if (this != SUPPLIER) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래처는 고객사입니다.");
+        }
+    }
+
+    public void validateCustomer() {
+        if (this != CUSTOMER) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래처는 공급처입니다.");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.erp.mini.partner.dto;
+
+import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.partner.domain.PartnerType;
+
+// 캐시 보관용 거래처 스냅샷 (불변)
+public record PartnerSnapshot(
+        Long id,
+        String code,
+        String name,
+        PartnerType type
+) {
+    public static PartnerSnapshot from(Partner partner) {
+        return new PartnerSnapshot(partner.getId(), partner.getCode(), partner.getName(), partner.getType());
+    }
+
+    public void validateSupplier() {
+        this.type.validateSupplier();
+    }
+
+    public void validateCustomer() {
+        this.type.validateCustomer();
+    }
+}
@@ -4,7 +4,9 @@ import com.erp.mini.partner.dto.SearchPartnerCondition;
 import com.erp.mini.partner.dto.SearchPartnerResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PartnerRepositoryCustom {
     Page<SearchPartnerResponse> search(SearchPartnerCondition condition, Pageable pageable);
-}
\ No newline at end of file
+    Slice<SearchPartnerResponse> searchSlice(SearchPartnerCondition condition, Pageable pageable);
+}
@@ -1,15 +1,18 @@
 package com.erp.mini.partner.repo;
 
+import com.erp.mini.common.util.SliceUtil;
 import com.erp.mini.partner.domain.PartnerType;
 import com.erp.mini.partner.dto.SearchPartnerCondition;
 import com.erp.mini.partner.dto.SearchPartnerResponse;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 
@@ -22,34 +25,50 @@ public class PartnerRepositoryImpl implements PartnerRepositoryCustom {
 
     @Override
     public Page<SearchPartnerResponse> search(SearchPartnerCondition condition, Pageable pageable) {
-        List<SearchPartnerResponse> contents = jpaQueryFactory
-                .select(Projections.constructor(
-                        SearchPartnerResponse.class,
-                        partner.id,
-                        partner.name,
-                        partner.code,
-                        partner.type
-                ))
+        List<SearchPartnerResponse> contents = searchQuery(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(partner.count())
                 .from(partner)
                 .where(
                         typeEq(condition.type()),
                         keywordPrefix(condition.keyword())
-                )
+                );
+
+        return PageableExecutionUtils.getPage(contents, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total == null ? 0 : total;
+        });
+    }
+
+    @Override
+    public Slice<SearchPartnerResponse> searchSlice(SearchPartnerCondition condition, Pageable pageable) {
+        List<SearchPartnerResponse> contents = searchQuery(condition)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(partner.name.asc())
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        Long total = jpaQueryFactory
-                .select(partner.count())
+        return SliceUtil.toSlice(contents, pageable);
+    }
+
+    private JPAQuery<SearchPartnerResponse> searchQuery(SearchPartnerCondition condition) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        SearchPartnerResponse.class,
+                        partner.id,
+                        partner.name,
+                        partner.code,
+                        partner.type
+                ))
                 .from(partner)
                 .where(
                         typeEq(condition.type()),
                         keywordPrefix(condition.keyword())
                 )
-                .fetchOne();
-
-        return new PageImpl<>(contents, pageable, total == null ? 0 : total);
+                .orderBy(partner.name.asc());
     }
 
     private BooleanExpression typeEq(PartnerType type) {
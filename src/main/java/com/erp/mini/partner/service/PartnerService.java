@@ -1,8 +1,10 @@
 package com.erp.mini.partner.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.partner.domain.Partner;
 import com.erp.mini.partner.dto.AddPartnerRequest;
 import com.erp.mini.partner.dto.SearchPartnerCondition;
@@ -12,6 +14,7 @@ import com.erp.mini.partner.repo.PartnerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,7 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public class PartnerService {
     private final PartnerRepository partnerRepository;
+    private final MasterDataCache masterDataCache;
 
     @Transactional
     public void addPartner(AddPartnerRequest request) {
@@ -40,6 +44,8 @@ public class PartnerService {
 
         updateNullable(request.email(), partner::changeEmail);
         updateNullable(request.phone(), partner::changePhone);
+
+        masterDataCache.evictPartner(partnerId);
     }
 
     @Transactional(readOnly = true)
@@ -49,6 +55,13 @@ public class PartnerService {
         return PageResponse.from(contents);
     }
 
+    @Transactional(readOnly = true)
+    public SliceResponse<SearchPartnerResponse> searchPartnersSlice(SearchPartnerCondition condition, Pageable pageable) {
+        Slice<SearchPartnerResponse> contents = partnerRepository.searchSlice(condition, pageable);
+
+        return SliceResponse.from(contents);
+    }
+
     // Consumer<T> Java 8 함수형 인터페이스 (partner::changeEmail, partner::changePhone)
     // 중복 제거 및 같은 규칙 여러 필드에 적용
     private void updateNullable(String value, Consumer<String> updater) {
@@ -14,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/purchase-order")
@@ -114,4 +116,18 @@ public class PurchaseOrderController {
 
         return CustomResponse.ok(response);
     }
+
+    @Operation(summary = "구매 주문 여러 건 상세 조회", description = "여러 구매 주문을 한 번에 상세 조회한다. (최대 100건)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 건수 초과")
+    })
+    @GetMapping("/details")
+    public ResponseEntity<CustomResponse<List<PurchaseDetailResponse>>> getPurchaseOrderDetails(
+            @RequestParam List<Long> ids
+    ) {
+        List<PurchaseDetailResponse> response = purchaseOrderService.getPurchaseOrderDetails(ids);
+
+        return CustomResponse.ok(response);
+    }
 }
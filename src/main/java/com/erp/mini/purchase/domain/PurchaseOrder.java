@@ -5,6 +5,7 @@ import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.stock.dto.StockKey;
 import com.erp.mini.warehouse.domain.Warehouse;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -13,7 +14,9 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Table(
@@ -46,6 +49,17 @@ public class PurchaseOrder extends BaseEntity {
     )
     private final List<PurchaseOrderLine> purchaseOrderLines = new ArrayList<>();
 
+    // 라인 중복 / 삭제 대상 조회용 인덱스 (영속 대상 X)
+    // 로딩 직후에는 null 이며 처음 사용할 때 라인 목록으로 재구성
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<StockKey, PurchaseOrderLine> lineKeyIndex;
+
+    // 라인 id는 flush 시점에 채워지므로 조회 실패 시 한 번 재구성
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<Long, PurchaseOrderLine> lineIdIndex;
+
     private PurchaseOrder(Partner partner) {
         this.partner = partner;
         this.status = PurchaseStatus.CREATED;
@@ -66,17 +80,27 @@ public class PurchaseOrder extends BaseEntity {
                 this, item, warehouse, qty, unitCost
         );
 
+        // containsLine 에서 인덱스가 동기화된 상태이므로 필드에 바로 반영
         purchaseOrderLines.add(line);
+        lineKeyIndex.put(line.key(), line);
+
+        if (line.getId() != null) {
+            lineIdIndex().put(line.getId(), line);
+        }
     }
 
     public void removeLine(Long lineId) {
         ensureCreated();
 
-        PurchaseOrderLine purchaseOrderLine = purchaseOrderLines.stream()
-                .filter(line -> line.getId().equals(lineId))
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "라인이 존재하지 않습니다."));
+        PurchaseOrderLine purchaseOrderLine = findLine(lineId);
+
+        if (purchaseOrderLine == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "라인이 존재하지 않습니다.");
+        }
 
+        // 인덱스를 먼저 갱신해야 크기 비교로 인한 재구성이 일어나지 않음
+        lineKeyIndex().remove(purchaseOrderLine.key());
+        lineIdIndex.remove(lineId);
         purchaseOrderLines.remove(purchaseOrderLine);
     }
 
@@ -101,8 +125,45 @@ public class PurchaseOrder extends BaseEntity {
     }
 
     private boolean containsLine(Item item, Warehouse warehouse) {
-        return purchaseOrderLines.stream()
-                .anyMatch(l -> l.sameKey(item, warehouse));
+        return lineKeyIndex().containsKey(toKey(item, warehouse));
+    }
+
+    private PurchaseOrderLine findLine(Long lineId) {
+        PurchaseOrderLine line = lineIdIndex().get(lineId);
+
+        if (line == null) {
+            // 인덱스 생성 이후 id가 채워진 라인이 있을 수 있으므로 재구성 후 재조회
+            lineIdIndex = null;
+            line = lineIdIndex().get(lineId);
+        }
+
+        return line;
+    }
+
+    private Map<StockKey, PurchaseOrderLine> lineKeyIndex() {
+        // 컬렉션이 인덱스 밖에서 변경된 경우(로딩, 초기화 등) 크기 불일치로 감지하여 재구성
+        if (lineKeyIndex == null || lineKeyIndex.size() != purchaseOrderLines.size()) {
+            lineKeyIndex = new HashMap<>();
+            purchaseOrderLines.forEach(l -> lineKeyIndex.put(l.key(), l));
+        }
+
+        return lineKeyIndex;
+    }
+
+    private Map<Long, PurchaseOrderLine> lineIdIndex() {
+        if (lineIdIndex == null) {
+            lineIdIndex = new HashMap<>();
+            purchaseOrderLines.stream()
+                    .filter(l -> l.getId() != null)
+                    .forEach(l -> lineIdIndex.put(l.getId(), l));
+        }
+
+        return lineIdIndex;
+    }
+
+    // 라인 키와 동일하게 id 기준 비교
+    private static StockKey toKey(Item item, Warehouse warehouse) {
+        return new StockKey(item.getId(), warehouse.getId());
     }
 
     private void ensureCreated() {
@@ -0,0 +1,61 @@
+package com.erp.mini.purchase.dto;
+
+import com.erp.mini.purchase.domain.PurchaseStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 구매 상세 단일 조회 결과 행 (헤더 + 라인, 라인이 없으면 라인 컬럼은 null)
+ * 생성자 / 수정자는 id 로 받아 UserNameCache 로 이름을 채운다.
+ */
+public record PurchaseDetailRow(
+        Long purchaseOrderId,
+        String partnerCode,
+        String partnerName,
+        PurchaseStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long createdBy,
+        Long updatedBy,
+        Long lineId,
+        String itemCode,
+        String itemName,
+        String warehouseCode,
+        String warehouseName,
+        String warehouseLocation,
+        Long qty,
+        BigDecimal unitCost,
+        BigDecimal totalCost
+) {
+    public boolean hasLine() {
+        return lineId != null;
+    }
+
+    public PurchaseHeaderDto toHeader(String createdByName, String updatedByName) {
+        return new PurchaseHeaderDto(
+                purchaseOrderId,
+                partnerCode,
+                partnerName,
+                status,
+                createdAt,
+                updatedAt,
+                createdByName,
+                updatedByName
+        );
+    }
+
+    public PurchaseLineDto toLine() {
+        return new PurchaseLineDto(
+                lineId,
+                itemCode,
+                itemName,
+                warehouseCode,
+                warehouseName,
+                warehouseLocation,
+                qty,
+                unitCost,
+                totalCost
+        );
+    }
+}
@@ -1,11 +1,10 @@
 package com.erp.mini.purchase.repo;
 
-import com.erp.mini.purchase.dto.PurchaseHeaderDto;
-import com.erp.mini.purchase.dto.PurchaseLineDto;
+import com.erp.mini.purchase.dto.PurchaseDetailRow;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PurchaseOrderRepositoryCustom {
-    PurchaseHeaderDto getPurchaseDetailHeader(Long purchaseOrderId);
-    List<PurchaseLineDto> getPurchaseDetailLines(Long purchaseOrderId);
+    List<PurchaseDetailRow> getPurchaseDetailRows(Collection<Long> purchaseOrderIds);
 }
@@ -1,12 +1,11 @@
 package com.erp.mini.purchase.repo;
 
-import com.erp.mini.purchase.dto.PurchaseHeaderDto;
-import com.erp.mini.purchase.dto.PurchaseLineDto;
-import com.erp.mini.user.domain.QUser;
+import com.erp.mini.purchase.dto.PurchaseDetailRow;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.erp.mini.item.domain.QItem.item;
@@ -20,36 +19,20 @@ public class PurchaseOrderRepositoryImpl implements PurchaseOrderRepositoryCusto
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    // 헤더 + 라인을 한 번에 조회 (라인이 없는 주문도 헤더 1행), 주문 id / 라인 id 순
     @Override
-    public PurchaseHeaderDto getPurchaseDetailHeader(Long purchaseOrderId) {
-        QUser createdBy = new QUser("createdBy");
-        QUser updatedBy = new QUser("updatedBy");
-
+    public List<PurchaseDetailRow> getPurchaseDetailRows(Collection<Long> purchaseOrderIds) {
         return jpaQueryFactory
                 .select(Projections.constructor(
-                        PurchaseHeaderDto.class,
+                        PurchaseDetailRow.class,
                         purchaseOrder.id,
                         partner.code,
                         partner.name,
                         purchaseOrder.status,
                         purchaseOrder.createdAt,
                         purchaseOrder.updatedAt,
-                        createdBy.name,
-                        updatedBy.name
-                ))
-                .from(purchaseOrder)
-                .join(purchaseOrder.partner, partner)
-                .leftJoin(createdBy).on(createdBy.id.eq(purchaseOrder.createdBy))
-                .leftJoin(updatedBy).on(updatedBy.id.eq(purchaseOrder.updatedBy))
-                .where(purchaseOrder.id.eq(purchaseOrderId))
-                .fetchOne();
-    }
-
-    @Override
-    public List<PurchaseLineDto> getPurchaseDetailLines(Long purchaseOrderId) {
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        PurchaseLineDto.class,
+                        purchaseOrder.createdBy,
+                        purchaseOrder.updatedBy,
                         purchaseOrderLine.id,
                         item.code,
                         item.name,
@@ -60,10 +43,13 @@ public class PurchaseOrderRepositoryImpl implements PurchaseOrderRepositoryCusto
                         purchaseOrderLine.unitCost,
                         purchaseOrderLine.unitCost.multiply(purchaseOrderLine.qty)
                 ))
-                .from(purchaseOrderLine)
-                .join(purchaseOrderLine.warehouse, warehouse)
-                .join(purchaseOrderLine.item, item)
-                .where(purchaseOrderLine.purchaseOrder.id.eq(purchaseOrderId))
+                .from(purchaseOrder)
+                .join(purchaseOrder.partner, partner)
+                .leftJoin(purchaseOrder.purchaseOrderLines, purchaseOrderLine)
+                .leftJoin(purchaseOrderLine.item, item)
+                .leftJoin(purchaseOrderLine.warehouse, warehouse)
+                .where(purchaseOrder.id.in(purchaseOrderIds))
+                .orderBy(purchaseOrder.id.asc(), purchaseOrderLine.id.asc())
                 .fetch();
     }
 }
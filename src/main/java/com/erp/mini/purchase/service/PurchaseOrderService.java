@@ -1,10 +1,12 @@
 package com.erp.mini.purchase.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
+import com.erp.mini.common.cache.UserNameCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
-import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.dto.ItemSnapshot;
 import com.erp.mini.item.repo.ItemRepository;
-import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.partner.dto.PartnerSnapshot;
 import com.erp.mini.partner.repo.PartnerRepository;
 import com.erp.mini.purchase.domain.PurchaseOrder;
 import com.erp.mini.purchase.domain.PurchaseOrderLine;
@@ -12,17 +14,21 @@ import com.erp.mini.purchase.dto.*;
 import com.erp.mini.purchase.repo.PurchaseOrderRepository;
 import com.erp.mini.stock.dto.StockKey;
 import com.erp.mini.stock.service.StockService;
-import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.dto.WarehouseSnapshot;
 import com.erp.mini.warehouse.repo.WarehouseRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,16 +40,27 @@ public class PurchaseOrderService {
     private final PurchaseOrderRepository purchaseOrderRepository;
 
     private final StockService stockService;
+    private final MasterDataCache masterDataCache;
+    private final UserNameCache userNameCache;
 
-    // 구매 생성
+    @Value("${erp.purchase.detail.max-batch-size:100}")
+    private int maxDetailBatchSize;
+
+    // 구매 생성 (생성된 구매건 식별자 ID 반환)
     @Transactional
-    public void createPurchase(PurchaseOrderRequest request) {
-        Partner partner = partnerRepository.findById(request.partnerId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 거래처가 존재하지 않습니다."));
+    public Long createPurchase(PurchaseOrderRequest request) {
+        PartnerSnapshot partnerSnapshot = masterDataCache.getPartner(request.partnerId());
 
-        partner.validateSupplier();
+        if (partnerSnapshot == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "해당 거래처가 존재하지 않습니다.");
+        }
 
-        PurchaseOrder purchaseOrder = PurchaseOrder.createPurchaseOrder(partner);
+        partnerSnapshot.validateSupplier();
+
+        // 검증은 캐시 스냅샷으로 끝났고 연관관계에는 FK만 필요하므로 reference 사용
+        PurchaseOrder purchaseOrder = PurchaseOrder.createPurchaseOrder(
+                partnerRepository.getReferenceById(request.partnerId())
+        );
 
         Set<Long> itemIds = request.purchaseLines().stream()
                 .map(PurchaseOrderRequest.PurchaseLine::itemId)
@@ -53,34 +70,33 @@ public class PurchaseOrderService {
                 .map(PurchaseOrderRequest.PurchaseLine::warehouseId)
                 .collect(Collectors.toSet());
 
-        List<Item> itemList = itemRepository.findAllById(itemIds);
-        List<Warehouse> warehouseList = warehouseRepository.findAllById(warehouseIds);
-
-        Map<Long, Item> itemMap = itemList.stream()
-                .collect(Collectors.toMap(Item::getId, item -> item));
+        Map<Long, ItemSnapshot> itemMap = masterDataCache.getItems(itemIds);
 
         if (itemMap.size() != itemIds.size()) {
             throw new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 상품이 포함되어 있습니다.");
         }
 
-        Map<Long, Warehouse> warehouseMap = warehouseList.stream()
-                .collect(Collectors.toMap(Warehouse::getId, warehouse -> warehouse));
+        Map<Long, WarehouseSnapshot> warehouseMap = masterDataCache.getWarehouses(warehouseIds);
 
         if (warehouseMap.size() != warehouseIds.size()) {
             throw new BusinessException(ErrorCode.NOT_FOUND, "조재하지 않는 창고가 포함되어 있습니다.");
         }
 
         for (PurchaseOrderRequest.PurchaseLine purchaseLine : request.purchaseLines()) {
-            Item item = itemMap.get(purchaseLine.itemId());
-            Warehouse warehouse = warehouseMap.get(purchaseLine.warehouseId());
-
-            item.ensureAvailable();
-            warehouse.ensureAvailable();
-
-            purchaseOrder.addLine(item, warehouse, purchaseLine.qty(), purchaseLine.unitCost());
+            itemMap.get(purchaseLine.itemId()).ensureAvailable();
+            warehouseMap.get(purchaseLine.warehouseId()).ensureAvailable();
+
+            purchaseOrder.addLine(
+                    itemRepository.getReferenceById(purchaseLine.itemId()),
+                    warehouseRepository.getReferenceById(purchaseLine.warehouseId()),
+                    purchaseLine.qty(),
+                    purchaseLine.unitCost()
+            );
         }
 
         purchaseOrderRepository.save(purchaseOrder);
+
+        return purchaseOrder.getId();
     }
 
     // 항목 추가
@@ -89,18 +105,27 @@ public class PurchaseOrderService {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findByIdWithLines(purchaseOrderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 구매건이 존재하지 않습니다."));
 
-        Item item = itemRepository.findById(request.itemId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 상품이 존재하지 않습니다."));
+        ItemSnapshot item = masterDataCache.getItem(request.itemId());
+
+        if (item == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "해당 상품이 존재하지 않습니다.");
+        }
 
         item.ensureAvailable();
 
-        Warehouse warehouse = warehouseRepository.findById(request.warehouseId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 창고가 존재하지 않습니다."));
+        WarehouseSnapshot warehouse = masterDataCache.getWarehouse(request.warehouseId());
+
+        if (warehouse == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "해당 창고가 존재하지 않습니다.");
+        }
 
         warehouse.ensureAvailable();
 
         purchaseOrder.addLine(
-                item, warehouse, request.qty(), request.unitCost()
+                itemRepository.getReferenceById(request.itemId()),
+                warehouseRepository.getReferenceById(request.warehouseId()),
+                request.qty(),
+                request.unitCost()
         );
     }
 
@@ -131,19 +156,33 @@ public class PurchaseOrderService {
         purchaseOrder.cancel();
     }
 
-    // 상세 조회
+    // 상세 조회 (헤더 + 라인 한 번에 조회)
     @Transactional(readOnly = true)
     public PurchaseDetailResponse getPurchaseOrderDetail(Long purchaseOrderId) {
-        // 헤더 조회
-        PurchaseHeaderDto header = purchaseOrderRepository.getPurchaseDetailHeader(purchaseOrderId);
+        List<PurchaseDetailResponse> details = toDetails(
+                List.of(purchaseOrderId), purchaseOrderRepository.getPurchaseDetailRows(List.of(purchaseOrderId)));
 
-        if (header == null) {
+        if (details.isEmpty()) {
             throw new BusinessException(ErrorCode.NOT_FOUND, "해당 구매건이 존재하지 않습니다.");
         }
 
-        List<PurchaseLineDto> lines = purchaseOrderRepository.getPurchaseDetailLines(purchaseOrderId);
+        return details.get(0);
+    }
 
-        return new PurchaseDetailResponse(header, lines);
+    // 여러 건 상세 조회 (요청 순서대로, 존재하지 않는 구매건은 제외)
+    @Transactional(readOnly = true)
+    public List<PurchaseDetailResponse> getPurchaseOrderDetails(List<Long> purchaseOrderIds) {
+        List<Long> ids = purchaseOrderIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty() || ids.size() > maxDetailBatchSize) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "구매건은 1건 이상 " + maxDetailBatchSize + "건 이하로 조회할 수 있습니다.");
+        }
+
+        return toDetails(ids, purchaseOrderRepository.getPurchaseDetailRows(ids));
     }
 
     // 입고 완료
@@ -164,4 +203,31 @@ public class PurchaseOrderService {
 
         purchaseOrder.markAsReceived();
     }
-}
\ No newline at end of file
+
+    // 주문별로 행을 묶어 헤더 1개 + 라인 목록으로 변환 (생성자 / 수정자 이름은 캐시에서 한 번에 조회)
+    private List<PurchaseDetailResponse> toDetails(List<Long> purchaseOrderIds, List<PurchaseDetailRow> rows) {
+        Map<Long, List<PurchaseDetailRow>> rowsByOrder = rows.stream()
+                .collect(Collectors.groupingBy(PurchaseDetailRow::purchaseOrderId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, String> userNames = userNameCache.getNames(rows.stream()
+                .flatMap(row -> Stream.of(row.createdBy(), row.updatedBy()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        return purchaseOrderIds.stream()
+                .map(rowsByOrder::get)
+                .filter(Objects::nonNull)
+                .map(orderRows -> {
+                    PurchaseDetailRow first = orderRows.get(0);
+
+                    return new PurchaseDetailResponse(
+                            first.toHeader(userNames.get(first.createdBy()), userNames.get(first.updatedBy())),
+                            orderRows.stream()
+                                    .filter(PurchaseDetailRow::hasLine)
+                                    .map(PurchaseDetailRow::toLine)
+                                    .toList()
+                    );
+                })
+                .toList();
+    }
+}
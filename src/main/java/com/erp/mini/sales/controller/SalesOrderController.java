@@ -2,6 +2,8 @@ package com.erp.mini.sales.controller;
 
 import com.erp.mini.common.response.CustomResponse;
 import com.erp.mini.sales.dto.AddSalesOrderLineRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderResponse;
 import com.erp.mini.sales.dto.SalesDetailResponse;
 import com.erp.mini.sales.dto.SalesOrderRequest;
 import com.erp.mini.sales.service.SalesOrderService;
@@ -14,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/sales-order")
@@ -36,6 +40,20 @@ public class SalesOrderController {
         return CustomResponse.created();
     }
 
+    //출고 일괄 생성 + 주문 확정
+    @Operation(summary = "판매 발주 일괄 등록", description = "여러 판매 발주를 생성하고 재고를 한 번에 차감하여 주문 확정한다. (최대 1000건, 건별 결과 반환)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (건별 성공/실패는 결과 목록 참고)")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<CustomResponse<BulkSalesOrderResponse>> createSalesOrders(
+            @RequestBody @Valid BulkSalesOrderRequest request
+    ) {
+        BulkSalesOrderResponse response = salesOrderService.createAndOrderSales(request);
+
+        return CustomResponse.ok(response);
+    }
+
     //출고 항목 추가
     @Operation(summary = "판매 발주 추가", description = "판매 발주를 추가한다.")
     @ApiResponses({
@@ -108,6 +126,21 @@ public class SalesOrderController {
         return CustomResponse.ok(response);
     }
 
+    //여러 건 상세 조회
+    @Operation(summary = "판매 주문 여러 건 상세 조회", description = "여러 판매 주문을 한 번에 상세 조회한다. (최대 100건)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 건수 초과")
+    })
+    @GetMapping("/details")
+    public ResponseEntity<CustomResponse<List<SalesDetailResponse>>> getSalesOrderDetails(
+            @RequestParam List<Long> ids
+    ) {
+        List<SalesDetailResponse> response = salesOrderService.getSalesOrderDetails(ids);
+
+        return CustomResponse.ok(response);
+    }
+
     //출고 완료
     @Operation(summary = "판매 주문 배송 완료", description = "판매 주문을 배송 완료한다.")
     @ApiResponses({
@@ -1,6 +1,7 @@
 package com.erp.mini.sales.domain;
 
 import com.erp.mini.item.domain.Item;
+import com.erp.mini.stock.dto.StockKey;
 import com.erp.mini.warehouse.domain.Warehouse;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -8,7 +9,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 
 @Entity
 @Table(
@@ -22,7 +22,16 @@ import java.util.Objects;
 public class SalesOrderLine {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert batching 이 불가능하므로 테이블 기반 pooled-lo 생성기 사용 (100개 단위 예약)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "sales_order_line_id_generator")
+    @TableGenerator(
+            name = "sales_order_line_id_generator",
+            table = "id_generators",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "sales_order_lines",
+            allocationSize = 100
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -65,9 +74,8 @@ public class SalesOrderLine {
         return new SalesOrderLine(salesOrder, item, warehouse, qty, unitPrice);
     }
 
-    boolean sameKey(Item item, Warehouse warehouse) {
-        // id 기반으로 같은 객체인지 비교
-        return Objects.equals(this.item.getId(), item.getId())
-                &&  Objects.equals(this.warehouse.getId(), warehouse.getId());
+    StockKey key() {
+        // id 기반으로 같은 상품/창고 라인인지 비교하기 위한 키
+        return new StockKey(item.getId(), warehouse.getId());
     }
 }
\ No newline at end of file
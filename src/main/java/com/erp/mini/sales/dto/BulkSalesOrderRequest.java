@@ -0,0 +1,16 @@
+package com.erp.mini.sales.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "판매 일괄 등록 요청")
+public record BulkSalesOrderRequest(
+        @Schema(description = "판매 목록 (최대 1000건)")
+        @NotEmpty(message = "최소 하나 이상의 판매건은 필수입니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 등록할 수 있습니다.")
+        List<SalesOrderRequest> orders
+) {
+}
@@ -0,0 +1,51 @@
+package com.erp.mini.sales.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "판매 일괄 등록 결과")
+public record BulkSalesOrderResponse(
+
+        @Schema(description = "요청 건수")
+        int total,
+
+        @Schema(description = "주문 확정 건수")
+        int ordered,
+
+        @Schema(description = "실패 건수 (검증 실패 + 재고 부족)")
+        int failed,
+
+        @Schema(description = "요청 순서별 처리 결과")
+        List<Result> results
+) {
+    public static BulkSalesOrderResponse of(List<Result> results) {
+        int ordered = (int) results.stream().filter(Result::ordered).count();
+
+        return new BulkSalesOrderResponse(results.size(), ordered, results.size() - ordered, results);
+    }
+
+    @Schema(description = "판매건별 처리 결과")
+    public record Result(
+
+            @Schema(description = "요청 목록 내 순번 (0부터)")
+            int index,
+
+            @Schema(description = "판매 식별자 ID (검증 실패 시 null, 재고 부족 시 생성 상태로 저장됨)")
+            Long salesOrderId,
+
+            @Schema(description = "주문 확정 여부")
+            boolean ordered,
+
+            @Schema(description = "실패 사유")
+            String message
+    ) {
+        public static Result ordered(int index, Long salesOrderId) {
+            return new Result(index, salesOrderId, true, null);
+        }
+
+        public static Result failed(int index, Long salesOrderId, String message) {
+            return new Result(index, salesOrderId, false, message);
+        }
+    }
+}
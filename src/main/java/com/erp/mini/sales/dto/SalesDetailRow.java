@@ -0,0 +1,71 @@
+package com.erp.mini.sales.dto;
+
+import com.erp.mini.sales.domain.SalesStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 판매 상세 단일 조회 결과 행 (헤더 + 라인, 라인이 없으면 라인 컬럼은 null)
+ * 생성자 / 수정자는 id 로 받아 UserNameCache 로 이름을 채운다.
+ */
+public record SalesDetailRow(
+        Long salesOrderId,
+        String partnerCode,
+        String partnerName,
+        String customerName,
+        String customerPhone,
+        String zipcode,
+        String address1,
+        String address2,
+        SalesStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long createdBy,
+        Long updatedBy,
+        Long lineId,
+        String itemCode,
+        String itemName,
+        String warehouseCode,
+        String warehouseName,
+        String warehouseLocation,
+        Long qty,
+        BigDecimal unitPrice,
+        BigDecimal totalCost
+) {
+    public boolean hasLine() {
+        return lineId != null;
+    }
+
+    public SalesHeaderDto toHeader(String createdByName, String updatedByName) {
+        return new SalesHeaderDto(
+                salesOrderId,
+                partnerCode,
+                partnerName,
+                customerName,
+                customerPhone,
+                zipcode,
+                address1,
+                address2,
+                status,
+                createdAt,
+                updatedAt,
+                createdByName,
+                updatedByName
+        );
+    }
+
+    public SalesLineDto toLine() {
+        return new SalesLineDto(
+                lineId,
+                itemCode,
+                itemName,
+                warehouseCode,
+                warehouseName,
+                warehouseLocation,
+                qty,
+                unitPrice,
+                totalCost
+        );
+    }
+}
@@ -1,11 +1,10 @@
 package com.erp.mini.sales.repo;
 
-import com.erp.mini.sales.dto.SalesHeaderDto;
-import com.erp.mini.sales.dto.SalesLineDto;
+import com.erp.mini.sales.dto.SalesDetailRow;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SalesOrderRepositoryCustom {
-    SalesHeaderDto getSalesDetailHeader(Long salesOrderId);
-    List<SalesLineDto> getSalesDetailLines(Long salesOrderId);
+    List<SalesDetailRow> getSalesDetailRows(Collection<Long> salesOrderIds);
 }
@@ -1,12 +1,11 @@
 package com.erp.mini.sales.repo;
 
-import com.erp.mini.sales.dto.SalesHeaderDto;
-import com.erp.mini.sales.dto.SalesLineDto;
-import com.erp.mini.user.domain.QUser;
+import com.erp.mini.sales.dto.SalesDetailRow;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.erp.mini.item.domain.QItem.item;
@@ -20,14 +19,12 @@ public class SalesOrderRepositoryImpl implements SalesOrderRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    // 헤더 + 라인을 한 번에 조회 (라인이 없는 주문도 헤더 1행), 주문 id / 라인 id 순
     @Override
-    public SalesHeaderDto getSalesDetailHeader(Long salesOrderId) {
-        QUser createdBy = new QUser("createdBy");
-        QUser updatedBy = new QUser("updatedBy");
-
+    public List<SalesDetailRow> getSalesDetailRows(Collection<Long> salesOrderIds) {
         return jpaQueryFactory
                 .select(Projections.constructor(
-                        SalesHeaderDto.class,
+                        SalesDetailRow.class,
                         salesOrder.id,
                         partner.code,
                         partner.name,
@@ -39,22 +36,8 @@ public class SalesOrderRepositoryImpl implements SalesOrderRepositoryCustom {
                         salesOrder.status,
                         salesOrder.createdAt,
                         salesOrder.updatedAt,
-                        createdBy.name,
-                        updatedBy.name
-                ))
-                .from(salesOrder)
-                .join(salesOrder.partner, partner)
-                .leftJoin(createdBy).on(createdBy.id.eq(salesOrder.createdBy))
-                .leftJoin(updatedBy).on(updatedBy.id.eq(salesOrder.updatedBy))
-                .where(salesOrder.id.eq(salesOrderId))
-                .fetchOne();
-    }
-
-    @Override
-    public List<SalesLineDto> getSalesDetailLines(Long salesOrderId) {
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        SalesLineDto.class,
+                        salesOrder.createdBy,
+                        salesOrder.updatedBy,
                         salesOrderLine.id,
                         item.code,
                         item.name,
@@ -65,10 +48,13 @@ public class SalesOrderRepositoryImpl implements SalesOrderRepositoryCustom {
                         salesOrderLine.unitPrice,
                         salesOrderLine.unitPrice.multiply(salesOrderLine.qty)
                 ))
-                .from(salesOrderLine)
-                .join(salesOrderLine.warehouse, warehouse)
-                .join(salesOrderLine.item, item)
-                .where(salesOrderLine.salesOrder.id.eq(salesOrderId))
+                .from(salesOrder)
+                .join(salesOrder.partner, partner)
+                .leftJoin(salesOrder.salesOrderLines, salesOrderLine)
+                .leftJoin(salesOrderLine.item, item)
+                .leftJoin(salesOrderLine.warehouse, warehouse)
+                .where(salesOrder.id.in(salesOrderIds))
+                .orderBy(salesOrder.id.asc(), salesOrderLine.id.asc())
                 .fetch();
     }
 }
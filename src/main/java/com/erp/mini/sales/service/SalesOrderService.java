@@ -1,10 +1,12 @@
 package com.erp.mini.sales.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
+import com.erp.mini.common.cache.UserNameCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
-import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.dto.ItemSnapshot;
 import com.erp.mini.item.repo.ItemRepository;
-import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.partner.dto.PartnerSnapshot;
 import com.erp.mini.partner.repo.PartnerRepository;
 import com.erp.mini.sales.domain.OrderCustomerInfo;
 import com.erp.mini.sales.domain.SalesOrder;
@@ -13,17 +15,26 @@ import com.erp.mini.sales.domain.ShippingAddress;
 import com.erp.mini.sales.dto.*;
 import com.erp.mini.sales.repo.SalesOrderRepository;
 import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.service.StockReservationService;
 import com.erp.mini.stock.service.StockService;
-import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.dto.WarehouseSnapshot;
 import com.erp.mini.warehouse.repo.WarehouseRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,57 +45,98 @@ public class SalesOrderService {
     private final SalesOrderRepository salesOrderRepository;
     private final PartnerRepository partnerRepository;
     private final StockService stockService;
+    private final MasterDataCache masterDataCache;
+    private final StockReservationService stockReservationService;
+    private final UserNameCache userNameCache;
+    private final Validator validator;
 
-    // 출고 생성
+    @Value("${erp.sales.detail.max-batch-size:100}")
+    private int maxDetailBatchSize;
+
+    // 출고 생성 (생성된 판매건 식별자 ID 반환)
     @Transactional
-    public void createSale(SalesOrderRequest request) {
-        Partner partner = partnerRepository.findById(request.partnerId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 거래처가 존재하지 않습니다."));
+    public Long createSale(SalesOrderRequest request) {
+        List<SalesOrderRequest> requests = List.of(request);
+
+        SalesOrder salesOrder = buildSalesOrder(
+                request,
+                masterDataCache.getPartners(List.of(request.partnerId())),
+                masterDataCache.getItems(collectItemIds(requests)),
+                masterDataCache.getWarehouses(collectWarehouseIds(requests))
+        );
 
-        partner.validateCustomer();
+        salesOrderRepository.save(salesOrder);
 
-        SalesOrder salesOrder = SalesOrder.createSalesOrder(
-                partner,
-                new OrderCustomerInfo(request.customerName(), request.customerPhone()),
-                new ShippingAddress(request.zipcode(), request.address1(), request.address2())
-        );
+        return salesOrder.getId();
+    }
 
-        Set<Long> itemIds = request.saleLines().stream()
-                .map(SalesOrderRequest.SaleLine::itemId)
-                .collect(Collectors.toSet());
+    // 출고 일괄 생성 + 주문 확정
+    // 기준 정보는 유형별로 한 번에 조회하고, 재고 차감은 전체 판매건을 합쳐 한 번에 처리
+    // 검증 실패 건은 저장하지 않고, 재고 부족 건은 생성 상태로 남겨 이후 개별 주문 가능
+    // 입력값 검증도 판매건별로 처리해 잘못된 판매건 하나로 전체 요청이 거절되지 않도록 함
+    @Transactional
+    public BulkSalesOrderResponse createAndOrderSales(BulkSalesOrderRequest request) {
+        List<SalesOrderRequest> requests = request.orders();
 
-        Set<Long> warehouseIds = request.saleLines().stream()
-                .map(SalesOrderRequest.SaleLine::warehouseId)
-                .collect(Collectors.toSet());
+        BulkSalesOrderResponse.Result[] results = new BulkSalesOrderResponse.Result[requests.size()];
+        List<SalesOrderRequest> validRequests = new ArrayList<>();
 
-        List<Item> itemList = itemRepository.findAllById(itemIds);
-        List<Warehouse> warehouseList = warehouseRepository.findAllById(warehouseIds);
+        for (int i = 0; i < requests.size(); i++) {
+            String violation = validate(requests.get(i));
 
-        Map<Long, Item> itemMap = itemList.stream()
-                .collect(Collectors.toMap(Item::getId, item -> item));
+            if (violation != null) {
+                results[i] = BulkSalesOrderResponse.Result.failed(i, null, violation);
+                continue;
+            }
 
-        if (itemMap.size() != itemIds.size()) {
-            throw new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 상품이 포함되어 있습니다.");
+            validRequests.add(requests.get(i));
         }
 
-        Map<Long, Warehouse> warehouseMap = warehouseList.stream()
-                .collect(Collectors.toMap(Warehouse::getId, warehouse -> warehouse));
+        Map<Long, PartnerSnapshot> partnerMap = masterDataCache.getPartners(validRequests.stream()
+                .map(SalesOrderRequest::partnerId)
+                .collect(Collectors.toSet()));
+        Map<Long, ItemSnapshot> itemMap = masterDataCache.getItems(collectItemIds(validRequests));
+        Map<Long, WarehouseSnapshot> warehouseMap = masterDataCache.getWarehouses(collectWarehouseIds(validRequests));
 
-        if (warehouseMap.size() != warehouseIds.size()) {
-            throw new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 창고가 포함되어 있습니다.");
+        Map<Integer, SalesOrder> salesOrderByIndex = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+
+            try {
+                salesOrderByIndex.put(i, buildSalesOrder(requests.get(i), partnerMap, itemMap, warehouseMap));
+            } catch (BusinessException e) {
+                results[i] = BulkSalesOrderResponse.Result.failed(i, null, e.getMessage());
+            }
         }
 
-        for (SalesOrderRequest.SaleLine saleLine : request.saleLines()) {
-            Item item = itemMap.get(saleLine.itemId());
-            Warehouse warehouse = warehouseMap.get(saleLine.warehouseId());
+        salesOrderRepository.saveAll(salesOrderByIndex.values());
 
-            item.ensureAvailable();
-            warehouse.ensureAvailable();
+        // 판매건별 라인을 모아 한 번의 재고 차감 (요청 순서대로 재고 배정)
+        Map<Long, Map<StockKey, Long>> lineMapBySalesOrderId = new LinkedHashMap<>();
 
-            salesOrder.addLine(item, warehouse, saleLine.qty(), saleLine.unitPrice());
+        for (SalesOrder salesOrder : salesOrderByIndex.values()) {
+            lineMapBySalesOrderId.put(salesOrder.getId(), toLineMap(salesOrder));
         }
 
-        salesOrderRepository.save(salesOrder);
+        Set<Long> rejectedIds = stockService.decreaseAll(lineMapBySalesOrderId);
+
+        for (var entry : salesOrderByIndex.entrySet()) {
+            int index = entry.getKey();
+            SalesOrder salesOrder = entry.getValue();
+
+            if (rejectedIds.contains(salesOrder.getId())) {
+                results[index] = BulkSalesOrderResponse.Result.failed(index, salesOrder.getId(), "수량이 부족합니다.");
+                continue;
+            }
+
+            salesOrder.markAsOrdered();
+            results[index] = BulkSalesOrderResponse.Result.ordered(index, salesOrder.getId());
+        }
+
+        return BulkSalesOrderResponse.of(List.of(results));
     }
 
     // 출고 항목 추가
@@ -93,18 +145,27 @@ public class SalesOrderService {
         SalesOrder salesOrder = salesOrderRepository.findByIdWithLines(salesOrderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 판매건이 존재하지 않습니다."));
 
-        Item item = itemRepository.findById(request.itemId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 상품이 존재하지 않습니다."));
+        ItemSnapshot item = masterDataCache.getItem(request.itemId());
+
+        if (item == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "해당 상품이 존재하지 않습니다.");
+        }
 
         item.ensureAvailable();
 
-        Warehouse warehouse = warehouseRepository.findById(request.warehouseId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 창고가 존재하지 않습니다."));
+        WarehouseSnapshot warehouse = masterDataCache.getWarehouse(request.warehouseId());
+
+        if (warehouse == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "해당 창고가 존재하지 않습니다.");
+        }
 
         warehouse.ensureAvailable();
 
         salesOrder.addLine(
-                item, warehouse, request.qty(), request.unitPrice()
+                itemRepository.getReferenceById(request.itemId()),
+                warehouseRepository.getReferenceById(request.warehouseId()),
+                request.qty(),
+                request.unitPrice()
         );
     }
 
@@ -126,14 +187,12 @@ public class SalesOrderService {
         // 재고 확인 등 DB I/O 이전 상태 검증
         salesOrder.availableOrder();
 
-        Map<StockKey, Long> lineMap = salesOrder.getSalesOrderLines().stream()
-                .collect(Collectors.toMap(
-                        l -> new StockKey(l.getItem().getId(), l.getWarehouse().getId()),
-                        SalesOrderLine::getQty,
-                        Long::sum
-                ));
-
-        stockService.decrease(lineMap, salesOrderId);
+        if (stockReservationService.isEnabled()) {
+            // Redis 가용 재고만 선차감하고 DB 재고는 비동기로 반영 (인기 상품 행 락 경합 회피)
+            stockReservationService.reserve(toLineMap(salesOrder), salesOrderId);
+        } else {
+            stockService.decrease(toLineMap(salesOrder), salesOrderId);
+        }
 
         // 상태 검증 및 상태 변경
         salesOrder.markAsOrdered();
@@ -146,32 +205,45 @@ public class SalesOrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 판매건이 존재하지 않습니다."));
 
         if (salesOrder.isOrdered()) {
-            Map<StockKey, Long> lineMap = salesOrder.getSalesOrderLines().stream()
-                    .collect(Collectors.toMap(
-                            l -> new StockKey(l.getItem().getId(), l.getWarehouse().getId()),
-                            SalesOrderLine::getQty,
-                            Long::sum
-                    ));
+            // DB 반영 전 예약이면 예약만 취소 (DB 재고는 아직 차감되지 않음)
+            boolean reservationCancelled = stockReservationService.isEnabled()
+                    && stockReservationService.cancel(salesOrderId);
 
-            stockService.restore(lineMap, salesOrderId);
+            if (!reservationCancelled) {
+                stockService.restore(toLineMap(salesOrder), salesOrderId);
+            }
         }
 
         salesOrder.cancel();
     }
 
-    // 상세 조회
+    // 상세 조회 (헤더 + 라인 한 번에 조회)
     @Transactional(readOnly = true)
     public SalesDetailResponse getSalesOrderDetail(Long salesOrderId) {
-        // 헤더 조회
-        SalesHeaderDto header = salesOrderRepository.getSalesDetailHeader(salesOrderId);
+        List<SalesDetailResponse> details = toDetails(
+                List.of(salesOrderId), salesOrderRepository.getSalesDetailRows(List.of(salesOrderId)));
 
-        if (header == null) {
+        if (details.isEmpty()) {
             throw new BusinessException(ErrorCode.NOT_FOUND, "해당 판매건이 존재하지 않습니다.");
         }
 
-        List<SalesLineDto> lines = salesOrderRepository.getSalesDetailLines(salesOrderId);
+        return details.get(0);
+    }
+
+    // 여러 건 상세 조회 (요청 순서대로, 존재하지 않는 판매건은 제외)
+    @Transactional(readOnly = true)
+    public List<SalesDetailResponse> getSalesOrderDetails(List<Long> salesOrderIds) {
+        List<Long> ids = salesOrderIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty() || ids.size() > maxDetailBatchSize) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "판매건은 1건 이상 " + maxDetailBatchSize + "건 이하로 조회할 수 있습니다.");
+        }
 
-        return new SalesDetailResponse(header, lines);
+        return toDetails(ids, salesOrderRepository.getSalesDetailRows(ids));
     }
 
     // 출고 완료
@@ -182,4 +254,117 @@ public class SalesOrderService {
 
         salesOrder.markAsShipped();
     }
+
+    // 주문별로 행을 묶어 헤더 1개 + 라인 목록으로 변환 (생성자 / 수정자 이름은 캐시에서 한 번에 조회)
+    private List<SalesDetailResponse> toDetails(List<Long> salesOrderIds, List<SalesDetailRow> rows) {
+        Map<Long, List<SalesDetailRow>> rowsByOrder = rows.stream()
+                .collect(Collectors.groupingBy(SalesDetailRow::salesOrderId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, String> userNames = userNameCache.getNames(rows.stream()
+                .flatMap(row -> Stream.of(row.createdBy(), row.updatedBy()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        return salesOrderIds.stream()
+                .map(rowsByOrder::get)
+                .filter(Objects::nonNull)
+                .map(orderRows -> {
+                    SalesDetailRow first = orderRows.get(0);
+
+                    return new SalesDetailResponse(
+                            first.toHeader(userNames.get(first.createdBy()), userNames.get(first.updatedBy())),
+                            orderRows.stream()
+                                    .filter(SalesDetailRow::hasLine)
+                                    .map(SalesDetailRow::toLine)
+                                    .toList()
+                    );
+                })
+                .toList();
+    }
+
+    // (itemId, warehouseId), qty 조합으로 Map 생성
+    private Map<StockKey, Long> toLineMap(SalesOrder salesOrder) {
+        return salesOrder.getSalesOrderLines().stream()
+                .collect(Collectors.toMap(
+                        l -> new StockKey(l.getItem().getId(), l.getWarehouse().getId()),
+                        SalesOrderLine::getQty,
+                        Long::sum
+                ));
+    }
+
+    // 판매건 입력값 검증 (실패 시 필드별 메시지, 통과 시 null)
+    private String validate(SalesOrderRequest request) {
+        if (request == null) {
+            return "판매건 정보는 필수입니다.";
+        }
+
+        Set<ConstraintViolation<SalesOrderRequest>> violations = validator.validate(request);
+
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    private Set<Long> collectItemIds(List<SalesOrderRequest> requests) {
+        return requests.stream()
+                .flatMap(r -> r.saleLines().stream())
+                .map(SalesOrderRequest.SaleLine::itemId)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Long> collectWarehouseIds(List<SalesOrderRequest> requests) {
+        return requests.stream()
+                .flatMap(r -> r.saleLines().stream())
+                .map(SalesOrderRequest.SaleLine::warehouseId)
+                .collect(Collectors.toSet());
+    }
+
+    // 캐시 스냅샷으로 검증 후 판매건 구성 (연관관계에는 FK만 필요하므로 reference 사용)
+    private SalesOrder buildSalesOrder(
+            SalesOrderRequest request,
+            Map<Long, PartnerSnapshot> partnerMap,
+            Map<Long, ItemSnapshot> itemMap,
+            Map<Long, WarehouseSnapshot> warehouseMap
+    ) {
+        PartnerSnapshot partnerSnapshot = partnerMap.get(request.partnerId());
+
+        if (partnerSnapshot == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "해당 거래처가 존재하지 않습니다.");
+        }
+
+        partnerSnapshot.validateCustomer();
+
+        SalesOrder salesOrder = SalesOrder.createSalesOrder(
+                partnerRepository.getReferenceById(request.partnerId()),
+                new OrderCustomerInfo(request.customerName(), request.customerPhone()),
+                new ShippingAddress(request.zipcode(), request.address1(), request.address2())
+        );
+
+        if (request.saleLines().stream().anyMatch(line -> !itemMap.containsKey(line.itemId()))) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 상품이 포함되어 있습니다.");
+        }
+
+        if (request.saleLines().stream().anyMatch(line -> !warehouseMap.containsKey(line.warehouseId()))) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 창고가 포함되어 있습니다.");
+        }
+
+        for (SalesOrderRequest.SaleLine saleLine : request.saleLines()) {
+            itemMap.get(saleLine.itemId()).ensureAvailable();
+            warehouseMap.get(saleLine.warehouseId()).ensureAvailable();
+
+            salesOrder.addLine(
+                    itemRepository.getReferenceById(saleLine.itemId()),
+                    warehouseRepository.getReferenceById(saleLine.warehouseId()),
+                    saleLine.qty(),
+                    saleLine.unitPrice()
+            );
+        }
+
+        return salesOrder;
+    }
 }
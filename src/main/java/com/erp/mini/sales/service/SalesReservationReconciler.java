@@ -0,0 +1,188 @@
+package com.erp.mini.sales.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.security.CustomUserDetails;
+import com.erp.mini.common.security.SecurityContextUtil;
+import com.erp.mini.sales.domain.SalesOrder;
+import com.erp.mini.sales.domain.SalesStatus;
+import com.erp.mini.sales.repo.SalesOrderRepository;
+import com.erp.mini.stock.dto.StockReservation;
+import com.erp.mini.stock.repo.StockReservationRedisRepository;
+import com.erp.mini.stock.service.StockService;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 에 선차감된 판매 예약을 stocks / inventory_transactions 에 반영
+ * 반영 대기열에서 한 건씩 꺼내 StockService.decreaseReserved 로 처리한다. (판매건 단위 트랜잭션)
+ *
+ * 여러 노드가 떠 있어도 Redis 담당 노드 락(SET NX PX)을 잡은 노드만 반영과 복구를 수행한다.
+ * - 담당 노드가 바뀌면 이전 담당 노드가 반영 중이던 예약을 대기열로 되돌려 재처리
+ * - 락 만료 후 이전 담당 노드가 같은 예약을 처리하더라도 decreaseReserved 의 반영 이력 PK 로 한 번만 반영됨
+ * - 대기/취소 중 예약은 다른 노드의 트랜잭션이 진행 중일 수 있으므로, 복구 주기 두 번 연속 같은 상태일 때만 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "erp.stock.reservation.enabled", havingValue = "true")
+public class SalesReservationReconciler {
+
+    private final StockReservationRedisRepository stockReservationRedisRepository;
+    private final StockService stockService;
+    private final SalesOrderRepository salesOrderRepository;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 담당 노드 여부와 이전 복구 주기에 정리 대상으로 보였던 예약 (스케줄 스레드에서만 접근)
+    private boolean leader;
+    private Set<Long> suspectPendingIds = Set.of();
+    private Set<Long> suspectCancellingIds = Set.of();
+
+    @Value("${erp.stock.reservation.reconcile-batch-size:500}")
+    private int batchSize;
+
+    // 반영 한 건보다 충분히 길어야 함 (한 건 처리마다 연장)
+    @Value("${erp.stock.reservation.leader-lease-ms:30000}")
+    private long leaderLeaseMs;
+
+    @Scheduled(fixedDelayString = "${erp.stock.reservation.reconcile-interval-ms:200}")
+    public synchronized int reconcile() {
+        int processed = 0;
+
+        while (processed < batchSize && acquireLeader()) {
+            Long salesOrderId = stockReservationRedisRepository.poll();
+
+            if (salesOrderId == null) {
+                break;
+            }
+
+            // 대기열에 남아 있어도 이미 취소된 예약이면 null
+            String payload = stockReservationRedisRepository.claim(salesOrderId);
+
+            if (payload == null) {
+                continue;
+            }
+
+            StockReservation reservation = StockReservation.decode(salesOrderId, payload);
+            processed++;
+
+            try {
+                SecurityContextUtil.runAs(
+                        new CustomUserDetails(reservation.userId(), null, null, true),
+                        () -> stockService.decreaseReserved(reservation.lineMap(), salesOrderId)
+                );
+
+                stockReservationRedisRepository.complete(salesOrderId);
+            } catch (BusinessException e) {
+                // 카운터와 DB 재고가 어긋난 경우 (재시도해도 같은 결과이므로 실패로 분리)
+                log.error("예약 재고 반영 실패 salesOrderId={} message={}", salesOrderId, e.getMessage());
+                stockReservationRedisRepository.fail(salesOrderId);
+            } catch (RuntimeException e) {
+                // DB 연결 등 일시적인 오류는 다음 주기에 재시도
+                log.warn("예약 재고 반영 지연 salesOrderId={}", salesOrderId, e);
+                stockReservationRedisRepository.requeue(salesOrderId);
+                break;
+            }
+        }
+
+        return processed;
+    }
+
+    /**
+     * 트랜잭션 도중 종료된 노드가 남긴 예약 정리 (담당 노드만 수행)
+     * 진행 중인 트랜잭션의 예약과 구분하기 위해 이전 주기에도 같은 상태였던 예약만 처리하므로,
+     * 주기는 주문/취소 트랜잭션 최대 시간보다 길어야 한다.
+     */
+    @Scheduled(fixedDelayString = "${erp.stock.reservation.recover-interval-ms:60000}")
+    public synchronized void recover() {
+        if (!acquireLeader()) {
+            return;
+        }
+
+        // 취소가 커밋되었으면 수량 복구 (중복 복구는 무시됨), 아니면 취소 트랜잭션이 롤백된 것으로 보고 대기로 되돌림
+        Set<Long> cancellingIds = stockReservationRedisRepository.getCancellingIds();
+        Map<Long, SalesStatus> cancellingStatus = findStatuses(cancellingIds);
+        Set<Long> nextSuspectCancellingIds = new HashSet<>();
+
+        for (Long salesOrderId : cancellingIds) {
+            if (cancellingStatus.get(salesOrderId) == SalesStatus.CANCELLED) {
+                stockReservationRedisRepository.releaseCancelling(salesOrderId);
+            } else if (suspectCancellingIds.contains(salesOrderId)) {
+                stockReservationRedisRepository.restoreCancelling(salesOrderId);
+            } else {
+                nextSuspectCancellingIds.add(salesOrderId);
+            }
+        }
+
+        // 주문이 커밋되었는데 대기열 추가 전에 종료된 예약은 대기열에 추가 (대기열 중복은 claim 에서 걸러짐)
+        // 주문 트랜잭션이 롤백되었는데 복구되지 못한 예약은 수량 복구
+        Set<Long> pendingIds = stockReservationRedisRepository.getPendingIds();
+        Map<Long, SalesStatus> pendingStatus = findStatuses(pendingIds);
+        Set<Long> nextSuspectPendingIds = new HashSet<>();
+
+        for (Long salesOrderId : pendingIds) {
+            if (!suspectPendingIds.contains(salesOrderId)) {
+                nextSuspectPendingIds.add(salesOrderId);
+                continue;
+            }
+
+            SalesStatus status = pendingStatus.get(salesOrderId);
+
+            if (status == SalesStatus.ORDERED || status == SalesStatus.SHIPPED) {
+                stockReservationRedisRepository.enqueue(salesOrderId);
+            } else {
+                stockReservationRedisRepository.releasePending(salesOrderId);
+            }
+        }
+
+        suspectCancellingIds = nextSuspectCancellingIds;
+        suspectPendingIds = nextSuspectPendingIds;
+    }
+
+    @PreDestroy
+    public synchronized void releaseLeader() {
+        if (leader) {
+            stockReservationRedisRepository.releaseLeader(nodeId);
+            leader = false;
+        }
+    }
+
+    // 담당 노드 획득 또는 연장, 새로 담당하게 되면 이전 담당 노드가 반영 중이던 예약을 대기열로 되돌림
+    private boolean acquireLeader() {
+        boolean acquired = stockReservationRedisRepository.acquireLeader(nodeId, leaderLeaseMs);
+
+        if (acquired && !leader) {
+            suspectPendingIds = Set.of();
+            suspectCancellingIds = Set.of();
+
+            long queued = stockReservationRedisRepository.requeueProcessing();
+
+            if (queued > 0) {
+                log.info("예약 재고 반영 대기열 복구 count={}", queued);
+            }
+        }
+
+        leader = acquired;
+        return acquired;
+    }
+
+    private Map<Long, SalesStatus> findStatuses(Set<Long> salesOrderIds) {
+        if (salesOrderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return salesOrderRepository.findAllById(salesOrderIds).stream()
+                .collect(Collectors.toMap(SalesOrder::getId, SalesOrder::getStatus));
+    }
+}
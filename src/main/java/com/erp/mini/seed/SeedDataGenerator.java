@@ -0,0 +1,408 @@
+package com.erp.mini.seed;
+
+import com.erp.mini.item.service.ItemCodeBlockReserver;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기
+ * 상품 / 창고 / 거래처, 재고, 판매 주문 / 라인, 재고 이력, 상품별 재고 요약을 다중 행 INSERT 로 적재한다.
+ *
+ * 재고 이력과 재고 수량이 맞도록 다음 순서로 생성한다.
+ * 1. 판매 주문을 범위별로 나눠 여러 스레드에서 생성하면서 재고 행별 출고 / 취소 입고 수량을 누적
+ * 2. 재고마다 기초 재고(ADJUST) = 누적 출고량 + 여유 수량으로 두고, 재고 수량 = 여유 수량 + 취소 입고량으로 저장
+ * 따라서 (상품, 창고)별 이력 합계 = 재고 수량이며, 기초 재고가 모든 출고보다 먼저 기록되어 수량이 음수가 되는 시점도 없다.
+ *
+ * AUTO_INCREMENT 테이블은 현재 최대 id 다음부터 직접 id 를 지정하므로 서비스 트래픽이 없는 DB 에서 실행한다.
+ * (stocks / sales_order_lines 는 id_generators 에서 구간을 예약)
+ *
+ * 과거 일자 이력을 만들므로 재고 스냅샷이 이미 마감된 DB 에서는 실행하지 않는다. (마감된 일자에 이력이 추가되어 스냅샷과 어긋남)
+ * 생성한 재고의 가용 재고 카운터는 삭제해 다음 예약 시 DB 수량으로 다시 적재되도록 한다. (이전 데이터의 카운터가 남아 있는 경우 대비)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeedDataGenerator {
+
+    private static final int MAX_LINE_QTY = 10;
+    private static final int MAX_SURPLUS_QTY = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ItemCodeBlockReserver itemCodeBlockReserver;
+    private final StockReservationService stockReservationService;
+
+    public void generate(SeedDataShape shape) {
+        if (shape.stocks() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("재고 행 수가 너무 많습니다: " + shape.stocks());
+        }
+
+        LocalDate lastClosedDate = jdbcTemplate.queryForObject(
+                "select last_closed_date from stock_snapshot_progress where id = 1", LocalDate.class);
+
+        if (lastClosedDate != null) {
+            throw new IllegalStateException("재고 스냅샷이 마감된 DB 에는 데이터를 생성할 수 없습니다. last_closed_date=" + lastClosedDate);
+        }
+
+        long started = System.currentTimeMillis();
+        Context context = new Context(shape);
+
+        log.info("데이터 생성 시작 shape={}", shape);
+
+        run("상품", shape.items(), shape, (from, to, random) -> insertItems(context, from, to));
+        run("창고", shape.warehouses(), shape, (from, to, random) -> insertWarehouses(context, from, to));
+        run("거래처", shape.customers() + shape.suppliers(), shape, (from, to, random) -> insertPartners(context, from, to));
+        run("판매 주문", shape.salesOrders(), shape, (from, to, random) -> insertSalesOrders(context, from, to, random));
+        run("재고", (int) shape.stocks(), shape, (from, to, random) -> insertStocks(context, from, to, random));
+
+        jdbcTemplate.update("""
+                insert into item_stock_summary (item_id, total_qty)
+                select item_id, sum(qty) from stocks where item_id between ? and ? group by item_id
+                """, context.itemBase, context.itemBase + shape.items() - 1);
+
+        log.info("데이터 생성 완료 stocks={}, salesOrders={}, salesOrderLines={}, inventoryTransactions={}, elapsed={}ms",
+                shape.stocks(), shape.salesOrders(), context.lineCount.get(), context.transactionCount.get(),
+                System.currentTimeMillis() - started);
+    }
+
+    private void insertItems(Context context, int from, int to) {
+        MultiRowInserter items = context.inserter("items",
+                List.of("id", "name", "code", "base_price", "status", "created_by", "updated_by"));
+
+        for (int i = from; i < to; i++) {
+            items.add(context.itemBase + i, "상품-" + i, String.format("IC%06d", context.itemCodeBase + i),
+                    context.price(i), "ACTIVE", context.createdBy, context.createdBy);
+        }
+
+        items.flush();
+    }
+
+    private void insertWarehouses(Context context, int from, int to) {
+        MultiRowInserter warehouses = context.inserter("warehouses",
+                List.of("id", "name", "code", "location", "status", "created_by", "updated_by"));
+
+        for (int i = from; i < to; i++) {
+            long id = context.warehouseBase + i;
+            warehouses.add(id, "창고-" + i, String.format("WH%06d", id), "생성 주소 " + i,
+                    "ACTIVE", context.createdBy, context.createdBy);
+        }
+
+        warehouses.flush();
+    }
+
+    // [0, customers) 고객사, 이후 공급처
+    private void insertPartners(Context context, int from, int to) {
+        MultiRowInserter partners = context.inserter("partners",
+                List.of("id", "name", "code", "type", "phone", "email", "created_by", "updated_by"));
+
+        for (int i = from; i < to; i++) {
+            long id = context.partnerBase + i;
+            boolean customer = i < context.shape.customers();
+
+            partners.add(id, (customer ? "고객사-" : "공급처-") + i, String.format(customer ? "CUS%06d" : "SUP%06d", id),
+                    customer ? "CUSTOMER" : "SUPPLIER", String.format("010-%04d-%04d", i / 10000 % 10000, i % 10000),
+                    "partner" + i + "@example.com", context.createdBy, context.createdBy);
+        }
+
+        partners.flush();
+    }
+
+    private void insertSalesOrders(Context context, int from, int to, SplittableRandom random) {
+        SeedDataShape shape = context.shape;
+        int maxLines = (int) Math.min(shape.maxLinesPerOrder(), shape.stocks());
+        int[] chosen = new int[maxLines];
+
+        MultiRowInserter orders = context.inserter("sales_orders", List.of(
+                "id", "customer_id", "status", "customer_name", "customer_phone", "zipcode", "address1", "address2",
+                "created_by", "updated_by", "created_at", "updated_at"));
+        MultiRowInserter lines = context.inserter("sales_order_lines",
+                List.of("id", "sales_order_id", "item_id", "warehouse_id", "qty", "unit_price"));
+        MultiRowInserter transactions = context.transactionInserter();
+
+        for (int i = from; i < to; i++) {
+            long orderId = context.orderBase + i;
+            int customer = random.nextInt(shape.customers());
+            String status = status(random);
+            LocalDateTime createdAt = context.windowStart.plusSeconds(random.nextLong(context.windowSeconds));
+            Timestamp orderedAt = Timestamp.valueOf(createdAt);
+
+            orders.add(orderId, context.partnerBase + customer, status, "고객-" + customer,
+                    String.format("010-%04d-%04d", customer / 10000 % 10000, customer % 10000),
+                    String.format("%05d", customer % 100000), "생성 주소 " + customer, "상세 주소 " + i,
+                    context.createdBy, context.createdBy, orderedAt, orderedAt);
+
+            int lineCount = 1 + random.nextInt(maxLines);
+
+            for (int l = 0; l < lineCount; l++) {
+                int stock = distinctStock(random, chosen, l, (int) shape.stocks());
+                long qty = 1 + random.nextInt(MAX_LINE_QTY);
+                int itemIndex = context.itemIndex(stock);
+                long itemId = context.itemBase + itemIndex;
+                long warehouseId = context.warehouseId(stock);
+
+                lines.add(context.lineIds.getAndIncrement(), orderId, itemId, warehouseId, qty, context.price(itemIndex));
+
+                // CREATED 는 재고 차감 전
+                if (status.equals("CREATED")) {
+                    continue;
+                }
+
+                context.outbound.addAndGet(stock, qty);
+                transactions.add(itemId, warehouseId, "OUTBOUND", -qty, "SALES_ORDER", orderId, null,
+                        context.createdBy, Timestamp.valueOf(createdAt.plusMinutes(1)));
+
+                if (status.equals("CANCELLED")) {
+                    context.returned.addAndGet(stock, qty);
+                    transactions.add(itemId, warehouseId, "INBOUND", qty, "SALES_ORDER", orderId, null,
+                            context.createdBy, Timestamp.valueOf(createdAt.plusHours(1)));
+                }
+            }
+
+            context.lineCount.addAndGet(lineCount);
+
+            // 라인이 참조하는 주문을 먼저 반영
+            if (orders.isFull() || lines.isFull()) {
+                orders.flush();
+                lines.flush();
+            }
+
+            if (transactions.isFull()) {
+                context.transactionCount.addAndGet(transactions.size());
+                transactions.flush();
+            }
+        }
+
+        orders.flush();
+        lines.flush();
+        context.transactionCount.addAndGet(transactions.size());
+        transactions.flush();
+    }
+
+    private void insertStocks(Context context, int from, int to, SplittableRandom random) {
+        MultiRowInserter stocks = context.inserter("stocks",
+                List.of("id", "item_id", "warehouse_id", "qty", "created_by", "updated_by", "created_at", "updated_at"));
+        MultiRowInserter transactions = context.transactionInserter();
+        Timestamp openedAt = Timestamp.valueOf(context.windowStart.minusDays(1));
+        List<StockKey> keys = new ArrayList<>();
+
+        for (int s = from; s < to; s++) {
+            long itemId = context.itemBase + context.itemIndex(s);
+            long warehouseId = context.warehouseId(s);
+            long surplus = 1 + random.nextInt(MAX_SURPLUS_QTY);
+            long opening = context.outbound.get(s) + surplus;
+
+            stocks.add(context.stockBase + s, itemId, warehouseId, surplus + context.returned.get(s),
+                    context.createdBy, context.createdBy, openedAt, openedAt);
+            transactions.add(itemId, warehouseId, "ADJUST", opening, null, null, "기초 재고 (생성 데이터)",
+                    context.createdBy, openedAt);
+            keys.add(new StockKey(itemId, warehouseId));
+
+            if (stocks.isFull()) {
+                stocks.flush();
+                stockReservationService.evictCounters(keys);
+                keys.clear();
+            }
+
+            if (transactions.isFull()) {
+                context.transactionCount.addAndGet(transactions.size());
+                transactions.flush();
+            }
+        }
+
+        stocks.flush();
+        stockReservationService.evictCounters(keys);
+        context.transactionCount.addAndGet(transactions.size());
+        transactions.flush();
+    }
+
+    // CREATED 10%, CANCELLED 10%, ORDERED 20%, SHIPPED 60%
+    private static String status(SplittableRandom random) {
+        int r = random.nextInt(10);
+
+        if (r == 0) {
+            return "CREATED";
+        }
+
+        if (r == 1) {
+            return "CANCELLED";
+        }
+
+        return r < 4 ? "ORDERED" : "SHIPPED";
+    }
+
+    // 한 주문 안에서 (상품, 창고)가 겹치지 않도록 선택 (uq_sales_ordr_lines_sales_order_item_warehouse)
+    private static int distinctStock(SplittableRandom random, int[] chosen, int count, int stocks) {
+        while (true) {
+            int candidate = random.nextInt(stocks);
+            boolean duplicated = false;
+
+            for (int i = 0; i < count; i++) {
+                if (chosen[i] == candidate) {
+                    duplicated = true;
+                    break;
+                }
+            }
+
+            if (!duplicated) {
+                chosen[count] = candidate;
+                return candidate;
+            }
+        }
+    }
+
+    // [0, total) 을 스레드 수만큼 나눠 병렬 실행
+    private void run(String name, int total, SeedDataShape shape, RangeTask task) {
+        if (total == 0) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        int threads = Math.min(shape.threads(), total);
+        int size = (total + threads - 1) / threads;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int from = 0; from < total; from += size) {
+                int start = from;
+                int end = Math.min(total, from + size);
+                SplittableRandom random = new SplittableRandom(shape.seed() * 31 + name.hashCode() + start);
+
+                futures.add(executor.submit(() -> task.run(start, end, random)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(name + " 생성에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("{} {}건 생성 elapsed={}ms", name, total, System.currentTimeMillis() - started);
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return max + 1;
+    }
+
+    // id_generators 에서 size 만큼의 구간을 예약하고 시작 값 반환 (JPA pooled-lo 생성기와 겹치지 않음)
+    private long reserveIds(String sequenceName, long size) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Long start = jdbcTemplate.queryForObject(
+                    "select next_val from id_generators where sequence_name = ? for update", Long.class, sequenceName);
+
+            jdbcTemplate.update("update id_generators set next_val = next_val + ? where sequence_name = ?",
+                    size, sequenceName);
+
+            return start;
+        });
+    }
+
+    private long findCreatedBy() {
+        List<Long> ids = jdbcTemplate.queryForList("select id from users order by id limit 1", Long.class);
+
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("작업자로 사용할 사용자가 없습니다. 사용자를 먼저 등록하세요.");
+        }
+
+        return ids.get(0);
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(int from, int to, SplittableRandom random);
+    }
+
+    // 생성 중 공유 상태 (id 시작 값, 재고 행별 누적 수량)
+    private final class Context {
+
+        private final SeedDataShape shape;
+        private final long createdBy;
+
+        private final long itemBase;
+        private final long itemCodeBase;
+        private final long warehouseBase;
+        private final long partnerBase;
+        private final long orderBase;
+        private final long stockBase;
+        private final AtomicLong lineIds;
+
+        private final LocalDateTime windowStart;
+        private final long windowSeconds;
+
+        private final AtomicLongArray outbound;
+        private final AtomicLongArray returned;
+        private final AtomicLong lineCount = new AtomicLong();
+        private final AtomicLong transactionCount = new AtomicLong();
+
+        private Context(SeedDataShape shape) {
+            this.shape = shape;
+            this.createdBy = findCreatedBy();
+
+            this.itemBase = nextId("items");
+            this.itemCodeBase = itemCodeBlockReserver.reserve(shape.items());
+            this.warehouseBase = nextId("warehouses");
+            this.partnerBase = nextId("partners");
+            this.orderBase = nextId("sales_orders");
+            this.stockBase = reserveIds("stocks", shape.stocks());
+            this.lineIds = new AtomicLong(reserveIds("sales_order_lines", (long) shape.salesOrders() * shape.maxLinesPerOrder()));
+
+            this.windowStart = LocalDate.now().minusDays(shape.days()).atStartOfDay();
+            // 취소 입고(주문 + 1시간)까지 오늘 0시 이전에 들어오도록 마지막 1시간은 제외
+            this.windowSeconds = (long) shape.days() * 24 * 60 * 60 - 60 * 60;
+
+            this.outbound = new AtomicLongArray((int) shape.stocks());
+            this.returned = new AtomicLongArray((int) shape.stocks());
+        }
+
+        private MultiRowInserter inserter(String table, List<String> columns) {
+            return new MultiRowInserter(jdbcTemplate, table, columns, shape.rowsPerInsert());
+        }
+
+        private MultiRowInserter transactionInserter() {
+            return inserter("inventory_transactions", List.of(
+                    "item_id", "warehouse_id", "type", "qty_delta", "ref_type", "ref_id", "reason",
+                    "created_by", "created_at"));
+        }
+
+        private BigDecimal price(int itemIndex) {
+            return BigDecimal.valueOf(1000 + (itemIndex % 100) * 100L);
+        }
+
+        private int itemIndex(int stock) {
+            return stock / shape.warehousesPerItem();
+        }
+
+        // 상품마다 연속된 창고 warehousesPerItem 개 (상품마다 시작 창고를 한 칸씩 이동)
+        private long warehouseId(int stock) {
+            return warehouseBase + (itemIndex(stock) + stock % shape.warehousesPerItem()) % shape.warehouses();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.erp.mini.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 데이터 생성 실행 (부하 테스트용)
+ * ./gradlew bootRun --args='--spring.profiles.active=local,seed'
+ * 형태 변경: --erp.seed.generator.sales-orders=5000000 등 인자로 덮어쓰기
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "erp.seed.generator.enabled", havingValue = "true")
+public class SeedDataGeneratorRunner implements ApplicationRunner {
+
+    private final SeedDataGenerator seedDataGenerator;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${erp.seed.generator.items:100000}")
+    private int items;
+
+    @Value("${erp.seed.generator.warehouses:100}")
+    private int warehouses;
+
+    @Value("${erp.seed.generator.customers:5000}")
+    private int customers;
+
+    @Value("${erp.seed.generator.suppliers:500}")
+    private int suppliers;
+
+    @Value("${erp.seed.generator.warehouses-per-item:10}")
+    private int warehousesPerItem;
+
+    @Value("${erp.seed.generator.sales-orders:1000000}")
+    private int salesOrders;
+
+    @Value("${erp.seed.generator.max-lines-per-order:5}")
+    private int maxLinesPerOrder;
+
+    @Value("${erp.seed.generator.days:90}")
+    private int days;
+
+    @Value("${erp.seed.generator.threads:4}")
+    private int threads;
+
+    @Value("${erp.seed.generator.rows-per-insert:1000}")
+    private int rowsPerInsert;
+
+    @Value("${erp.seed.generator.seed:42}")
+    private long seed;
+
+    @Value("${erp.seed.generator.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seedDataGenerator.generate(new SeedDataShape(
+                items, warehouses, customers, suppliers, warehousesPerItem,
+                salesOrders, maxLinesPerOrder, days, threads, rowsPerInsert, seed));
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
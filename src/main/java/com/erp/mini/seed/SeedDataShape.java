@@ -0,0 +1,49 @@
+package com.erp.mini.seed;
+
+/**
+ * 대량 생성 데이터 형태
+ * 재고 행 수 = items * warehousesPerItem, 판매 라인 수 = salesOrders * (1 ~ maxLinesPerOrder)
+ *
+ * @param items             상품 수
+ * @param warehouses        창고 수
+ * @param customers         고객사 수
+ * @param suppliers         공급처 수
+ * @param warehousesPerItem 상품마다 재고를 두는 창고 수
+ * @param salesOrders       판매 주문 수
+ * @param maxLinesPerOrder  판매 주문당 최대 라인 수
+ * @param days              판매 주문 생성 시각을 분산할 기간 (오늘 기준 과거 일수)
+ * @param threads           생성 스레드 수
+ * @param rowsPerInsert     INSERT 한 문장에 담을 행 수
+ * @param seed              난수 시드 (같은 값이면 같은 형태의 데이터)
+ */
+public record SeedDataShape(
+        int items,
+        int warehouses,
+        int customers,
+        int suppliers,
+        int warehousesPerItem,
+        int salesOrders,
+        int maxLinesPerOrder,
+        int days,
+        int threads,
+        int rowsPerInsert,
+        long seed
+) {
+    public SeedDataShape {
+        if (items < 1 || warehouses < 1 || customers < 1 || suppliers < 0 || salesOrders < 0) {
+            throw new IllegalArgumentException("상품 / 창고 / 고객사 수는 1 이상이어야 합니다.");
+        }
+
+        if (warehousesPerItem < 1 || warehousesPerItem > warehouses) {
+            throw new IllegalArgumentException("warehousesPerItem 은 1 이상, 창고 수 이하여야 합니다.");
+        }
+
+        if (maxLinesPerOrder < 1 || days < 1 || threads < 1 || rowsPerInsert < 1) {
+            throw new IllegalArgumentException("maxLinesPerOrder / days / threads / rowsPerInsert 는 1 이상이어야 합니다.");
+        }
+    }
+
+    public long stocks() {
+        return (long) items * warehousesPerItem;
+    }
+}
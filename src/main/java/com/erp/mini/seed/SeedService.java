@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.erp.mini.common.security.CustomUserDetails;
+import com.erp.mini.common.security.SecurityContextUtil;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.item.domain.ItemStatus;
 import com.erp.mini.item.repo.ItemRepository;
@@ -3,8 +3,13 @@ package com.erp.mini.stock.controller;
 import com.erp.mini.common.response.CustomResponse;
 import com.erp.mini.stock.dto.AdjustStockRequest;
 import com.erp.mini.stock.dto.ItemStockResponse;
+import com.erp.mini.stock.dto.ItemStockSliceResponse;
+import com.erp.mini.stock.dto.ItemStockSummaryDto;
+import com.erp.mini.stock.dto.StockHistoryResponse;
 import com.erp.mini.stock.dto.WarehouseStockResponse;
+import com.erp.mini.stock.dto.WarehouseStockSliceResponse;
 import com.erp.mini.stock.service.StockService;
+import com.erp.mini.stock.service.StockSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -13,9 +18,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/stock")
@@ -23,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class StockController {
 
     private final StockService stockService;
+    private final StockSnapshotService stockSnapshotService;
 
     // 재고 조정
     @Operation(summary = "재고 조정", description = "재고를 조정한다.")
@@ -36,6 +46,36 @@ public class StockController {
         return CustomResponse.ok();
     }
 
+    // 상품별 총 재고 일괄 조회
+    @Operation(summary = "상품별 총 재고 일괄 조회", description = "여러 상품의 전체 창고 재고 합계를 한 번에 조회한다. (최대 1000개)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<CustomResponse<List<ItemStockSummaryDto>>> getItemStockSummaries(
+            @RequestParam List<Long> itemIds
+    ) {
+        List<ItemStockSummaryDto> response = stockService.getItemStockSummaries(itemIds);
+
+        return CustomResponse.ok(response);
+    }
+
+    // 특정 일자 재고 조회
+    @Operation(summary = "특정 일자 재고 조회", description = "특정 상품/창고의 해당 일자 종료 시점 재고를 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/history")
+    public ResponseEntity<CustomResponse<StockHistoryResponse>> getStockHistory(
+            @RequestParam Long itemId,
+            @RequestParam Long warehouseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        StockHistoryResponse response = stockSnapshotService.getStockAt(itemId, warehouseId, date);
+
+        return CustomResponse.ok(response);
+    }
+
     // 특정 상품 재고 조회
     @Operation(summary = "특정 상품 재고 조회", description = "특정 상품의 재고 현황을 조회한다.")
     @ApiResponses({
@@ -54,6 +94,24 @@ public class StockController {
         return CustomResponse.ok(response);
     }
 
+    // 특정 상품 재고 조회 (슬라이스)
+    @Operation(summary = "특정 상품 재고 조회 (슬라이스)", description = "전체 건수 없이 특정 상품의 재고 현황을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/item/{itemId}/slice")
+    public ResponseEntity<CustomResponse<ItemStockSliceResponse>> getItemStockSlice(
+            @PathVariable Long itemId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        ItemStockSliceResponse response = stockService.getItemStockSlice(itemId, pageable);
+
+        return CustomResponse.ok(response);
+    }
+
     // 창고별 재고 조회
     @Operation(summary = "특정 창고 재고 조회", description = "특정 창고의 재고 현황을 조회한다.")
     @ApiResponses({
@@ -71,4 +129,22 @@ public class StockController {
 
         return CustomResponse.ok(response);
     }
+
+    // 창고별 재고 조회 (슬라이스)
+    @Operation(summary = "특정 창고 재고 조회 (슬라이스)", description = "전체 건수 없이 특정 창고의 재고 현황을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/warehouse/{warehouseId}/slice")
+    public ResponseEntity<CustomResponse<WarehouseStockSliceResponse>> getWarehouseStockSlice(
+            @PathVariable Long warehouseId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        WarehouseStockSliceResponse response = stockService.getWarehouseStockSlice(warehouseId, pageable);
+
+        return CustomResponse.ok(response);
+    }
 }
@@ -21,7 +21,16 @@ import lombok.NoArgsConstructor;
 public class Stock extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert batching 이 불가능하므로 테이블 기반 pooled-lo 생성기 사용 (100개 단위 예약)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "stock_id_generator")
+    @TableGenerator(
+            name = "stock_id_generator",
+            table = "id_generators",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "stocks",
+            allocationSize = 100
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
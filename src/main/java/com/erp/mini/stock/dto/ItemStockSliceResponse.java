@@ -0,0 +1,14 @@
+package com.erp.mini.stock.dto;
+
+import com.erp.mini.common.response.SliceResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품별 재고 조회 응답 (슬라이스)")
+public record ItemStockSliceResponse(
+        @Schema(description = "상품 정보")
+        ItemInfoDto itemInfo,
+
+        @Schema(description = "상품별 재고 현황")
+        SliceResponse<ItemStockInfoDto> itemStockInfos
+) {
+}
@@ -0,0 +1,14 @@
+package com.erp.mini.stock.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품별 총 재고")
+public record ItemStockSummaryDto(
+
+        @Schema(description = "상품 식별자 ID")
+        Long itemId,
+
+        @Schema(description = "전체 창고 재고 합계")
+        long totalQty
+) {
+}
@@ -0,0 +1,14 @@
+package com.erp.mini.stock.dto;
+
+import java.util.Map;
+
+/**
+ * 묶음 반영 대기 중인 요청 1건 (라인 수량은 항상 양수, 증감 방향은 type 으로 구분)
+ */
+public record StockDelta(
+        StockDeltaType type,
+        Map<StockKey, Long> lineMap,
+        Long refId,
+        Long userId
+) {
+}
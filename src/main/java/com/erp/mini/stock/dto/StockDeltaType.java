@@ -0,0 +1,14 @@
+package com.erp.mini.stock.dto;
+
+/**
+ * 묶음 반영(StockDeltaCombiner) 대상 재고 증감 종류
+ */
+public enum StockDeltaType {
+    PURCHASE_INBOUND,       // 구매 입고 (재고가 없으면 생성)
+    SALES_OUTBOUND,         // 판매 출고
+    CANCEL_SALES_INBOUND;   // 판매 취소 복구
+
+    public boolean isDecrease() {
+        return this == SALES_OUTBOUND;
+    }
+}
@@ -0,0 +1,22 @@
+package com.erp.mini.stock.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "특정 일자 재고 (해당 일자 종료 시점)")
+public record StockHistoryResponse(
+
+        @Schema(description = "상품 식별자 ID")
+        Long itemId,
+
+        @Schema(description = "창고 식별자 ID")
+        Long warehouseId,
+
+        @Schema(description = "조회 일자")
+        LocalDate date,
+
+        @Schema(description = "해당 일자 종료 시점 수량")
+        long qty
+) {
+}
@@ -0,0 +1,42 @@
+package com.erp.mini.stock.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Redis 에 선차감된 판매 예약 건
+ * Redis 에는 "userId|itemId:warehouseId=qty;..." 형식의 문자열로 저장 (Lua 스크립트에서도 같은 형식으로 파싱)
+ */
+public record StockReservation(
+        Long salesOrderId,
+        Long userId,
+        Map<StockKey, Long> lineMap
+) {
+
+    public String encode() {
+        StringJoiner lines = new StringJoiner(";");
+        lineMap.forEach((key, qty) -> lines.add(key.getItemId() + ":" + key.getWarehouseId() + "=" + qty));
+
+        return userId + "|" + lines;
+    }
+
+    public static StockReservation decode(Long salesOrderId, String payload) {
+        int separator = payload.indexOf('|');
+        Long userId = Long.valueOf(payload.substring(0, separator));
+
+        Map<StockKey, Long> lineMap = new LinkedHashMap<>();
+
+        for (String line : payload.substring(separator + 1).split(";")) {
+            int colon = line.indexOf(':');
+            int equals = line.indexOf('=');
+
+            lineMap.put(
+                    new StockKey(Long.valueOf(line.substring(0, colon)), Long.valueOf(line.substring(colon + 1, equals))),
+                    Long.valueOf(line.substring(equals + 1))
+            );
+        }
+
+        return new StockReservation(salesOrderId, userId, lineMap);
+    }
+}
@@ -0,0 +1,14 @@
+package com.erp.mini.stock.dto;
+
+import com.erp.mini.common.response.SliceResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "창고별 재고 조회 응답 (슬라이스)")
+public record WarehouseStockSliceResponse(
+        @Schema(description = "창고 정보")
+        WarehouseInfoDto warehouseInfo,
+
+        @Schema(description = "창고별 재고 현황")
+        SliceResponse<WarehouseStockInfoDto> warehouseStockInfos
+) {
+}
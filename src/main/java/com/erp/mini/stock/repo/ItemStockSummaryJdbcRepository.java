@@ -0,0 +1,67 @@
+package com.erp.mini.stock.repo;
+
+import com.erp.mini.stock.dto.ItemStockSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품별 총 재고 요약(item_stock_summary) 갱신/조회
+ * 재고 변경과 같은 트랜잭션에서 증감분만 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemStockSummaryJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            insert into item_stock_summary (item_id, total_qty)
+            values (:itemId, :delta) as new
+            on duplicate key update total_qty = item_stock_summary.total_qty + new.total_qty
+            """;
+
+    private static final String SELECT_SQL = """
+            select item_id, total_qty
+            from item_stock_summary
+            where item_id in (:itemIds)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 상품 id 순서로 갱신하여 요약 행 잠금 순서를 고정 (데드락 방지)
+    public void applyDeltas(Map<Long, Long> deltaByItemId) {
+        Map<Long, Long> sorted = new TreeMap<>(deltaByItemId);
+        sorted.values().removeIf(delta -> delta == 0);
+
+        if (sorted.isEmpty()) {
+            return;
+        }
+
+        List<MapSqlParameterSource> params = new ArrayList<>(sorted.size());
+
+        sorted.forEach((itemId, delta) -> params.add(new MapSqlParameterSource()
+                .addValue("itemId", itemId)
+                .addValue("delta", delta)));
+
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_SQL, params.toArray(new MapSqlParameterSource[0]));
+    }
+
+    // 요약 행이 없는 상품(재고 이력 없음)은 결과에 포함되지 않음
+    public List<ItemStockSummaryDto> findByItemIds(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.query(
+                SELECT_SQL,
+                new MapSqlParameterSource("itemIds", itemIds),
+                (rs, rowNum) -> new ItemStockSummaryDto(rs.getLong("item_id"), rs.getLong("total_qty"))
+        );
+    }
+}
@@ -0,0 +1,113 @@
+package com.erp.mini.stock.repo;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.stock.dto.StockKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 재고 수량 JDBC 직접 갱신
+ * 엔티티를 조회/잠금하지 않고 조건부 UPDATE 한 번으로 검증과 차감을 처리한다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 해당 Stock 엔티티를 함께 다루면 안 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockJdbcRepository {
+
+    private static final String DECREASE_SQL = """
+            update stocks
+            set qty = qty - ?, updated_by = ?
+            where item_id = ? and warehouse_id = ? and qty >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<Long> auditorAware;
+
+    /**
+     * 수량이 충분한 재고만 차감 (keys 순서대로 실행되므로 정렬된 key 를 전달해야 잠금 순서가 유지됨)
+     * 반환값은 key 별 변경 행 수이며, 0 이면 재고가 없거나 수량이 부족한 경우
+     */
+    public int[] decreaseIfSufficient(List<StockKey> sortedKeys, Map<StockKey, Long> lineMap) {
+        Long updatedBy = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "작업자 정보를 확인할 수 없습니다."));
+
+        return decreaseIfSufficient(sortedKeys, lineMap, updatedBy);
+    }
+
+    public int[] decreaseIfSufficient(List<StockKey> sortedKeys, Map<StockKey, Long> lineMap, Long updatedBy) {
+        int[][] counts = jdbcTemplate.batchUpdate(DECREASE_SQL, sortedKeys, sortedKeys.size(), (ps, key) -> {
+            long qty = lineMap.get(key);
+
+            ps.setLong(1, qty);
+            ps.setLong(2, updatedBy);
+            ps.setLong(3, key.getItemId());
+            ps.setLong(4, key.getWarehouseId());
+            ps.setLong(5, qty);
+        });
+
+        return counts.length == 0 ? new int[0] : counts[0];
+    }
+
+    /**
+     * 판매건의 예약 재고 반영 이력 기록 (PK 충돌 시 false, 이미 반영되었거나 다른 트랜잭션이 반영 중)
+     * 먼저 INSERT 한 트랜잭션이 끝날 때까지 대기하므로 같은 판매건이 동시에 두 번 반영되지 않는다.
+     */
+    public boolean markReservationApplied(Long salesOrderId) {
+        try {
+            jdbcTemplate.update(
+                    "insert into stock_reservation_applies (sales_order_id, applied_at) values (?, now(6))",
+                    salesOrderId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // key 별 현재 수량을 잠금 조회 (정렬된 key 전달, 재고가 없는 key 는 결과에 포함되지 않음)
+    public Map<StockKey, Long> findQtyByKeysForUpdate(List<StockKey> keys) {
+        Map<StockKey, Long> qtyMap = new HashMap<>();
+
+        if (keys.isEmpty()) {
+            return qtyMap;
+        }
+
+        String placeholders = keys.stream()
+                .map(key -> "(?, ?)")
+                .collect(Collectors.joining(", "));
+
+        Object[] params = keys.stream()
+                .flatMap(key -> Stream.of(key.getItemId(), key.getWarehouseId()))
+                .toArray();
+
+        jdbcTemplate.query(
+                "select item_id, warehouse_id, qty from stocks where (item_id, warehouse_id) in (" + placeholders + ")"
+                        + " order by item_id, warehouse_id for update",
+                rs -> {
+                    qtyMap.put(new StockKey(rs.getLong("item_id"), rs.getLong("warehouse_id")), rs.getLong("qty"));
+                },
+                params
+        );
+
+        return qtyMap;
+    }
+
+    public boolean exists(StockKey key) {
+        List<Integer> found = jdbcTemplate.queryForList(
+                "select 1 from stocks where item_id = ? and warehouse_id = ?",
+                Integer.class,
+                key.getItemId(), key.getWarehouseId()
+        );
+
+        return !found.isEmpty();
+    }
+}
@@ -4,15 +4,18 @@ import com.erp.mini.stock.domain.Stock;
 import com.erp.mini.stock.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface StockRepositoryCustom {
     ItemInfoDto getItemInfo(Long itemId);
     Page<ItemStockInfoDto> getItemStockInfo(Long itemId, Pageable pageable);
+    Slice<ItemStockInfoDto> getItemStockInfoSlice(Long itemId, Pageable pageable);
 
     WarehouseInfoDto getWarehouseInfo(Long warehouseId);
     Page<WarehouseStockInfoDto> getWarehouseStockInfo(Long warehouseId, Pageable pageable);
+    Slice<WarehouseStockInfoDto> getWarehouseStockInfoSlice(Long warehouseId, Pageable pageable);
 
     List<Stock> findAllByKeysForUpdate(List<StockKey> keys);
 }
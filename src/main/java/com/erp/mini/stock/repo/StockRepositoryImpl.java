@@ -1,16 +1,21 @@
 package com.erp.mini.stock.repo;
 
+import com.erp.mini.common.util.SliceUtil;
 import com.erp.mini.stock.domain.Stock;
 import com.erp.mini.stock.dto.*;
-import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.erp.mini.item.domain.QItem.item;
@@ -20,7 +25,11 @@ import static com.erp.mini.warehouse.domain.QWarehouse.warehouse;
 @RequiredArgsConstructor
 public class StockRepositoryImpl implements StockRepositoryCustom {
 
+    // 한 번의 잠금 조회에 포함할 최대 (item_id, warehouse_id) 쌍 수
+    private static final int LOCK_CHUNK_SIZE = 100;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
 
     @Override
     public ItemInfoDto getItemInfo(Long itemId) {
@@ -39,29 +48,30 @@ public class StockRepositoryImpl implements StockRepositoryCustom {
 
     @Override
     public Page<ItemStockInfoDto> getItemStockInfo(Long itemId, Pageable pageable) {
-        List<ItemStockInfoDto> contents = queryFactory
-                .select(Projections.constructor(
-                        ItemStockInfoDto.class,
-                        warehouse.id,
-                        warehouse.name,
-                        warehouse.code,
-                        warehouse.status,
-                        stock.qty
-                ))
-                .from(stock)
-                .join(stock.warehouse, warehouse)
-                .where(stock.item.id.eq(itemId))
+        List<ItemStockInfoDto> contents = itemStockInfoQuery(itemId)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        Long count = queryFactory
+        JPAQuery<Long> countQuery = queryFactory
                 .select(stock.count())
                 .from(stock)
-                .where(stock.item.id.eq(itemId))
-                .fetchOne();
+                .where(stock.item.id.eq(itemId));
+
+        return PageableExecutionUtils.getPage(contents, pageable, () -> {
+            Long count = countQuery.fetchOne();
+            return count == null ? 0 : count;
+        });
+    }
+
+    @Override
+    public Slice<ItemStockInfoDto> getItemStockInfoSlice(Long itemId, Pageable pageable) {
+        List<ItemStockInfoDto> contents = itemStockInfoQuery(itemId)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        return new PageImpl<>(contents, pageable, count == null ? 0 : count);
+        return SliceUtil.toSlice(contents, pageable);
     }
 
     @Override
@@ -82,30 +92,30 @@ public class StockRepositoryImpl implements StockRepositoryCustom {
 
     @Override
     public Page<WarehouseStockInfoDto> getWarehouseStockInfo(Long warehouseId, Pageable pageable) {
-        List<WarehouseStockInfoDto> contents = queryFactory
-                .select(Projections.constructor(
-                        WarehouseStockInfoDto.class,
-                        item.id,
-                        item.name,
-                        item.code,
-                        item.basePrice,
-                        item.status,
-                        stock.qty
-                ))
-                .from(stock)
-                .join(stock.item, item)
-                .where(stock.warehouse.id.eq(warehouseId))
+        List<WarehouseStockInfoDto> contents = warehouseStockInfoQuery(warehouseId)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        Long count = queryFactory
+        JPAQuery<Long> countQuery = queryFactory
                 .select(stock.count())
                 .from(stock)
-                .where(stock.warehouse.id.eq(warehouseId))
-                .fetchOne();
+                .where(stock.warehouse.id.eq(warehouseId));
+
+        return PageableExecutionUtils.getPage(contents, pageable, () -> {
+            Long count = countQuery.fetchOne();
+            return count == null ? 0 : count;
+        });
+    }
+
+    @Override
+    public Slice<WarehouseStockInfoDto> getWarehouseStockInfoSlice(Long warehouseId, Pageable pageable) {
+        List<WarehouseStockInfoDto> contents = warehouseStockInfoQuery(warehouseId)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
 
-        return new PageImpl<>(contents, pageable, count == null ? 0 : count);
+        return SliceUtil.toSlice(contents, pageable);
     }
 
     @Override
@@ -114,20 +124,85 @@ public class StockRepositoryImpl implements StockRepositoryCustom {
             return List.of();
         }
 
-        BooleanBuilder builder = new BooleanBuilder();
+        // 잠금 순서가 (item_id, warehouse_id) 오름차순이 되도록 정렬 (호출 측 정렬과 무관하게 보장)
+        List<StockKey> sortedKeys = keys.stream()
+                .distinct()
+                .sorted(Comparator
+                        .comparing(StockKey::getItemId)
+                        .thenComparing(StockKey::getWarehouseId))
+                .toList();
+
+        List<Stock> result = new ArrayList<>(sortedKeys.size());
+
+        // 청크도 정렬 순서대로 실행하므로 전체 잠금 순서는 유지됨
+        for (int from = 0; from < sortedKeys.size(); from += LOCK_CHUNK_SIZE) {
+            List<StockKey> chunk = sortedKeys.subList(from, Math.min(from + LOCK_CHUNK_SIZE, sortedKeys.size()));
+            result.addAll(lockChunk(chunk));
+        }
+
+        return result;
+    }
+
+    // row constructor IN 으로 uq_stocks_item_warehouse 의 해당 레코드만 잠금
+    // (OR 조건 나열 대비 SQL 길이가 짧고, 청크 크기가 같으면 동일한 SQL 형태가 재사용됨)
+    @SuppressWarnings("unchecked")
+    private List<Stock> lockChunk(List<StockKey> chunk) {
+        StringBuilder sql = new StringBuilder("""
+                select s.*
+                from stocks s
+                where (s.item_id, s.warehouse_id) in (""");
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("(?").append(i * 2 + 1).append(", ?").append(i * 2 + 2).append(")");
+        }
+
+        sql.append(") order by s.item_id, s.warehouse_id for update");
+
+        Query query = em.createNativeQuery(sql.toString(), Stock.class);
 
-        for (StockKey key : keys) {
-            builder.or(
-                    stock.item.id.eq(key.getItemId())
-                            .and(stock.warehouse.id.eq(key.getWarehouseId()))
-            );
+        for (int i = 0; i < chunk.size(); i++) {
+            query.setParameter(i * 2 + 1, chunk.get(i).getItemId());
+            query.setParameter(i * 2 + 2, chunk.get(i).getWarehouseId());
         }
 
+        return query.getResultList();
+    }
+
+    // offset 페이징 결과가 매번 같도록 (item_id, warehouse_id) 인덱스 순서로 정렬
+    private JPAQuery<ItemStockInfoDto> itemStockInfoQuery(Long itemId) {
         return queryFactory
-                .selectFrom(stock)
-                .where(builder)
-                .orderBy(stock.item.id.asc(), stock.warehouse.id.asc())
-                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
-                .fetch();
+                .select(Projections.constructor(
+                        ItemStockInfoDto.class,
+                        warehouse.id,
+                        warehouse.name,
+                        warehouse.code,
+                        warehouse.status,
+                        stock.qty
+                ))
+                .from(stock)
+                .join(stock.warehouse, warehouse)
+                .where(stock.item.id.eq(itemId))
+                .orderBy(stock.warehouse.id.asc());
+    }
+
+    private JPAQuery<WarehouseStockInfoDto> warehouseStockInfoQuery(Long warehouseId) {
+        return queryFactory
+                .select(Projections.constructor(
+                        WarehouseStockInfoDto.class,
+                        item.id,
+                        item.name,
+                        item.code,
+                        item.basePrice,
+                        item.status,
+                        stock.qty
+                ))
+                .from(stock)
+                .join(stock.item, item)
+                .where(stock.warehouse.id.eq(warehouseId))
+                .orderBy(stock.id.asc());
     }
 }
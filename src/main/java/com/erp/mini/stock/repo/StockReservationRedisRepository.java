@@ -0,0 +1,286 @@
+package com.erp.mini.stock.repo;
+
+import com.erp.mini.stock.dto.StockKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 가용 재고(ATP) 카운터와 판매 예약 상태 저장소
+ *
+ * stock:atp:{itemId}:{warehouseId}   가용 재고 카운터
+ * stock:reservation:pending          DB 반영 대기 예약 (salesOrderId -> payload)
+ * stock:reservation:processing       DB 반영 중인 예약
+ * stock:reservation:cancelling       취소 트랜잭션이 진행 중인 예약
+ * stock:reservation:failed           DB 반영 실패 예약 (수동 확인 필요)
+ * stock:reservation:queue            DB 반영 순서 (salesOrderId 목록)
+ * stock:reservation:leader           DB 반영 담당 노드 (노드 ID, 만료 시간 있음)
+ *
+ * 예약 상태 이동은 모두 Lua 스크립트로 원자적으로 처리한다.
+ * release 스크립트는 payload 에서 카운터 key 를 만들어 사용하므로 단일 노드 Redis 를 전제로 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRedisRepository {
+
+    private static final String ATP_KEY_PREFIX = "stock:atp:";
+    private static final String PENDING_KEY = "stock:reservation:pending";
+    private static final String PROCESSING_KEY = "stock:reservation:processing";
+    private static final String CANCELLING_KEY = "stock:reservation:cancelling";
+    private static final String FAILED_KEY = "stock:reservation:failed";
+    private static final String QUEUE_KEY = "stock:reservation:queue";
+    private static final String LEADER_KEY = "stock:reservation:leader";
+
+    // 앞의 n개 key 수량 확인 후 한 번에 차감 (i: i번째 key 부족, -i: i번째 key 미적재 시 차감 없이 반환)
+    private static final String CHECK_AND_DECREASE = """
+            for i = 1, n do
+                local available = redis.call('GET', KEYS[i])
+                if not available then
+                    return -i
+                end
+                if tonumber(available) < tonumber(ARGV[i]) then
+                    return i
+                end
+            end
+            for i = 1, n do
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+            end
+            """;
+
+    // 전체 라인 수량 확인 후 한 번에 차감하고 예약 등록 (0: 성공, i: i번째 key 부족, -i: i번째 key 미적재)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1\n" + CHECK_AND_DECREASE + """
+            redis.call('HSET', KEYS[n + 1], ARGV[n + 1], ARGV[n + 2])
+            return 0
+            """, Long.class);
+
+    // 예약 등록 없이 전체 라인 수량 확인 후 한 번에 차감 (반환값은 예약과 동일)
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS\n" + CHECK_AND_DECREASE + "return 0\n", Long.class);
+
+    // 적재된 카운터에만 증감 반영 (미적재 key 는 다음 예약 시 DB 값으로 적재됨)
+    private static final RedisScript<Long> APPLY_DELTA_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // 예약을 다른 상태로 이동 (KEYS[3] 이 있으면 반영 대기열 뒤에 추가)
+    private static final RedisScript<String> MOVE_SCRIPT = new DefaultRedisScript<>("""
+            local payload = redis.call('HGET', KEYS[1], ARGV[1])
+            if not payload then
+                return false
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[1], payload)
+            if KEYS[3] then
+                redis.call('RPUSH', KEYS[3], ARGV[1])
+            end
+            return payload
+            """, String.class);
+
+    // 예약 제거 후 선차감 수량을 카운터에 되돌림
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local payload = redis.call('HGET', KEYS[1], ARGV[1])
+            if not payload then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            for item, warehouse, qty in string.gmatch(payload, '(%d+):(%d+)=(%d+)') do
+                redis.call('INCRBY', ARGV[2] .. item .. ':' .. warehouse, qty)
+            end
+            return 1
+            """, Long.class);
+
+    // 반영 중이던 예약을 모두 대기 상태로 되돌리고 반영 대기열 뒤에 추가
+    private static final RedisScript<Long> REQUEUE_PROCESSING_SCRIPT = new DefaultRedisScript<>("""
+            local processing = redis.call('HGETALL', KEYS[2])
+            for i = 1, #processing, 2 do
+                redis.call('HSET', KEYS[1], processing[i], processing[i + 1])
+                redis.call('RPUSH', KEYS[3], processing[i])
+            end
+            redis.call('DEL', KEYS[2])
+            return #processing / 2
+            """, Long.class);
+
+    // 담당 노드 획득 또는 연장 (이미 담당 중이면 만료 시간만 연장)
+    private static final RedisScript<Long> ACQUIRE_LEADER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 담당 중인 노드일 때만 해제
+    private static final RedisScript<Long> RELEASE_LEADER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 정렬된 key 순서로 가용 재고 확인 및 차감 후 예약 등록
+     *
+     * @return 0 성공, 양수 i 는 i번째 key 수량 부족, 음수 -i 는 i번째 key 카운터 미적재
+     */
+    public long reserve(List<StockKey> sortedKeys, Map<StockKey, Long> lineMap, Long salesOrderId, String payload) {
+        List<String> keys = new ArrayList<>(sortedKeys.size() + 1);
+        List<String> args = new ArrayList<>(sortedKeys.size() + 2);
+
+        for (StockKey key : sortedKeys) {
+            keys.add(atpKey(key));
+            args.add(String.valueOf(lineMap.get(key)));
+        }
+
+        keys.add(PENDING_KEY);
+        args.add(String.valueOf(salesOrderId));
+        args.add(payload);
+
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * 정렬된 key 순서로 가용 재고 확인 및 차감 (예약을 거치지 않는 판매 출고용)
+     *
+     * @return 0 성공, 양수 i 는 i번째 key 수량 부족, 음수 -i 는 i번째 key 카운터 미적재
+     */
+    public long consume(List<StockKey> sortedKeys, Map<StockKey, Long> lineMap) {
+        List<String> keys = sortedKeys.stream().map(StockReservationRedisRepository::atpKey).toList();
+        Object[] args = sortedKeys.stream().map(key -> String.valueOf(lineMap.get(key))).toArray();
+
+        Long result = redisTemplate.execute(CONSUME_SCRIPT, keys, args);
+        return result != null ? result : 0L;
+    }
+
+    // 카운터가 없을 때만 DB 수량으로 적재 (동시 적재 시 먼저 적재된 값 유지)
+    public void initIfAbsent(StockKey key, long qty) {
+        redisTemplate.opsForValue().setIfAbsent(atpKey(key), String.valueOf(qty));
+    }
+
+    public void applyDeltas(List<StockKey> sortedKeys, Map<StockKey, Long> deltaMap) {
+        List<String> keys = sortedKeys.stream().map(StockReservationRedisRepository::atpKey).toList();
+        Object[] args = sortedKeys.stream().map(key -> String.valueOf(deltaMap.get(key))).toArray();
+
+        redisTemplate.execute(APPLY_DELTA_SCRIPT, keys, args);
+    }
+
+    public void deleteCounters(List<StockKey> keys) {
+        redisTemplate.delete(keys.stream().map(StockReservationRedisRepository::atpKey).toList());
+    }
+
+    public Long getAvailable(StockKey key) {
+        String value = redisTemplate.opsForValue().get(atpKey(key));
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    public void enqueue(Long salesOrderId) {
+        redisTemplate.opsForList().rightPush(QUEUE_KEY, String.valueOf(salesOrderId));
+    }
+
+    public Long poll() {
+        String value = redisTemplate.opsForList().leftPop(QUEUE_KEY);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    // 대기 -> 반영 중 (이미 취소되었거나 다른 곳에서 가져갔으면 null)
+    public String claim(Long salesOrderId) {
+        return move(PENDING_KEY, PROCESSING_KEY, null, salesOrderId);
+    }
+
+    public void complete(Long salesOrderId) {
+        redisTemplate.opsForHash().delete(PROCESSING_KEY, String.valueOf(salesOrderId));
+    }
+
+    // 반영 중 -> 대기 (일시적인 오류로 다음 주기에 재시도)
+    public void requeue(Long salesOrderId) {
+        move(PROCESSING_KEY, PENDING_KEY, QUEUE_KEY, salesOrderId);
+    }
+
+    // 반영 중 -> 실패
+    public void fail(Long salesOrderId) {
+        move(PROCESSING_KEY, FAILED_KEY, null, salesOrderId);
+    }
+
+    // 대기 -> 취소 중 (DB 반영 전인 예약만 가능)
+    public boolean markCancelling(Long salesOrderId) {
+        return move(PENDING_KEY, CANCELLING_KEY, null, salesOrderId) != null;
+    }
+
+    // 취소 중 -> 대기 (취소 트랜잭션 롤백)
+    public void restoreCancelling(Long salesOrderId) {
+        move(CANCELLING_KEY, PENDING_KEY, QUEUE_KEY, salesOrderId);
+    }
+
+    public void releasePending(Long salesOrderId) {
+        release(PENDING_KEY, salesOrderId);
+    }
+
+    public void releaseCancelling(Long salesOrderId) {
+        release(CANCELLING_KEY, salesOrderId);
+    }
+
+    public Set<Long> getPendingIds() {
+        return getIds(PENDING_KEY);
+    }
+
+    public Set<Long> getCancellingIds() {
+        return getIds(CANCELLING_KEY);
+    }
+
+    // 반영 중 예약을 모두 대기로 되돌리고 대기열에 추가 (담당 노드가 바뀌었을 때 이전 담당 노드의 처리분 복구용)
+    public long requeueProcessing() {
+        Long count = redisTemplate.execute(REQUEUE_PROCESSING_SCRIPT, List.of(PENDING_KEY, PROCESSING_KEY, QUEUE_KEY));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * DB 반영 담당 노드 획득 (SET NX PX)
+     * 이미 담당 중인 노드가 호출하면 만료 시간을 연장하고, 다른 노드가 담당 중이면 false
+     */
+    public boolean acquireLeader(String nodeId, long leaseMs) {
+        Long result = redisTemplate.execute(ACQUIRE_LEADER_SCRIPT, List.of(LEADER_KEY), nodeId, String.valueOf(leaseMs));
+        return result != null && result == 1L;
+    }
+
+    public void releaseLeader(String nodeId) {
+        redisTemplate.execute(RELEASE_LEADER_SCRIPT, List.of(LEADER_KEY), nodeId);
+    }
+
+    private String move(String from, String to, String queue, Long salesOrderId) {
+        List<String> keys = queue != null ? List.of(from, to, queue) : List.of(from, to);
+        return redisTemplate.execute(MOVE_SCRIPT, keys, String.valueOf(salesOrderId));
+    }
+
+    private void release(String from, Long salesOrderId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(from), String.valueOf(salesOrderId), ATP_KEY_PREFIX);
+    }
+
+    private Set<Long> getIds(String hashKey) {
+        return redisTemplate.opsForHash().keys(hashKey).stream()
+                .map(id -> Long.valueOf((String) id))
+                .collect(Collectors.toSet());
+    }
+
+    private static String atpKey(StockKey key) {
+        return ATP_KEY_PREFIX + key.getItemId() + ":" + key.getWarehouseId();
+    }
+}
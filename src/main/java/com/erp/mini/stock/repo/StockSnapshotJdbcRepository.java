@@ -0,0 +1,156 @@
+package com.erp.mini.stock.repo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일자별 재고 스냅샷(stock_daily_snapshots) 마감/조회
+ * 스냅샷은 그날 변동이 있었던 재고만 저장하므로, 특정 일자 수량은 그 일자 이하 가장 가까운 스냅샷이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockSnapshotJdbcRepository {
+
+    private static final String SELECT_PROGRESS_SQL = """
+            select last_closed_date
+            from stock_snapshot_progress
+            where id = 1
+            """;
+
+    private static final String LOCK_PROGRESS_SQL = SELECT_PROGRESS_SQL + " for update";
+
+    private static final String UPDATE_PROGRESS_SQL = """
+            update stock_snapshot_progress
+            set last_closed_date = :date
+            where id = 1
+            """;
+
+    private static final String FIRST_TRANSACTION_SQL = """
+            select min(created_at)
+            from inventory_transactions
+            """;
+
+    // 하루치 이력만 (created_at) 인덱스 범위로 읽어 직전 스냅샷에 더한다 (같은 일자 재실행 시 같은 결과로 덮어씀)
+    // INSERT ... SELECT 는 행 별칭(as new)을 쓸 수 없으므로 파생 테이블 컬럼을 참조
+    private static final String ROLL_FORWARD_SQL = """
+            insert into stock_daily_snapshots (item_id, warehouse_id, snapshot_date, qty)
+            select * from (
+                select d.item_id, d.warehouse_id, :date as snapshot_date,
+                       coalesce((
+                           select s.qty
+                           from stock_daily_snapshots s
+                           where s.item_id = d.item_id
+                             and s.warehouse_id = d.warehouse_id
+                             and s.snapshot_date < :date
+                           order by s.snapshot_date desc
+                           limit 1
+                       ), 0) + d.delta as closed_qty
+                from (
+                    select item_id, warehouse_id, sum(qty_delta) as delta
+                    from inventory_transactions
+                    where created_at >= :from
+                      and created_at < :to
+                    group by item_id, warehouse_id
+                ) d
+            ) as new
+            on duplicate key update qty = new.closed_qty
+            """;
+
+    private static final String SELECT_SNAPSHOT_SQL = """
+            select qty
+            from stock_daily_snapshots
+            where item_id = :itemId
+              and warehouse_id = :warehouseId
+              and snapshot_date <= :date
+            order by snapshot_date desc
+            limit 1
+            """;
+
+    // (item_id, warehouse_id, created_at) 인덱스 범위 조회
+    private static final String SUM_DELTA_SQL = """
+            select coalesce(sum(qty_delta), 0)
+            from inventory_transactions
+            where item_id = :itemId
+              and warehouse_id = :warehouseId
+              and created_at < :to
+            """;
+
+    private static final String SUM_DELTA_FROM_SQL = SUM_DELTA_SQL + " and created_at >= :from";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Optional<LocalDate> findLastClosedDate() {
+        return queryDate(SELECT_PROGRESS_SQL);
+    }
+
+    // 마감 작업 동시 실행 방지 (트랜잭션 안에서 호출)
+    public Optional<LocalDate> lockLastClosedDate() {
+        return queryDate(LOCK_PROGRESS_SQL);
+    }
+
+    public void updateLastClosedDate(LocalDate date) {
+        namedParameterJdbcTemplate.update(UPDATE_PROGRESS_SQL, new MapSqlParameterSource("date", Date.valueOf(date)));
+    }
+
+    public Optional<LocalDate> findFirstTransactionDate() {
+        Timestamp first = namedParameterJdbcTemplate.queryForObject(
+                FIRST_TRANSACTION_SQL, new MapSqlParameterSource(), Timestamp.class);
+
+        return Optional.ofNullable(first).map(ts -> ts.toLocalDateTime().toLocalDate());
+    }
+
+    // 해당 일자에 변동이 있었던 재고의 마감 수량 저장, 저장된 행 수 반환
+    public int rollForward(LocalDate date) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("date", Date.valueOf(date))
+                .addValue("from", Timestamp.valueOf(date.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+
+        return namedParameterJdbcTemplate.update(ROLL_FORWARD_SQL, params);
+    }
+
+    public Optional<Long> findSnapshotQty(Long itemId, Long warehouseId, LocalDate date) {
+        List<Long> result = namedParameterJdbcTemplate.queryForList(
+                SELECT_SNAPSHOT_SQL,
+                new MapSqlParameterSource()
+                        .addValue("itemId", itemId)
+                        .addValue("warehouseId", warehouseId)
+                        .addValue("date", Date.valueOf(date)),
+                Long.class
+        );
+
+        return result.stream().findFirst();
+    }
+
+    // [from, to) 구간 이력 합계 (from 이 null 이면 처음부터)
+    public long sumDelta(Long itemId, Long warehouseId, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("itemId", itemId)
+                .addValue("warehouseId", warehouseId)
+                .addValue("to", Timestamp.valueOf(to));
+
+        if (from != null) {
+            params.addValue("from", Timestamp.valueOf(from));
+        }
+
+        Long sum = namedParameterJdbcTemplate.queryForObject(
+                from == null ? SUM_DELTA_SQL : SUM_DELTA_FROM_SQL, params, Long.class);
+
+        return sum == null ? 0L : sum;
+    }
+
+    private Optional<LocalDate> queryDate(String sql) {
+        Date date = namedParameterJdbcTemplate.queryForObject(sql, new MapSqlParameterSource(), Date.class);
+
+        return Optional.ofNullable(date).map(Date::toLocalDate);
+    }
+}
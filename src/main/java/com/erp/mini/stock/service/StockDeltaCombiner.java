@@ -0,0 +1,330 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.common.security.CustomUserDetails;
+import com.erp.mini.common.security.SecurityContextUtil;
+import com.erp.mini.stock.dto.StockDelta;
+import com.erp.mini.stock.dto.StockDeltaType;
+import com.erp.mini.stock.dto.StockKey;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 상품 재고 증감 묶음 반영 (group commit)
+ * 요청마다 트랜잭션을 열어 같은 stocks 행을 잠그는 대신, 짧은 시간(window) 동안 도착한 요청을 모아
+ * StockDeltaWriter 로 한 번에 반영하고 요청별 결과(재고 부족 포함)로 각 호출자를 깨운다.
+ * 같은 key 조합의 요청은 같은 worker 로 모이므로 단일 행 처리량이 락 왕복 횟수가 아닌 묶음 크기에 비례한다.
+ *
+ * 묶음은 호출자와 별도 트랜잭션으로 커밋되므로, 재고 메서드가 트랜잭션을 새로 시작한 경우(다른 변경과 함께 커밋되지 않는 경우)에만
+ * 묶음으로 보낸다. 바깥 트랜잭션에 참여한 호출은 기존 경로로 처리해 호출 트랜잭션과 함께 커밋/롤백되도록 한다.
+ * 시간 초과 시 worker 가 아직 가져가지 않은 요청만 취소하고, 이미 묶음에 들어간 요청은 결과를 끝까지 기다린다.
+ * 기다리는 호출자는 자기 트랜잭션의 커넥션을 쥐고 있으므로, worker 가 쓸 커넥션이 남도록 동시에 기다리는 수를
+ * 제한하고(erp.stock.combining.max-waiting, 기본값 커넥션 풀 크기 - worker 수) 넘치는 요청은 기존 경로로 처리한다.
+ * erp.stock.combining.enabled=false(기본값) 이면 worker 를 띄우지 않는다.
+ */
+@Slf4j
+@Component
+public class StockDeltaCombiner {
+
+    private static final int[] NO_STRIPES = new int[0];
+
+    private final StockDeltaWriter stockDeltaWriter;
+    private final StockKeyLockManager stockKeyLockManager;
+    private final AuditorAware<Long> auditorAware;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutNanos;
+
+    private final Semaphore waitingPermits;
+    private final List<BlockingQueue<Pending>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+
+    // taken: worker 가 묶음에 넣었거나 호출자가 취소했으면 true (먼저 바꾼 쪽만 유효)
+    private record Pending(StockDelta delta, CompletableFuture<Void> future, AtomicBoolean taken) {
+    }
+
+    public StockDeltaCombiner(
+            StockDeltaWriter stockDeltaWriter,
+            StockKeyLockManager stockKeyLockManager,
+            AuditorAware<Long> auditorAware,
+            MeterRegistry meterRegistry,
+            DataSource dataSource,
+            @Value("${erp.stock.combining.enabled:false}") boolean enabled,
+            @Value("${erp.stock.combining.window:2ms}") Duration window,
+            @Value("${erp.stock.combining.max-batch-size:256}") int maxBatchSize,
+            @Value("${erp.stock.combining.workers:4}") int workerCount,
+            @Value("${erp.stock.combining.timeout:5s}") Duration timeout,
+            @Value("${erp.stock.combining.max-waiting:-1}") int maxWaiting
+    ) {
+        if (maxBatchSize <= 0 || workerCount <= 0) {
+            throw new IllegalArgumentException("묶음 크기와 worker 수는 1 이상이어야 합니다.");
+        }
+
+        this.stockDeltaWriter = stockDeltaWriter;
+        this.stockKeyLockManager = stockKeyLockManager;
+        this.auditorAware = auditorAware;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutNanos = timeout.toNanos();
+
+        if (maxWaiting < 0) {
+            maxWaiting = Math.max(0, maximumPoolSize(dataSource) - workerCount);
+        }
+
+        this.waitingPermits = new Semaphore(maxWaiting);
+
+        this.batchSizeSummary = DistributionSummary.builder("erp.stock.combining.batch.size")
+                .description("재고 묶음 반영 1회당 요청 수")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            return;
+        }
+
+        this.running = true;
+
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+            Thread worker = new Thread(() -> run(queue), "stock-combiner-" + i);
+            worker.setDaemon(true);
+
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 묶음 반영 후 이 요청의 결과를 기다린다. (재고 부족 / 미존재는 기존과 같은 BusinessException)
+     * 가용 재고 카운터 반영도 묶음 트랜잭션에서 처리하므로 호출자는 반영하지 않는다.
+     *
+     * @return 묶음 반영을 쓰지 않거나, 바깥 트랜잭션에 참여 중이거나, 대기 중인 호출자가 많으면 false (호출자가 직접 반영)
+     */
+    public boolean tryApply(StockDeltaType type, Map<StockKey, Long> lineMap, Long refId) {
+        if (!enabled || !isOutermostTransaction()) {
+            return false;
+        }
+
+        if (refId == null || lineMap == null || lineMap.isEmpty()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래건이 올바르지 않습니다.");
+        }
+
+        if (lineMap.values().stream().anyMatch(qty -> qty == null || qty <= 0)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "최소 1개 이상이어야 합니다.");
+        }
+
+        Long userId = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "작업자 정보를 확인할 수 없습니다."));
+
+        if (!waitingPermits.tryAcquire()) {
+            return false;
+        }
+
+        try {
+            await(submit(new StockDelta(type, Map.copyOf(lineMap), refId, userId)));
+        } finally {
+            waitingPermits.release();
+        }
+
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 새 요청은 받지 않고 대기열에 남은 요청은 처리 후 종료
+        running = false;
+
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+        }
+    }
+
+    // 재고 메서드의 트랜잭션이 새로 시작된 것이면 true (바깥 트랜잭션에 참여했으면 false)
+    private static boolean isOutermostTransaction() {
+        try {
+            return TransactionAspectSupport.currentTransactionStatus().isNewTransaction();
+        } catch (NoTransactionException e) {
+            return true;
+        }
+    }
+
+    private void await(Pending pending) {
+        try {
+            pending.future().get(timeoutNanos, TimeUnit.NANOSECONDS);
+            return;
+        } catch (TimeoutException e) {
+            // worker 가 아직 가져가지 않았으면 취소 (반영되지 않음이 보장됨)
+            if (pending.taken().compareAndSet(false, true)) {
+                throw new BusinessException(ErrorCode.CONFLICT, "재고 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            if (pending.taken().compareAndSet(false, true)) {
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 처리가 중단되었습니다.");
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        // 이미 묶음에 들어간 요청은 반영 여부를 모른 채 돌아가지 않도록 결과를 기다린다
+        try {
+            pending.future().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+    }
+
+    private Pending submit(StockDelta delta) {
+        Pending pending = new Pending(delta, new CompletableFuture<>(), new AtomicBoolean());
+
+        if (!running) {
+            pending.future().completeExceptionally(
+                    new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 처리 worker 가 실행 중이 아닙니다."));
+            return pending;
+        }
+
+        // key 조합이 같으면 같은 worker 로 보내 한 묶음이 되도록
+        int hash = delta.lineMap().keySet().stream()
+                .mapToInt(StockKey::hashCode)
+                .min()
+                .orElse(0);
+
+        queues.get(Math.floorMod(hash, queues.size())).add(pending);
+
+        return pending;
+    }
+
+    private void run(BlockingQueue<Pending> queue) {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                // 호출자가 이미 취소한 요청은 건너뜀
+                if (first == null || !first.taken().compareAndSet(false, true)) {
+                    continue;
+                }
+
+                batch.add(first);
+
+                // window 동안 추가로 도착한 요청을 모은다 (0 이면 이전 묶음 처리 중 쌓인 요청만)
+                long deadline = System.nanoTime() + windowNanos;
+
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    if (next.taken().compareAndSet(false, true)) {
+                        batch.add(next);
+                    }
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(p -> p.future().completeExceptionally(
+                        new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "재고 처리가 중단되었습니다.")));
+                return;
+            } catch (RuntimeException e) {
+                log.error("재고 묶음 반영 worker 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<StockDelta> deltas = batch.stream().map(Pending::delta).toList();
+
+        Set<StockKey> keys = new HashSet<>();
+        deltas.forEach(delta -> keys.addAll(delta.lineMap().keySet()));
+
+        batchSizeSummary.record(batch.size());
+
+        int[] stripes = NO_STRIPES;
+
+        try {
+            // 묶음을 거치지 않는 조정 / 일괄 출고와는 기존 stripe 락으로 직렬화
+            stripes = stockKeyLockManager.lock(keys);
+
+            List<BusinessException> results = new ArrayList<>(deltas.size());
+
+            // 재고 행 updated_by 등 감사 컬럼은 묶음의 마지막 요청자로 기록 (이력은 요청자별로 기록)
+            SecurityContextUtil.runAs(
+                    new CustomUserDetails(deltas.get(deltas.size() - 1).userId(), null, null, true),
+                    () -> results.addAll(stockDeltaWriter.write(deltas))
+            );
+
+            for (int i = 0; i < batch.size(); i++) {
+                BusinessException rejected = results.get(i);
+
+                if (rejected == null) {
+                    batch.get(i).future().complete(null);
+                } else {
+                    batch.get(i).future().completeExceptionally(rejected);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+
+            // 한 요청 때문에 묶음 전체가 실패하지 않도록 요청별로 다시 반영
+            log.warn("재고 묶음 반영 실패, 요청별로 재처리 size={}", batch.size(), e);
+            stockKeyLockManager.unlock(stripes);
+            stripes = NO_STRIPES;
+
+            batch.forEach(pending -> flush(List.of(pending)));
+        } finally {
+            stockKeyLockManager.unlock(stripes);
+        }
+    }
+
+    // replica 분리 시 primary 풀이 LazyConnectionDataSourceProxy 로 감싸져 있으므로 unwrap 으로 확인
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : 0;
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.inventory.domain.InventoryTransaction;
+import com.erp.mini.inventory.repo.InventoryTransactionJdbcRepository;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.domain.Stock;
+import com.erp.mini.stock.dto.StockDelta;
+import com.erp.mini.stock.dto.StockDeltaType;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.repo.ItemStockSummaryJdbcRepository;
+import com.erp.mini.stock.repo.StockRepository;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * StockDeltaCombiner 가 모은 요청을 한 트랜잭션으로 반영
+ * 전체 key 를 정렬해 한 번에 잠그고, 도착 순서대로 요청 단위로 검증 후 엔티티에 누적한다.
+ * 같은 재고 행에 여러 요청이 몰려도 UPDATE 는 행마다 한 번(dirty checking), 이력은 JDBC batch 한 번으로 끝난다.
+ * 가용 재고 카운터도 재고 행 락을 잡은 이 트랜잭션의 커밋 직전에 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockDeltaWriter {
+
+    private final ItemRepository itemRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final StockRepository stockRepository;
+    private final InventoryTransactionJdbcRepository inventoryTransactionJdbcRepository;
+    private final ItemStockSummaryJdbcRepository itemStockSummaryJdbcRepository;
+    private final StockReservationService stockReservationService;
+
+    /**
+     * @return 요청과 같은 순서의 처리 결과 (성공이면 null, 실패면 해당 요청에 돌려줄 예외)
+     */
+    @Retryable(
+            retryFor = {
+                    DuplicateKeyException.class, // UNIQUE KEY 충돌 예외 발생 시 재시도(새로운 Stock 생성)
+                    PessimisticLockingFailureException.class, // 데드락 + 락 충돌 예외
+                    CannotAcquireLockException.class // 락 획득 실패 예외
+            },
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, random = true, multiplier = 2)
+    )
+    @Transactional
+    public List<BusinessException> write(List<StockDelta> deltas) {
+        Map<StockKey, Long> mergedLineMap = new HashMap<>();
+        deltas.forEach(delta -> delta.lineMap().forEach((key, qty) -> mergedLineMap.merge(key, qty, Long::sum)));
+
+        List<Stock> stocks = stockRepository.findAllByKeysForUpdate(StockService.getSortedKeys(mergedLineMap));
+
+        Map<StockKey, Stock> stockMap = stocks.stream()
+                .collect(Collectors.toMap(
+                        s -> new StockKey(s.getItem().getId(), s.getWarehouse().getId()),
+                        Function.identity()
+                ));
+
+        createMissingStocks(deltas, stockMap);
+
+        List<BusinessException> results = new ArrayList<>(deltas.size());
+        List<InventoryTransaction> inventoryTransactions = new ArrayList<>();
+        List<Long> createdBys = new ArrayList<>();
+        Map<StockKey, Long> counterDeltaMap = new HashMap<>();
+
+        for (StockDelta delta : deltas) {
+            BusinessException rejected = validate(delta, stockMap);
+            results.add(rejected);
+
+            if (rejected != null) {
+                continue;
+            }
+
+            for (var line : delta.lineMap().entrySet()) {
+                inventoryTransactions.add(applyLine(delta, stockMap.get(line.getKey()), line.getValue()));
+                createdBys.add(delta.userId());
+
+                // 판매 출고는 StockService.decrease 에서 가용 재고 카운터를 이미 선차감함
+                if (!delta.type().isDecrease()) {
+                    counterDeltaMap.merge(line.getKey(), line.getValue(), Long::sum);
+                }
+            }
+        }
+
+        inventoryTransactionJdbcRepository.saveAll(inventoryTransactions, createdBys);
+        itemStockSummaryJdbcRepository.applyDeltas(inventoryTransactions.stream()
+                .collect(Collectors.toMap(
+                        tx -> tx.getItem().getId(),
+                        InventoryTransaction::getQtyDelta,
+                        Long::sum
+                )));
+
+        stockReservationService.applyOnCommit(counterDeltaMap);
+
+        return results;
+    }
+
+    // 구매 입고 key 중 재고가 없는 key 는 생성 (기존 increase 와 동일)
+    private void createMissingStocks(List<StockDelta> deltas, Map<StockKey, Stock> stockMap) {
+        Set<Stock> createStock = new HashSet<>();
+
+        for (StockDelta delta : deltas) {
+            if (delta.type() != StockDeltaType.PURCHASE_INBOUND) {
+                continue;
+            }
+
+            for (StockKey key : delta.lineMap().keySet()) {
+                if (!stockMap.containsKey(key)) {
+                    Item referenceItem = itemRepository.getReferenceById(key.getItemId());
+                    Warehouse referenceWarehouse = warehouseRepository.getReferenceById(key.getWarehouseId());
+
+                    Stock newStock = Stock.createStock(referenceItem, referenceWarehouse);
+
+                    createStock.add(newStock);
+                    stockMap.put(key, newStock);
+                }
+            }
+        }
+
+        if (!createStock.isEmpty()) {
+            stockRepository.saveAll(createStock);
+            stockRepository.flush(); // 여기서 충돌 감지하여 빠른 retry 가능
+        }
+    }
+
+    // 앞선 요청이 이미 누적된 엔티티 수량 기준으로 검증하므로 요청 단위로 전부 반영되거나 전부 제외된다
+    private BusinessException validate(StockDelta delta, Map<StockKey, Stock> stockMap) {
+        for (var line : delta.lineMap().entrySet()) {
+            Stock stock = stockMap.get(line.getKey());
+
+            if (stock == null) {
+                return new BusinessException(ErrorCode.NOT_FOUND, "재고가 존재하지 않습니다.");
+            }
+
+            if (delta.type().isDecrease() && stock.getQty() < line.getValue()) {
+                return new BusinessException(ErrorCode.CONFLICT, "수량이 부족합니다.");
+            }
+        }
+
+        return null;
+    }
+
+    private InventoryTransaction applyLine(StockDelta delta, Stock stock, long qty) {
+        return switch (delta.type()) {
+            case PURCHASE_INBOUND -> {
+                stock.increase(qty);
+                yield InventoryTransaction.purchaseInbound(stock.getItem(), stock.getWarehouse(), qty, delta.refId());
+            }
+            case CANCEL_SALES_INBOUND -> {
+                stock.increase(qty);
+                yield InventoryTransaction.cancelSalesInbound(stock.getItem(), stock.getWarehouse(), qty, delta.refId());
+            }
+            case SALES_OUTBOUND -> {
+                stock.decrease(qty);
+                yield InventoryTransaction.salesOutbound(stock.getItem(), stock.getWarehouse(), qty, delta.refId());
+            }
+        };
+    }
+}
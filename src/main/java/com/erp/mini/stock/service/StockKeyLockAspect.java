@@ -0,0 +1,74 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.stock.dto.AdjustStockRequest;
+import com.erp.mini.stock.dto.StockKey;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @StockKeyLocked 메서드 진입 전에 stripe 락 획득
+ * 재시도 / 트랜잭션 advice 보다 바깥에서 실행되어야 하므로 최우선 순위로 지정한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StockKeyLockAspect {
+
+    private final StockKeyLockManager stockKeyLockManager;
+
+    @Value("${erp.stock.combining.enabled:false}")
+    private boolean combining;
+
+    @Around("@annotation(stockKeyLocked)")
+    public Object lock(ProceedingJoinPoint joinPoint, StockKeyLocked stockKeyLocked) throws Throwable {
+        // 호출 스레드가 락을 잡고 기다리면 같은 key 요청이 한 묶음으로 모이지 않는다
+        if (combining && stockKeyLocked.combinable()) {
+            return joinPoint.proceed();
+        }
+
+        Object[] args = joinPoint.getArgs();
+        Set<StockKey> keys = args.length > 0 ? collectKeys(args[0]) : Set.of();
+
+        int[] stripes = stockKeyLockManager.lock(keys);
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            stockKeyLockManager.unlock(stripes);
+        }
+    }
+
+    private Set<StockKey> collectKeys(Object arg) {
+        Set<StockKey> keys = new HashSet<>();
+
+        if (arg instanceof AdjustStockRequest request) {
+            if (request.itemId() != null && request.warehouseId() != null) {
+                keys.add(new StockKey(request.itemId(), request.warehouseId()));
+            }
+        } else if (arg instanceof Map<?, ?> map) {
+            for (var entry : map.entrySet()) {
+                if (entry.getKey() instanceof StockKey key) {
+                    keys.add(key);
+                } else if (entry.getValue() instanceof Map<?, ?> lineMap) {
+                    lineMap.keySet().stream()
+                            .filter(StockKey.class::isInstance)
+                            .map(StockKey.class::cast)
+                            .forEach(keys::add);
+                }
+            }
+        }
+
+        return keys;
+    }
+}
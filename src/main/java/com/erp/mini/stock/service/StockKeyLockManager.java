@@ -0,0 +1,157 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.stock.dto.StockKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * StockKey 해시 기반 stripe 락
+ * 같은 (상품, 창고) 에 대한 동시 요청을 DB 트랜잭션 이전에 JVM 안에서 도착 순서대로 줄 세워
+ * InnoDB 행 락 대기와 데드락 / 락 타임아웃으로 인한 재시도를 줄인다.
+ * 여러 stripe 는 항상 인덱스 오름차순으로 잠그므로 stripe 간 교착이 생기지 않는다.
+ *
+ * erp.stock.lock.wait            stripe 획득 대기 시간
+ * erp.stock.lock.contended       이미 잠겨 있어 대기한 횟수 (DB 행 락 대기로 이어졌을 요청 수)
+ * erp.stock.lock.timeout         대기 시간 초과로 거절된 횟수
+ */
+@Component
+public class StockKeyLockManager {
+
+    private static final int[] NO_STRIPES = new int[0];
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final boolean enabled;
+    private final long timeoutNanos;
+
+    private final Timer waitTimer;
+    private final Counter contendedCounter;
+    private final Counter timeoutCounter;
+
+    public StockKeyLockManager(
+            MeterRegistry meterRegistry,
+            @Value("${erp.stock.lock.enabled:true}") boolean enabled,
+            @Value("${erp.stock.lock.stripes:1024}") int stripeCount,
+            @Value("${erp.stock.lock.timeout:5s}") Duration timeout
+    ) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripe 개수는 2의 거듭제곱이어야 합니다.");
+        }
+
+        this.enabled = enabled;
+        this.mask = stripeCount - 1;
+        this.timeoutNanos = timeout.toNanos();
+        this.stripes = new ReentrantLock[stripeCount];
+
+        for (int i = 0; i < stripeCount; i++) {
+            // 공정 락: 먼저 도착한 요청이 먼저 처리되도록
+            stripes[i] = new ReentrantLock(true);
+        }
+
+        this.waitTimer = Timer.builder("erp.stock.lock.wait")
+                .description("재고 stripe 락 획득 대기 시간")
+                .register(meterRegistry);
+        this.contendedCounter = Counter.builder("erp.stock.lock.contended")
+                .description("재고 stripe 락 경합으로 대기한 횟수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("erp.stock.lock.timeout")
+                .description("재고 stripe 락 대기 시간 초과 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * key 에 해당하는 stripe 를 모두 잠근다.
+     * 호출 스레드에 트랜잭션이 진행 중이면 트랜잭션 완료(커밋/롤백) 시점에 자동 해제되므로 빈 배열을 반환하고,
+     * 아니면 잠근 stripe 를 반환하므로 호출자가 unlock 해야 한다.
+     */
+    public int[] lock(Collection<StockKey> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return NO_STRIPES;
+        }
+
+        int[] indexes = keys.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        long started = System.nanoTime();
+        int acquired = 0;
+
+        try {
+            for (int index : indexes) {
+                acquire(stripes[index], started);
+                acquired++;
+            }
+        } catch (RuntimeException e) {
+            unlock(indexes, acquired);
+            throw e;
+        } finally {
+            waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 행 락은 바깥 트랜잭션 종료 시점에 풀리므로 stripe 도 그때까지 유지
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unlock(indexes, indexes.length);
+                }
+            });
+
+            return NO_STRIPES;
+        }
+
+        return indexes;
+    }
+
+    public void unlock(int[] indexes) {
+        unlock(indexes, indexes.length);
+    }
+
+    int stripeIndex(StockKey key) {
+        int h = 31 * Objects.hashCode(key.getItemId()) + Objects.hashCode(key.getWarehouseId());
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void acquire(ReentrantLock lock, long started) {
+        if (lock.tryLock()) {
+            return;
+        }
+
+        contendedCounter.increment();
+
+        long remaining = timeoutNanos - (System.nanoTime() - started);
+
+        try {
+            if (remaining > 0 && lock.tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        timeoutCounter.increment();
+        throw new BusinessException(ErrorCode.CONFLICT, "재고 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 획득 역순으로 해제
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.erp.mini.stock.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 재고 변경 메서드의 첫 번째 인자에서 StockKey 를 추출해 JVM 내부 stripe 락을 먼저 획득
+ * (Map<StockKey, ?>, Map<?, Map<StockKey, ?>>, AdjustStockRequest 지원)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StockKeyLocked {
+
+    // true 면 묶음 반영(erp.stock.combining.enabled) 사용 시 락을 잡지 않음 (StockDeltaCombiner worker 가 대신 잠근다)
+    boolean combinable() default false;
+}
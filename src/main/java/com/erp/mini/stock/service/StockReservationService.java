@@ -0,0 +1,255 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.dto.StockReservation;
+import com.erp.mini.stock.repo.StockJdbcRepository;
+import com.erp.mini.stock.repo.StockReservationRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 가용 재고(ATP) 예약
+ * 판매 주문 시 MySQL 행 락 대신 Redis 카운터를 Lua 스크립트로 원자적으로 차감하고,
+ * 실제 stocks / inventory_transactions 반영은 SalesReservationReconciler 가 비동기로 처리한다.
+ * erp.stock.reservation.enabled=false(기본값) 이면 카운터 반영을 포함해 아무 동작도 하지 않는다.
+ *
+ * 카운터 적재와 DB 재고 증감의 카운터 반영은 모두 재고 행 락을 잡은 상태에서 일어나므로 서로 겹치지 않는다.
+ * - 적재: 별도 트랜잭션에서 재고 행을 잠금 조회(최신 커밋 수량)하고, 락을 잡은 채 카운터가 없을 때만 적재
+ * - 증감: 재고 행 락을 잡은 트랜잭션의 커밋 직전에 적재된 카운터에만 반영, 롤백되면 되돌림
+ * 따라서 커밋되었지만 아직 반영되지 않은 증감이 적재 값과 중복되거나, 적재 전 건너뛴 증감이 누락되지 않는다.
+ *
+ * 예약을 거치지 않는 판매 출고(직접 출고, 일괄 출고)도 DB 차감 전에 예약과 같은 스크립트로 카운터를 먼저 차감한다.
+ * DB 수량에는 아직 반영되지 않은 예약 수량이 포함되어 있으므로, DB 수량만 보고 차감하면 예약분까지 출고될 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRedisRepository stockReservationRedisRepository;
+    private final StockJdbcRepository stockJdbcRepository;
+    private final AuditorAware<Long> auditorAware;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${erp.stock.reservation.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 가용 재고 선차감
+     * 카운터가 없는 key 는 DB 수량으로 적재 후 한 번 더 시도한다. (호출한 트랜잭션이 같은 재고 행을 잠그고 있으면 안 됨)
+     * 커밋 이후에 반영 대기열에 올리고, 롤백되면 선차감한 수량을 되돌린다.
+     */
+    public void reserve(Map<StockKey, Long> lineMap, Long salesOrderId) {
+        if (salesOrderId == null || lineMap == null || lineMap.isEmpty()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래건이 올바르지 않습니다.");
+        }
+
+        if (lineMap.values().stream().anyMatch(qty -> qty == null || qty <= 0)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "최소 1개 이상이어야 합니다.");
+        }
+
+        Long userId = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "작업자 정보를 확인할 수 없습니다."));
+
+        List<StockKey> sortedKeys = StockService.getSortedKeys(lineMap);
+        String payload = new StockReservation(salesOrderId, userId, lineMap).encode();
+
+        long result = stockReservationRedisRepository.reserve(sortedKeys, lineMap, salesOrderId, payload);
+
+        if (result < 0) {
+            loadCounters(sortedKeys);
+            result = stockReservationRedisRepository.reserve(sortedKeys, lineMap, salesOrderId, payload);
+        }
+
+        if (result < 0) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "재고가 존재하지 않습니다.");
+        }
+
+        if (result > 0) {
+            throw new BusinessException(ErrorCode.CONFLICT, "수량이 부족합니다.");
+        }
+
+        afterCompletion(
+                () -> stockReservationRedisRepository.enqueue(salesOrderId),
+                () -> stockReservationRedisRepository.releasePending(salesOrderId)
+        );
+    }
+
+    /**
+     * DB 반영 전인 예약 취소
+     * 커밋 이후 선차감 수량을 되돌리고, 롤백되면 다시 반영 대기열에 올린다.
+     *
+     * @return 반영 전 예약을 취소했으면 true (DB 재고 복구 불필요), 이미 반영되었거나 반영 중이면 false
+     */
+    public boolean cancel(Long salesOrderId) {
+        if (!stockReservationRedisRepository.markCancelling(salesOrderId)) {
+            return false;
+        }
+
+        afterCompletion(
+                () -> stockReservationRedisRepository.releaseCancelling(salesOrderId),
+                () -> stockReservationRedisRepository.restoreCancelling(salesOrderId)
+        );
+
+        return true;
+    }
+
+    /**
+     * 예약을 거치지 않는 판매 출고의 가용 재고 선차감
+     * 예약과 같이 카운터가 없는 key 는 DB 수량으로 적재 후 한 번 더 시도한다. (호출한 트랜잭션이 같은 재고 행을 잠그고 있으면 안 됨)
+     * 커밋되지 않으면 선차감한 수량을 되돌린다. DB 차감분은 카운터에 다시 반영하지 않는다.
+     */
+    public void consume(Map<StockKey, Long> lineMap) {
+        if (!enabled) {
+            return;
+        }
+
+        if (lineMap == null || lineMap.isEmpty()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래건이 올바르지 않습니다.");
+        }
+
+        if (lineMap.values().stream().anyMatch(qty -> qty == null || qty <= 0)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "최소 1개 이상이어야 합니다.");
+        }
+
+        List<StockKey> sortedKeys = StockService.getSortedKeys(lineMap);
+
+        long result = stockReservationRedisRepository.consume(sortedKeys, lineMap);
+
+        if (result < 0) {
+            loadCounters(sortedKeys);
+            result = stockReservationRedisRepository.consume(sortedKeys, lineMap);
+        }
+
+        if (result < 0) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "재고가 존재하지 않습니다.");
+        }
+
+        if (result > 0) {
+            throw new BusinessException(ErrorCode.CONFLICT, "수량이 부족합니다.");
+        }
+
+        afterCompletion(() -> {}, () -> applyDeltas(sortedKeys, lineMap));
+    }
+
+    /**
+     * 선차감했지만 DB 에서 차감하지 못한 수량을 카운터에 되돌림
+     * 바로 되돌리고, 롤백되면 선차감의 되돌림과 겹치지 않도록 다시 차감한다.
+     */
+    public void release(Map<StockKey, Long> lineMap) {
+        if (!enabled || lineMap.isEmpty()) {
+            return;
+        }
+
+        List<StockKey> sortedKeys = StockService.getSortedKeys(lineMap);
+
+        applyDeltas(sortedKeys, lineMap);
+        afterCompletion(() -> {}, () -> applyDeltas(sortedKeys, negate(lineMap)));
+    }
+
+    /**
+     * 예약을 거치지 않은 DB 재고 증감(입고, 취소 복구, 조정)을 카운터에 반영
+     * 재고 행 락을 잡은 트랜잭션의 커밋 직전에 반영하고, 커밋되지 않으면 되돌린다.
+     * Redis 반영에 실패해도 DB 커밋은 유지되므로 경고만 남긴다.
+     */
+    public void applyOnCommit(Map<StockKey, Long> deltaMap) {
+        if (!enabled || deltaMap.isEmpty()) {
+            return;
+        }
+
+        List<StockKey> sortedKeys = StockService.getSortedKeys(deltaMap);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDeltas(sortedKeys, deltaMap);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean applied;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                applied = applyDeltas(sortedKeys, deltaMap);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (applied && status != STATUS_COMMITTED) {
+                    applyDeltas(sortedKeys, negate(deltaMap));
+                }
+            }
+        });
+    }
+
+    // 카운터 삭제 (다음 예약 시 DB 수량으로 다시 적재, 대량 데이터 생성 등 카운터를 거치지 않은 재고 변경용)
+    public void evictCounters(List<StockKey> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+
+        stockReservationRedisRepository.deleteCounters(keys);
+    }
+
+    // 호출한 트랜잭션의 스냅샷이 아닌 별도 트랜잭션의 잠금 조회로 최신 커밋 수량을 읽고, 락을 잡은 채 적재
+    private void loadCounters(List<StockKey> sortedKeys) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transactionTemplate.executeWithoutResult(status -> stockJdbcRepository.findQtyByKeysForUpdate(sortedKeys)
+                .forEach(stockReservationRedisRepository::initIfAbsent));
+    }
+
+    private boolean applyDeltas(List<StockKey> sortedKeys, Map<StockKey, Long> deltaMap) {
+        try {
+            stockReservationRedisRepository.applyDeltas(sortedKeys, deltaMap);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("가용 재고 카운터 반영 실패 keys={}", sortedKeys.size(), e);
+            return false;
+        }
+    }
+
+    private static Map<StockKey, Long> negate(Map<StockKey, Long> deltaMap) {
+        Map<StockKey, Long> negated = new HashMap<>();
+        deltaMap.forEach((key, delta) -> negated.put(key, -delta));
+
+        return negated;
+    }
+
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else if (status == STATUS_ROLLED_BACK) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
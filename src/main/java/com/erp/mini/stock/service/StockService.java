@@ -3,22 +3,28 @@ package com.erp.mini.stock.service;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.inventory.domain.InventoryTransaction;
 import com.erp.mini.inventory.domain.TransactionType;
+import com.erp.mini.inventory.repo.InventoryTransactionJdbcRepository;
 import com.erp.mini.inventory.repo.InventoryTransactionRepository;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.item.repo.ItemRepository;
 import com.erp.mini.stock.domain.Stock;
 import com.erp.mini.stock.dto.*;
+import com.erp.mini.stock.repo.ItemStockSummaryJdbcRepository;
+import com.erp.mini.stock.repo.StockJdbcRepository;
 import com.erp.mini.stock.repo.StockRepository;
 import com.erp.mini.warehouse.domain.Warehouse;
 import com.erp.mini.warehouse.repo.WarehouseRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
@@ -36,6 +42,17 @@ public class StockService {
     private final WarehouseRepository warehouseRepository;
     private final StockRepository stockRepository;
     private final InventoryTransactionRepository inventoryTransactionRepository;
+    private final StockJdbcRepository stockJdbcRepository;
+    private final InventoryTransactionJdbcRepository inventoryTransactionJdbcRepository;
+    private final ItemStockSummaryJdbcRepository itemStockSummaryJdbcRepository;
+    private final StockReservationService stockReservationService;
+    private final StockDeltaCombiner stockDeltaCombiner;
+
+    private static final int MAX_SUMMARY_ITEM_COUNT = 1000;
+
+    // true 면 출고 차감을 SELECT ... FOR UPDATE 대신 조건부 UPDATE 로 처리
+    @Value("${erp.stock.conditional-decrease.enabled:false}")
+    private boolean conditionalDecrease;
 
     @Retryable(
             retryFor = {
@@ -46,9 +63,13 @@ public class StockService {
             maxAttempts = 3,
             backoff = @Backoff(delay = 100, random = true, multiplier = 2)
     )
+    @StockKeyLocked(combinable = true)
     @Transactional
     public void increase(Map<StockKey, Long> lineMap, Long purchaseOrderId) {
-        apply(lineMap, purchaseOrderId, TransactionType.INBOUND, true);
+        if (!stockDeltaCombiner.tryApply(StockDeltaType.PURCHASE_INBOUND, lineMap, purchaseOrderId)) {
+            apply(lineMap, purchaseOrderId, TransactionType.INBOUND, true);
+            stockReservationService.applyOnCommit(lineMap);
+        }
     }
 
     @Retryable(
@@ -59,11 +80,48 @@ public class StockService {
             maxAttempts = 3,
             backoff = @Backoff(delay = 100, random = true, multiplier = 2)
     )
+    @StockKeyLocked(combinable = true)
     @Transactional
     public void decrease(Map<StockKey, Long> lineMap, Long salesOrderId) {
-        apply(lineMap, salesOrderId, TransactionType.OUTBOUND, false);
+        // 예약 사용 시 DB 반영 전 예약 수량까지 제외하도록 가용 재고 카운터를 먼저 차감 (재고 행 잠금 전)
+        stockReservationService.consume(lineMap);
+
+        if (!stockDeltaCombiner.tryApply(StockDeltaType.SALES_OUTBOUND, lineMap, salesOrderId)) {
+            decreaseStock(lineMap, salesOrderId);
+        }
+    }
+
+    /**
+     * Redis 에 선차감된 예약 건을 DB 재고에 반영 (가용 재고 카운터는 이미 차감되어 있으므로 반영하지 않음)
+     * 판매건 반영 이력을 먼저 기록하고, 이미 있으면 반영된 것으로 보고 건너뛴다. (재처리, 중복 처리 대비)
+     */
+    @Retryable(
+            retryFor = {
+                    PessimisticLockingFailureException.class, // 데드락 + 락 충돌 예외
+                    CannotAcquireLockException.class // 락 획득 실패 예외
+            },
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, random = true, multiplier = 2)
+    )
+    @StockKeyLocked
+    @Transactional
+    public void decreaseReserved(Map<StockKey, Long> lineMap, Long salesOrderId) {
+        if (!stockJdbcRepository.markReservationApplied(salesOrderId)) {
+            return;
+        }
+
+        decreaseStock(lineMap, salesOrderId);
     }
 
+    /**
+     * 여러 판매건의 출고를 한 번의 잠금 조회로 처리
+     * 전체 라인의 key 를 정렬해 한 번에 잠근 뒤, 전달된 순서대로 판매건 단위로 재고를 배정한다.
+     * 판매건의 라인 중 하나라도 재고가 없거나 부족하면 해당 판매건 전체를 제외하고 나머지는 차감한다.
+     * 예약 사용 시 잠금 전에 판매건별로 가용 재고 카운터를 먼저 차감하고, 차감하지 못한 판매건은 제외한다.
+     *
+     * @param lineMapByRefId 판매 식별자 ID -> (재고 key -> 수량), 순회 순서가 배정 우선순위
+     * @return 재고 부족/미존재로 차감하지 못한 판매 식별자 ID
+     */
     @Retryable(
             retryFor = {
                     PessimisticLockingFailureException.class, // 데드락 + 락 충돌 예외
@@ -72,9 +130,102 @@ public class StockService {
             maxAttempts = 3,
             backoff = @Backoff(delay = 100, random = true, multiplier = 2)
     )
+    @StockKeyLocked
+    @Transactional
+    public Set<Long> decreaseAll(Map<Long, Map<StockKey, Long>> lineMapByRefId) {
+        if (lineMapByRefId == null || lineMapByRefId.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> rejectedRefIds = new HashSet<>();
+        Map<Long, Map<StockKey, Long>> consumedLineMapByRefId = new LinkedHashMap<>();
+
+        // DB 반영 전 예약 수량까지 제외하도록 판매건별로 가용 재고 카운터를 먼저 차감 (비활성화 시 차감 없이 통과)
+        for (var order : lineMapByRefId.entrySet()) {
+            try {
+                stockReservationService.consume(order.getValue());
+                consumedLineMapByRefId.put(order.getKey(), order.getValue());
+            } catch (BusinessException e) {
+                rejectedRefIds.add(order.getKey());
+            }
+        }
+
+        if (consumedLineMapByRefId.isEmpty()) {
+            return rejectedRefIds;
+        }
+
+        // 모든 판매건의 key 를 합쳐 정렬 후 한 번에 잠금
+        Map<StockKey, Long> mergedLineMap = new HashMap<>();
+        consumedLineMapByRefId.values().forEach(lineMap -> lineMap.forEach((key, qty) -> mergedLineMap.merge(key, qty, Long::sum)));
+
+        List<Stock> stocks = stockRepository.findAllByKeysForUpdate(getSortedKeys(mergedLineMap));
+
+        Map<StockKey, Stock> stockMap = stocks.stream()
+                .collect(Collectors.toMap(
+                        s -> new StockKey(s.getItem().getId(), s.getWarehouse().getId()),
+                        Function.identity()
+                ));
+
+        // 배정 가능 수량 (엔티티는 배정이 확정된 판매건만 변경)
+        Map<StockKey, Long> remaining = new HashMap<>();
+        stockMap.forEach((key, stock) -> remaining.put(key, stock.getQty()));
+
+        List<InventoryTransaction> inventoryTransactions = new ArrayList<>();
+        Map<StockKey, Long> released = new HashMap<>();
+
+        for (var order : consumedLineMapByRefId.entrySet()) {
+            Long refId = order.getKey();
+            Map<StockKey, Long> lineMap = order.getValue();
+
+            boolean available = lineMap.entrySet().stream()
+                    .allMatch(line -> remaining.getOrDefault(line.getKey(), 0L) >= line.getValue());
+
+            if (!available) {
+                rejectedRefIds.add(refId);
+                lineMap.forEach((key, qty) -> released.merge(key, qty, Long::sum));
+                continue;
+            }
+
+            for (var line : lineMap.entrySet()) {
+                Stock stock = stockMap.get(line.getKey());
+                long qty = line.getValue();
+
+                remaining.merge(line.getKey(), -qty, Long::sum);
+                stock.decrease(qty);
+
+                inventoryTransactions.add(InventoryTransaction.salesOutbound(
+                        stock.getItem(),
+                        stock.getWarehouse(),
+                        qty,
+                        refId
+                ));
+            }
+        }
+
+        inventoryTransactionJdbcRepository.saveAll(inventoryTransactions);
+        itemStockSummaryJdbcRepository.applyDeltas(sumDeltaByItem(inventoryTransactions));
+
+        // 카운터는 선차감했지만 DB 재고가 부족해 제외된 판매건의 수량은 되돌림
+        stockReservationService.release(released);
+
+        return rejectedRefIds;
+    }
+
+    @Retryable(
+            retryFor = {
+                    PessimisticLockingFailureException.class, // 데드락 + 락 충돌 예외
+                    CannotAcquireLockException.class // 락 획득 실패 예외
+            },
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, random = true, multiplier = 2)
+    )
+    @StockKeyLocked(combinable = true)
     @Transactional
     public void restore(Map<StockKey, Long> lineMap, Long salesOrderId) {
-        apply(lineMap, salesOrderId, TransactionType.INBOUND, false);
+        if (!stockDeltaCombiner.tryApply(StockDeltaType.CANCEL_SALES_INBOUND, lineMap, salesOrderId)) {
+            apply(lineMap, salesOrderId, TransactionType.INBOUND, false);
+            stockReservationService.applyOnCommit(lineMap);
+        }
     }
 
     @Retryable(
@@ -86,6 +237,7 @@ public class StockService {
             maxAttempts = 3,
             backoff = @Backoff(delay = 50)
     )
+    @StockKeyLocked
     @Transactional
     public void adjust(AdjustStockRequest request) {
         Stock stock = stockRepository.findByItemAndWarehouseForUpdate(request.itemId(), request.warehouseId())
@@ -108,6 +260,30 @@ public class StockService {
         stock.adjust(deltaQty);
 
         inventoryTransactionRepository.save(tx);
+        itemStockSummaryJdbcRepository.applyDeltas(Map.of(request.itemId(), deltaQty));
+        stockReservationService.applyOnCommit(Map.of(new StockKey(request.itemId(), request.warehouseId()), deltaQty));
+    }
+
+    // 상품별 총 재고 일괄 조회 (재고가 한 번도 생성되지 않은 상품은 0)
+    @Transactional(readOnly = true)
+    public List<ItemStockSummaryDto> getItemStockSummaries(List<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "조회할 상품을 선택해주세요.");
+        }
+
+        List<Long> distinctIds = itemIds.stream().distinct().toList();
+
+        if (distinctIds.size() > MAX_SUMMARY_ITEM_COUNT) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 상품은 최대 " + MAX_SUMMARY_ITEM_COUNT + "개입니다.");
+        }
+
+        Map<Long, Long> totalMap = itemStockSummaryJdbcRepository.findByItemIds(distinctIds).stream()
+                .collect(Collectors.toMap(ItemStockSummaryDto::itemId, ItemStockSummaryDto::totalQty));
+
+        return distinctIds.stream()
+                .map(itemId -> new ItemStockSummaryDto(itemId, totalMap.getOrDefault(itemId, 0L)))
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -128,6 +304,22 @@ public class StockService {
         return new WarehouseStockResponse(warehouseInfo, pages);
     }
 
+    @Transactional(readOnly = true)
+    public ItemStockSliceResponse getItemStockSlice(Long itemId, Pageable pageable) {
+        ItemInfoDto itemInfo = stockRepository.getItemInfo(itemId);
+        Slice<ItemStockInfoDto> stocks = stockRepository.getItemStockInfoSlice(itemId, pageable);
+
+        return new ItemStockSliceResponse(itemInfo, SliceResponse.from(stocks));
+    }
+
+    @Transactional(readOnly = true)
+    public WarehouseStockSliceResponse getWarehouseStockSlice(Long warehouseId, Pageable pageable) {
+        WarehouseInfoDto warehouseInfo = stockRepository.getWarehouseInfo(warehouseId);
+        Slice<WarehouseStockInfoDto> stocks = stockRepository.getWarehouseStockInfoSlice(warehouseId, pageable);
+
+        return new WarehouseStockSliceResponse(warehouseInfo, SliceResponse.from(stocks));
+    }
+
     private void apply(Map<StockKey, Long> lineMap, Long refId, TransactionType type, boolean allowCreateStock) {
         if (refId == null || lineMap == null || lineMap.isEmpty()) {
             throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래건이 올바르지 않습니다.");
@@ -217,10 +409,72 @@ public class StockService {
             inventoryTransactions.add(tx);
         }
 
-        inventoryTransactionRepository.saveAll(inventoryTransactions);
+        // IDENTITY 엔티티는 batch insert 가 되지 않으므로 JDBC batch 로 적재
+        inventoryTransactionJdbcRepository.saveAll(inventoryTransactions);
+
+        // 이력과 같은 증감분으로 상품별 총 재고 요약 갱신
+        itemStockSummaryJdbcRepository.applyDeltas(sumDeltaByItem(inventoryTransactions));
+    }
+
+    // 조건부 UPDATE 차감: 조회 없이 UPDATE 시점에만 행 락을 잡으므로 잠금 보유 시간이 짧고 왕복 횟수가 적음
+    private void decreaseConditionally(Map<StockKey, Long> lineMap, Long salesOrderId) {
+        if (salesOrderId == null || lineMap == null || lineMap.isEmpty()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 거래건이 올바르지 않습니다.");
+        }
+
+        if (lineMap.values().stream().anyMatch(qty -> qty == null || qty <= 0)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "최소 1개 이상이어야 합니다.");
+        }
+
+        // 정렬된 순서로 UPDATE 하여 잠금 순서 유지 (데드락 1차 방지)
+        List<StockKey> sortedKeys = getSortedKeys(lineMap);
+
+        int[] updatedCounts = stockJdbcRepository.decreaseIfSufficient(sortedKeys, lineMap);
+
+        for (int i = 0; i < sortedKeys.size(); i++) {
+            if (updatedCounts[i] != 1) {
+                // 실패한 경우에만 존재 여부를 확인해 원인 구분 (앞서 차감된 행은 롤백됨)
+                if (stockJdbcRepository.exists(sortedKeys.get(i))) {
+                    throw new BusinessException(ErrorCode.CONFLICT, "수량이 부족합니다.");
+                }
+
+                throw new BusinessException(ErrorCode.NOT_FOUND, "재고가 존재하지 않습니다.");
+            }
+        }
+
+        List<InventoryTransaction> inventoryTransactions = sortedKeys.stream()
+                .map(key -> InventoryTransaction.salesOutbound(
+                        itemRepository.getReferenceById(key.getItemId()),
+                        warehouseRepository.getReferenceById(key.getWarehouseId()),
+                        lineMap.get(key),
+                        salesOrderId
+                ))
+                .toList();
+
+        inventoryTransactionJdbcRepository.saveAll(inventoryTransactions);
+        itemStockSummaryJdbcRepository.applyDeltas(sumDeltaByItem(inventoryTransactions));
+    }
+
+    private void decreaseStock(Map<StockKey, Long> lineMap, Long salesOrderId) {
+        if (conditionalDecrease) {
+            decreaseConditionally(lineMap, salesOrderId);
+            return;
+        }
+
+        apply(lineMap, salesOrderId, TransactionType.OUTBOUND, false);
+    }
+
+    private Map<Long, Long> sumDeltaByItem(List<InventoryTransaction> inventoryTransactions) {
+        return inventoryTransactions.stream()
+                .collect(Collectors.toMap(
+                        tx -> tx.getItem().getId(),
+                        InventoryTransaction::getQtyDelta,
+                        Long::sum
+                ));
     }
 
-    private List<StockKey> getSortedKeys(Map<StockKey, Long> lineMap) {
+    // jmh 벤치마크에서 직접 측정할 수 있도록 package-private
+    static List<StockKey> getSortedKeys(Map<StockKey, Long> lineMap) {
         // key 정렬 (데드락 1차 방지)
         return lineMap.keySet().stream()
                 .sorted(Comparator
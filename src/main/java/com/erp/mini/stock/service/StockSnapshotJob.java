@@ -0,0 +1,53 @@
+package com.erp.mini.stock.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 재고 스냅샷 마감 작업
+ * 마감되지 않은 지난 일자를 하루씩(일자별 트랜잭션) 순서대로 마감한다.
+ * 마감 이후 커밋된 지연 이력은 다음 실행에서 최근 마감 일자를 다시 마감해 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "erp.stock.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class StockSnapshotJob {
+
+    private final StockSnapshotService stockSnapshotService;
+
+    // 자정 직전에 시작해 자정 이후 커밋된 트랜잭션의 이력이 마감된 일자에 들어오지 않도록 두는 여유 시간
+    @Value("${erp.stock.snapshot.grace:10m}")
+    private Duration grace;
+
+    // 매 실행마다 다시 마감할 최근 마감 일자 수 (하루 1회 실행이면 1 로 직전 실행 이후 커밋된 이력까지 반영)
+    @Value("${erp.stock.snapshot.reclose-days:1}")
+    private int recloseDays;
+
+    @Scheduled(cron = "${erp.stock.snapshot.cron:0 15 0 * * *}")
+    public int closeDays() {
+        LocalDate closableUntil = LocalDateTime.now().minus(grace).toLocalDate().minusDays(1);
+
+        stockSnapshotService.recloseRecentDays(recloseDays);
+
+        int closed = 0;
+
+        while (stockSnapshotService.closeNextDay(closableUntil) != null) {
+            closed++;
+        }
+
+        if (closed > 0) {
+            log.info("재고 스냅샷 마감 count={} until={}", closed, closableUntil);
+        }
+
+        return closed;
+    }
+}
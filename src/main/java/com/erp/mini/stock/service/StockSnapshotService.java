@@ -0,0 +1,105 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.stock.dto.StockHistoryResponse;
+import com.erp.mini.stock.repo.StockSnapshotJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 일자별 재고 스냅샷 마감 및 특정 일자 재고 조회
+ * 마감은 직전 스냅샷에 하루치 이력만 더해 진행하고, 조회는 가장 가까운 스냅샷 + 미마감 구간 이력 합계로 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockSnapshotService {
+
+    private final StockSnapshotJdbcRepository stockSnapshotJdbcRepository;
+
+    /**
+     * 마감되지 않은 다음 일자 하나를 마감
+     * 마감 이력이 없으면 첫 재고 이력 일자부터 시작한다.
+     *
+     * @param closableUntil 마감 가능한 마지막 일자
+     * @return 마감한 일자, 마감할 일자가 없으면 null
+     */
+    @Transactional
+    public LocalDate closeNextDay(LocalDate closableUntil) {
+        Optional<LocalDate> lastClosed = stockSnapshotJdbcRepository.lockLastClosedDate();
+
+        LocalDate next = lastClosed.isPresent()
+                ? lastClosed.get().plusDays(1)
+                : stockSnapshotJdbcRepository.findFirstTransactionDate().orElse(null);
+
+        if (next == null || next.isAfter(closableUntil)) {
+            return null;
+        }
+
+        stockSnapshotJdbcRepository.rollForward(next);
+        stockSnapshotJdbcRepository.updateLastClosedDate(next);
+
+        return next;
+    }
+
+    /**
+     * 마감된 최근 일자를 순서대로 다시 마감 (같은 결과로 덮어쓰므로 변경이 없으면 그대로)
+     * 이력 created_at 은 커밋 시각이 아니므로, 자정 전에 기록되고 마감 이후 커밋된 이력을 다음 실행에서 반영한다.
+     *
+     * @param days 마지막 마감 일자부터 거슬러 올라가 다시 마감할 일자 수
+     * @return 다시 마감한 일자 수
+     */
+    @Transactional
+    public int recloseRecentDays(int days) {
+        Optional<LocalDate> lastClosed = stockSnapshotJdbcRepository.lockLastClosedDate();
+
+        if (lastClosed.isEmpty() || days <= 0) {
+            return 0;
+        }
+
+        for (LocalDate date = lastClosed.get().minusDays(days - 1); !date.isAfter(lastClosed.get()); date = date.plusDays(1)) {
+            stockSnapshotJdbcRepository.rollForward(date);
+        }
+
+        return days;
+    }
+
+    // 특정 일자 종료 시점 재고 (조회 비용은 미마감 구간 이력 수에만 비례)
+    @Transactional(readOnly = true)
+    public StockHistoryResponse getStockAt(Long itemId, Long warehouseId, LocalDate date) {
+        if (itemId == null || warehouseId == null || date == null) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "상품, 창고, 조회 일자는 필수입니다.");
+        }
+
+        if (date.isAfter(LocalDate.now())) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "미래 일자의 재고는 조회할 수 없습니다.");
+        }
+
+        Optional<LocalDate> lastClosed = stockSnapshotJdbcRepository.findLastClosedDate();
+
+        // 마감된 일자: 그 일자 이하 가장 가까운 스냅샷 (없으면 변동 이력이 없던 재고)
+        if (lastClosed.isPresent() && !date.isAfter(lastClosed.get())) {
+            long qty = stockSnapshotJdbcRepository.findSnapshotQty(itemId, warehouseId, date).orElse(0L);
+
+            return new StockHistoryResponse(itemId, warehouseId, date, qty);
+        }
+
+        // 미마감 일자: 마지막 마감 스냅샷 + 마감 다음 날부터 조회 일자까지의 이력
+        long base = lastClosed
+                .flatMap(closed -> stockSnapshotJdbcRepository.findSnapshotQty(itemId, warehouseId, closed))
+                .orElse(0L);
+
+        long delta = stockSnapshotJdbcRepository.sumDelta(
+                itemId,
+                warehouseId,
+                lastClosed.map(closed -> closed.plusDays(1).atStartOfDay()).orElse(null),
+                date.plusDays(1).atStartOfDay()
+        );
+
+        return new StockHistoryResponse(itemId, warehouseId, date, base + delta);
+    }
+}
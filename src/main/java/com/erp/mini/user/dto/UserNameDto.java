@@ -0,0 +1,8 @@
+package com.erp.mini.user.dto;
+
+// 사용자 이름 캐시 적재용 (id, 이름)
+public record UserNameDto(
+        Long id,
+        String name
+) {
+}
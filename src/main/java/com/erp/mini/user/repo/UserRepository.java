@@ -1,11 +1,17 @@
 package com.erp.mini.user.repo;
 
 import com.erp.mini.user.domain.User;
+import com.erp.mini.user.dto.UserNameDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmployeeNumber(String employeeNumber);
     boolean existsByEmployeeNumber(String employeeNumber);
+
+    @Query("select new com.erp.mini.user.dto.UserNameDto(u.id, u.name) from User u order by u.id")
+    List<UserNameDto> findAllNames();
 }
@@ -1,5 +1,6 @@
 package com.erp.mini.user.service;
 
+import com.erp.mini.common.cache.UserNameCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.user.domain.User;
@@ -18,6 +19,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserNameCache userNameCache;
 
     private static final String RESET_SUFFIX = "1234";
 
@@ -35,6 +37,7 @@ public class UserService {
         );
 
         userRepository.save(user);
+        userNameCache.add(user.getId(), user.getName());
     }
 
     // 비밀번호 초기화
@@ -2,6 +2,7 @@ package com.erp.mini.warehouse.controller;
 
 import com.erp.mini.common.response.CustomResponse;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.warehouse.domain.WarehouseStatus;
 import com.erp.mini.warehouse.dto.AddWarehouseRequest;
 import com.erp.mini.warehouse.dto.SearchWarehouseCondition;
@@ -83,4 +84,23 @@ public class WarehouseController {
 
         return CustomResponse.ok(response);
     }
+
+    @Operation(summary = "창고 검색 (슬라이스)", description = "전체 건수 없이 다음 페이지 여부만 포함하여 창고 목록을 검색한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공")
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<CustomResponse<SliceResponse<SearchWarehouseResponse>>> searchWarehousesSlice(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) WarehouseStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SearchWarehouseCondition condition = new SearchWarehouseCondition(keyword, status);
+        Pageable pageable = PageRequest.of(page, size);
+
+        SliceResponse<SearchWarehouseResponse> response = warehouseService.searchWarehouseSlice(condition, pageable);
+
+        return CustomResponse.ok(response);
+    }
 }
@@ -7,8 +7,12 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(
         name = "warehouses",
         uniqueConstraints = {@UniqueConstraint(name = "uq_warehouses_code", columnNames = {"code"})},
@@ -68,8 +72,6 @@ public class Warehouse extends BaseEntity {
     }
 
     public void ensureAvailable() {
-        if (this.status == WarehouseStatus.INACTIVE) {
-            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 창고는 비활성화 상태입니다.");
-        }
+        this.status.ensureAvailable();
     }
 }
@@ -1,5 +1,15 @@
 package com.erp.mini.warehouse.domain;
 
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+
 public enum WarehouseStatus {
-    ACTIVE, INACTIVE
+    ACTIVE, INACTIVE;
+
+    // 창고 엔티티와 캐시 스냅샷이 같은 규칙으로 검증
+    public void ensureAvailable() {
+        if (this == INACTIVE) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "해당 창고는 비활성화 상태입니다.");
+        }
+    }
 }
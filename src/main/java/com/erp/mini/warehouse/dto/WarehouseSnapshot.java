@@ -0,0 +1,20 @@
+package com.erp.mini.warehouse.dto;
+
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+
+// 캐시 보관용 창고 스냅샷 (불변)
+public record WarehouseSnapshot(
+        Long id,
+        String code,
+        String name,
+        WarehouseStatus status
+) {
+    public static WarehouseSnapshot from(Warehouse warehouse) {
+        return new WarehouseSnapshot(warehouse.getId(), warehouse.getCode(), warehouse.getName(), warehouse.getStatus());
+    }
+
+    public void ensureAvailable() {
+        this.status.ensureAvailable();
+    }
+}
@@ -4,7 +4,9 @@ import com.erp.mini.warehouse.dto.SearchWarehouseCondition;
 import com.erp.mini.warehouse.dto.SearchWarehouseResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface WarehouseRepositoryCustom {
     Page<SearchWarehouseResponse> search(SearchWarehouseCondition condition, Pageable pageable);
+    Slice<SearchWarehouseResponse> searchSlice(SearchWarehouseCondition condition, Pageable pageable);
 }
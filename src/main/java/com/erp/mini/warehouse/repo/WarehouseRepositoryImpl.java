@@ -1,15 +1,18 @@
 package com.erp.mini.warehouse.repo;
 
+import com.erp.mini.common.util.SliceUtil;
 import com.erp.mini.warehouse.domain.WarehouseStatus;
 import com.erp.mini.warehouse.dto.SearchWarehouseCondition;
 import com.erp.mini.warehouse.dto.SearchWarehouseResponse;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 
@@ -22,7 +25,37 @@ public class WarehouseRepositoryImpl implements WarehouseRepositoryCustom {
 
     @Override
     public Page<SearchWarehouseResponse> search(SearchWarehouseCondition condition, Pageable pageable) {
-        List<SearchWarehouseResponse> contents = jpaQueryFactory
+        List<SearchWarehouseResponse> contents = searchQuery(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(warehouse.count())
+                .from(warehouse)
+                .where(
+                        statusEq(condition.status()),
+                        keywordPrefix(condition.keyword())
+                );
+
+        return PageableExecutionUtils.getPage(contents, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total == null ? 0 : total;
+        });
+    }
+
+    @Override
+    public Slice<SearchWarehouseResponse> searchSlice(SearchWarehouseCondition condition, Pageable pageable) {
+        List<SearchWarehouseResponse> contents = searchQuery(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return SliceUtil.toSlice(contents, pageable);
+    }
+
+    private JPAQuery<SearchWarehouseResponse> searchQuery(SearchWarehouseCondition condition) {
+        return jpaQueryFactory
                 .select(Projections.constructor(
                         SearchWarehouseResponse.class,
                         warehouse.id,
@@ -36,21 +69,7 @@ public class WarehouseRepositoryImpl implements WarehouseRepositoryCustom {
                         statusEq(condition.status()),
                         keywordPrefix(condition.keyword())
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(warehouse.name.asc())
-                .fetch();
-
-        Long total = jpaQueryFactory
-                .select(warehouse.count())
-                .from(warehouse)
-                .where(
-                        statusEq(condition.status()),
-                        keywordPrefix(condition.keyword())
-                )
-                .fetchOne();
-
-        return new PageImpl<SearchWarehouseResponse>(contents, pageable, total == null ? 0 : total);
+                .orderBy(warehouse.name.asc());
     }
 
     private BooleanExpression statusEq(WarehouseStatus status) {
@@ -1,8 +1,10 @@
 package com.erp.mini.warehouse.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.warehouse.domain.Warehouse;
 import com.erp.mini.warehouse.dto.AddWarehouseRequest;
 import com.erp.mini.warehouse.dto.SearchWarehouseCondition;
@@ -11,6 +13,7 @@ import com.erp.mini.warehouse.repo.WarehouseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class WarehouseService {
     private final WarehouseRepository warehouseRepository;
+    private final MasterDataCache masterDataCache;
 
     // 등록
     @Transactional
@@ -38,6 +42,7 @@ public class WarehouseService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 창고를 찾을 수 없습니다."));
 
         warehouse.deactivateWarehouse();
+        masterDataCache.evictWarehouse(warehouseId);
     }
 
     // 활성화
@@ -47,6 +52,7 @@ public class WarehouseService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 창고를 찾을 수 없습니다."));
 
         warehouse.activateWarehouse();
+        masterDataCache.evictWarehouse(warehouseId);
     }
 
     // 검색
@@ -58,4 +64,14 @@ public class WarehouseService {
 
         return PageResponse.from(search);
     }
+
+    // 검색 (count 생략)
+    @Transactional(readOnly = true)
+    public SliceResponse<SearchWarehouseResponse> searchWarehouseSlice(
+            SearchWarehouseCondition condition, Pageable pageable
+    ) {
+        Slice<SearchWarehouseResponse> search = warehouseRepository.searchSlice(condition, pageable);
+
+        return SliceResponse.from(search);
+    }
 }
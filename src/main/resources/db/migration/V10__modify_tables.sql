@@ -0,0 +1,14 @@
+-- 상품별 총 재고 요약 (전체 창고 합계, 재고 변경 시 증감분으로 갱신)
+-- 상품 FK 를 두므로 상품 삭제 전에 요약을 먼저 정리해야 함
+CREATE TABLE item_stock_summary
+(
+    item_id    BIGINT   PRIMARY KEY,                                                   -- 상품 식별자 ID
+    total_qty  BIGINT   NOT NULL,                                                      -- 전체 창고 재고 합계
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 변경 시각
+
+    CONSTRAINT fk_item_stock_summary_item FOREIGN KEY (item_id) REFERENCES items(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 기존 재고 기준 초기 적재
+INSERT INTO item_stock_summary (item_id, total_qty)
+SELECT item_id, SUM(qty) FROM stocks GROUP BY item_id;
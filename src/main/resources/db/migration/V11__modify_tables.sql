@@ -0,0 +1,28 @@
+-- 일자별 재고 스냅샷 (해당 일자 마감 수량, 그날 변동이 있었던 재고만 저장)
+-- 특정 일자 재고 = 그 일자 이하 가장 가까운 스냅샷 수량 (+ 마감되지 않은 일자의 이력 합계)
+-- 상품/창고 FK 를 두므로 상품/창고 삭제 전에 스냅샷을 먼저 정리해야 함
+CREATE TABLE stock_daily_snapshots
+(
+    item_id       BIGINT NOT NULL, -- 상품 식별자 ID
+    warehouse_id  BIGINT NOT NULL, -- 창고 식별자 ID
+    snapshot_date DATE   NOT NULL, -- 마감 일자
+    qty           BIGINT NOT NULL, -- 마감 일자 종료 시점 수량
+
+    PRIMARY KEY (item_id, warehouse_id, snapshot_date),
+
+    CONSTRAINT fk_stock_daily_snapshots_item      FOREIGN KEY (item_id)      REFERENCES items(id),
+    CONSTRAINT fk_stock_daily_snapshots_warehouse FOREIGN KEY (warehouse_id) REFERENCES warehouses(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 스냅샷 마감 진행 상태 (단일 행, 마감 작업 동시 실행 방지용 잠금 대상)
+CREATE TABLE stock_snapshot_progress
+(
+    id               TINYINT PRIMARY KEY, -- 항상 1
+    last_closed_date DATE    NULL         -- 마지막으로 마감된 일자 (NULL 이면 마감 이력 없음)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO stock_snapshot_progress (id, last_closed_date) VALUES (1, NULL);
+
+-- 특정 재고의 미마감 구간 이력 합계 조회용 인덱스 재추가 (V6 에서 삭제됨)
+CREATE INDEX idx_inventory_transactions_item_warehouse_created
+ON inventory_transactions (item_id, warehouse_id, created_at);
@@ -0,0 +1,9 @@
+-- Redis 예약 재고의 DB 반영 이력 (판매건당 한 번만 반영되도록 PK 로 보장)
+-- 반영 트랜잭션에서 먼저 INSERT 하므로 같은 판매건을 동시에 반영하면 한쪽은 키 충돌로 건너뜀
+CREATE TABLE stock_reservation_applies
+(
+    sales_order_id BIGINT PRIMARY KEY,   -- 판매 식별자 ID
+    applied_at     DATETIME(6) NOT NULL, -- 반영 일시
+
+    CONSTRAINT fk_stock_reservation_applies_sales_order FOREIGN KEY (sales_order_id) REFERENCES sales_orders(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
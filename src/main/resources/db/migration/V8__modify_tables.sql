@@ -0,0 +1,4 @@
+-- 재고 이력 커서 조회용 인덱스 추가 (필터 없이 created_at, id 역순 조회)
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (created_at, id) 순서로 탐색된다.
+CREATE INDEX idx_inventory_transactions_created
+ON inventory_transactions (created_at);
@@ -0,0 +1,17 @@
+-- JPA 테이블 기반 id 생성기 (IDENTITY 는 Hibernate insert batching 이 비활성화되므로 대량 적재 테이블에 사용)
+-- next_val 은 다음에 예약할 구간의 시작 값 (pooled-lo)
+CREATE TABLE id_generators
+(
+    sequence_name VARCHAR(255) PRIMARY KEY, -- 대상 테이블명
+    next_val      BIGINT       NOT NULL     -- 다음 구간 시작 값
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 id 이후부터 시작
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'stocks', COALESCE(MAX(id), 0) + 1 FROM stocks;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'sales_order_lines', COALESCE(MAX(id), 0) + 1 FROM sales_order_lines;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'purchase_order_lines', COALESCE(MAX(id), 0) + 1 FROM purchase_order_lines;
@@ -0,0 +1,114 @@
+package com.erp.mini.common.cache;
+
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemFixture;
+import com.erp.mini.item.dto.ItemSnapshot;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.partner.repo.PartnerRepository;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class MasterDataCacheTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+
+    @Mock
+    private PartnerRepository partnerRepository;
+
+    @Mock
+    private MasterDataInvalidationPublisher invalidationPublisher;
+
+    private MasterDataCache masterDataCache;
+
+    @BeforeEach
+    void setUp() {
+        masterDataCache = new MasterDataCache(
+                itemRepository, warehouseRepository, partnerRepository, invalidationPublisher, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void cached_item_is_not_loaded_again() {
+        Item item = ItemFixture.create();
+        given(itemRepository.findAllById(any())).willReturn(List.of(item));
+
+        ItemSnapshot first = masterDataCache.getItem(item.getId());
+        ItemSnapshot second = masterDataCache.getItem(item.getId());
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.code()).isEqualTo(item.getCode());
+        then(itemRepository).should(times(1)).findAllById(any());
+    }
+
+    @Test
+    void bulk_lookup_returns_only_existing_items() {
+        Item item = ItemFixture.create();
+        given(itemRepository.findAllById(any())).willReturn(List.of(item));
+
+        Map<Long, ItemSnapshot> result = masterDataCache.getItems(List.of(item.getId(), -1L));
+
+        assertThat(result).containsOnlyKeys(item.getId());
+    }
+
+    @Test
+    void evicted_item_is_loaded_again() {
+        Item item = ItemFixture.create();
+        given(itemRepository.findAllById(any())).willReturn(List.of(item));
+
+        masterDataCache.getItem(item.getId());
+        masterDataCache.evictItem(item.getId());
+        masterDataCache.getItem(item.getId());
+
+        then(itemRepository).should(times(2)).findAllById(any());
+        then(invalidationPublisher).should().publish(MasterDataType.ITEM, item.getId());
+    }
+
+    @Test
+    void item_invalidated_during_bulk_load_is_not_cached() {
+        Item item = ItemFixture.create();
+        given(itemRepository.findAllById(any()))
+                .willAnswer(invocation -> {
+                    // 로딩 중 다른 트랜잭션이 커밋되어 무효화된 경우
+                    masterDataCache.invalidateLocal(MasterDataType.ITEM, item.getId());
+                    return List.of(item);
+                })
+                .willReturn(List.of(item));
+
+        masterDataCache.getItems(List.of(item.getId()));
+        masterDataCache.getItems(List.of(item.getId()));
+        masterDataCache.getItems(List.of(item.getId()));
+
+        then(itemRepository).should(times(2)).findAllById(any());
+    }
+
+    @Test
+    void remote_invalidation_is_not_published_again() {
+        Item item = ItemFixture.create();
+        given(itemRepository.findAllById(any())).willReturn(List.of(item));
+
+        masterDataCache.getItem(item.getId());
+        masterDataCache.invalidateLocal(MasterDataType.ITEM, item.getId());
+        masterDataCache.getItem(item.getId());
+
+        then(itemRepository).should(times(2)).findAllById(any());
+        then(invalidationPublisher).shouldHaveNoInteractions();
+    }
+}
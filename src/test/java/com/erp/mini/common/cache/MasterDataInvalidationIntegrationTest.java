@@ -0,0 +1,124 @@
+package com.erp.mini.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "erp.cache.invalidation.enabled=true")
+@Import(TestAuditorConfig.class)
+@ActiveProfiles("integration")
+class MasterDataInvalidationIntegrationTest {
+
+    @Autowired
+    private MasterDataCache masterDataCache;
+
+    @Autowired
+    private MasterDataInvalidationPublisher invalidationPublisher;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerRedis(registry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        itemRepository.deleteAll();
+        warehouseRepository.deleteAll();
+    }
+
+    private Long createItem() {
+        Item item = itemRepository.save(Item.createItem("A", "ITM-A", BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+        itemRepository.findById(item.getId());
+
+        return item.getId();
+    }
+
+    private boolean cached(Class<?> entityClass, Long id) {
+        return entityManagerFactory.getCache().contains(entityClass, id);
+    }
+
+    // 구독 시작 전에 보낸 메시지는 유실되므로 반영될 때까지 다시 발행
+    private void publishUntilEvicted(String nodeId, MasterDataType type, Long id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (cached(type.getEntityClass(), id) && System.currentTimeMillis() < deadline) {
+            redisTemplate.convertAndSend(invalidationPublisher.getChannel(),
+                    new MasterDataInvalidation(nodeId, type, id).encode());
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void change_on_other_node_evicts_both_caches() throws Exception {
+        Long itemId = createItem();
+
+        assertThat(masterDataCache.getItem(itemId).status()).isEqualTo(ItemStatus.ACTIVE);
+        assertThat(cached(Item.class, itemId)).isTrue();
+
+        // 다른 인스턴스에서 비활성화 후 커밋된 상황
+        jdbcTemplate.update("update items set status = 'INACTIVE' where id = ?", itemId);
+
+        assertThat(masterDataCache.getItem(itemId).status()).isEqualTo(ItemStatus.ACTIVE);
+        assertThat(itemRepository.findById(itemId).orElseThrow().getStatus()).isEqualTo(ItemStatus.ACTIVE);
+
+        publishUntilEvicted("other-node", MasterDataType.ITEM, itemId);
+
+        assertThat(cached(Item.class, itemId)).isFalse();
+        assertThat(masterDataCache.getItem(itemId).status()).isEqualTo(ItemStatus.INACTIVE);
+        assertThat(itemRepository.findById(itemId).orElseThrow().getStatus()).isEqualTo(ItemStatus.INACTIVE);
+    }
+
+    @Test
+    void own_message_is_ignored() throws Exception {
+        Long itemId = createItem();
+        Warehouse warehouse = warehouseRepository.save(Warehouse.createWarehouse("WH-A", "loc", WarehouseStatus.ACTIVE));
+        warehouseRepository.findById(warehouse.getId());
+
+        redisTemplate.convertAndSend(invalidationPublisher.getChannel(),
+                new MasterDataInvalidation(invalidationPublisher.getNodeId(), MasterDataType.ITEM, itemId).encode());
+
+        // 같은 채널 메시지는 순서대로 처리되므로 뒤에 보낸 창고 메시지가 반영되면 앞 메시지도 처리된 것
+        publishUntilEvicted("other-node", MasterDataType.WAREHOUSE, warehouse.getId());
+
+        assertThat(cached(Warehouse.class, warehouse.getId())).isFalse();
+        assertThat(cached(Item.class, itemId)).isTrue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.erp.mini.common.cache;
+
+import com.erp.mini.user.dto.UserNameDto;
+import com.erp.mini.user.repo.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UserNameCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void names_are_loaded_once_and_looked_up_from_snapshot() {
+        UserNameCache userNameCache = new UserNameCache(userRepository, Duration.ofMinutes(1));
+        given(userRepository.findAllNames()).willReturn(List.of(
+                new UserNameDto(1L, "생성자"),
+                new UserNameDto(5L, "수정자")
+        ));
+
+        Map<Long, String> names = userNameCache.getNames(List.of(1L, 5L));
+
+        assertThat(names).containsEntry(1L, "생성자").containsEntry(5L, "수정자");
+        assertThat(userNameCache.getName(5L)).isEqualTo("수정자");
+        assertThat(userNameCache.getName(null)).isNull();
+        then(userRepository).should(times(1)).findAllNames();
+    }
+
+    @Test
+    void added_user_is_found_without_reload() {
+        UserNameCache userNameCache = new UserNameCache(userRepository, Duration.ofMinutes(1));
+        given(userRepository.findAllNames()).willReturn(List.of(
+                new UserNameDto(1L, "A"),
+                new UserNameDto(3L, "C")
+        ));
+
+        userNameCache.getName(1L);
+        userNameCache.add(2L, "B");
+        userNameCache.add(4L, "D");
+
+        assertThat(userNameCache.getNames(List.of(1L, 2L, 3L, 4L)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(1L, "A", 2L, "B", 3L, "C", 4L, "D"));
+        then(userRepository).should(times(1)).findAllNames();
+    }
+
+    @Test
+    void missing_user_reloads_at_most_once_per_interval() {
+        UserNameCache userNameCache = new UserNameCache(userRepository, Duration.ofMinutes(1));
+        given(userRepository.findAllNames()).willReturn(List.of(new UserNameDto(1L, "A")));
+
+        assertThat(userNameCache.getName(999L)).isNull();
+        assertThat(userNameCache.getNames(List.of(999L))).isEmpty();
+
+        then(userRepository).should(times(1)).findAllNames();
+    }
+
+    @Test
+    void missing_user_registered_elsewhere_is_loaded_on_miss() {
+        UserNameCache userNameCache = new UserNameCache(userRepository, Duration.ZERO);
+        given(userRepository.findAllNames())
+                .willReturn(List.of(new UserNameDto(1L, "A")))
+                .willReturn(List.of(new UserNameDto(1L, "A"), new UserNameDto(2L, "B")));
+
+        assertThat(userNameCache.getName(1L)).isEqualTo("A");
+        assertThat(userNameCache.getName(2L)).isEqualTo("B");
+        then(userRepository).should(times(2)).findAllNames();
+    }
+}
@@ -0,0 +1,131 @@
+package com.erp.mini.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.dto.SearchItemCondition;
+import com.erp.mini.item.dto.SearchItemResponse;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.item.service.ItemService;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+
+@SpringBootTest
+@Import(TestAuditorConfig.class)
+@ActiveProfiles("integration")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String HOSTNAME = "select @@hostname";
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerReplica(registry);
+    }
+
+    // 복제 대신 같은 스키마만 만들어 둔다
+    @BeforeAll
+    static void migrateReplica() {
+        TestContainerManager.startReplica();
+
+        Flyway.configure()
+                .dataSource(
+                        TestContainerManager.REPLICA.getJdbcUrl(),
+                        TestContainerManager.REPLICA.getUsername(),
+                        TestContainerManager.REPLICA.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaDataSource.checkLag();
+    }
+
+    @AfterEach
+    void cleanup() {
+        itemRepository.deleteAll();
+    }
+
+    private String hostname(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(HOSTNAME, String.class));
+    }
+
+    @Test
+    void read_only_transaction_uses_replica() {
+        String primary = hostname(false);
+        String replica = new JdbcTemplate(replicaDataSource).queryForObject(HOSTNAME, String.class);
+
+        assertThat(hostname(true))
+                .isEqualTo(replica)
+                .isNotEqualTo(primary);
+    }
+
+    @Test
+    void read_only_method_inside_write_transaction_uses_primary() {
+        String primary = hostname(false);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        String joined = transactionTemplate.execute(status -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+
+            return readOnly.execute(inner -> jdbcTemplate.queryForObject(HOSTNAME, String.class));
+        });
+
+        assertThat(joined).isEqualTo(primary);
+    }
+
+    @Test
+    void read_only_service_reads_from_replica() {
+        itemRepository.save(Item.createItem("복제 전 상품", "ITM-R01", BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+
+        // 대역 replica 는 복제하지 않으므로 primary 에 저장한 상품이 조회되지 않는다
+        PageResponse<SearchItemResponse> response = itemService.getItemBySearch(
+                new SearchItemCondition("ITM-R01", null), PageRequest.of(0, 10));
+
+        assertThat(response.content()).isEmpty();
+
+        // 트랜잭션 밖 JdbcTemplate 조회는 read-only 가 아니므로 primary
+        assertThat(jdbcTemplate.queryForObject("select count(*) from items", Long.class)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,147 @@
+package com.erp.mini.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica1);
+        replicas.put("replica-1", replica2);
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    // SHOW REPLICA STATUS 결과 (lag 가 null 이면 복제 중단)
+    private Connection replicaConnection(Long lag) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong("Seconds_Behind_Source")).willReturn(lag == null ? 0L : lag);
+        given(resultSet.wasNull()).willReturn(lag == null);
+
+        return connection;
+    }
+
+    private double fallbackCount() {
+        return meterRegistry.get("erp.datasource.replica.fallback").counter().count();
+    }
+
+    @Test
+    void unchecked_replicas_fall_back_to_primary() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(fallbackCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void lagging_replica_is_skipped() throws SQLException {
+        Connection lagCheck1 = replicaConnection(30L);
+        Connection lagCheck2 = replicaConnection(1L);
+        Connection query = mock(Connection.class);
+
+        given(replica1.getConnection()).willReturn(lagCheck1);
+        given(replica2.getConnection()).willReturn(lagCheck2, query, query);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(query);
+        assertThat(routingDataSource.getConnection()).isSameAs(query);
+        assertThat(fallbackCount()).isZero();
+        assertThat(meterRegistry.get("erp.datasource.replica.lag").tag("name", "replica-0").gauge().value())
+                .isEqualTo(30.0);
+    }
+
+    @Test
+    void stopped_or_unreachable_replicas_fall_back_to_primary() throws SQLException {
+        Connection stopped = replicaConnection(null);
+
+        given(replica1.getConnection()).willReturn(stopped);
+        given(replica2.getConnection()).willThrow(new SQLException("connection refused"));
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(fallbackCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void replica_connection_failure_falls_back_to_primary() throws SQLException {
+        Connection lagCheck1 = replicaConnection(0L);
+        Connection lagCheck2 = replicaConnection(0L);
+
+        given(replica1.getConnection()).willReturn(lagCheck1).willThrow(new SQLException("too many connections"));
+        given(replica2.getConnection()).willReturn(lagCheck2).willThrow(new SQLException("too many connections"));
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        // 다음 지연 확인 전까지는 replica 연결을 다시 시도하지 않는다
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(fallbackCount()).isEqualTo(2.0);
+    }
+
+    @Test
+    void credentials_are_passed_to_replica_and_primary() throws SQLException {
+        Connection lagCheck1 = replicaConnection(0L);
+        Connection lagCheck2 = replicaConnection(30L);
+        Connection query = mock(Connection.class);
+
+        given(replica1.getConnection()).willReturn(lagCheck1);
+        given(replica2.getConnection()).willReturn(lagCheck2);
+        given(replica1.getConnection("reader", "secret"))
+                .willReturn(query)
+                .willThrow(new SQLException("access denied"));
+        given(primary.getConnection("reader", "secret")).willReturn(primaryConnection);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.getConnection("reader", "secret")).isSameAs(query);
+        assertThat(routingDataSource.getConnection("reader", "secret")).isSameAs(primaryConnection);
+        assertThat(fallbackCount()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.erp.mini.common.security;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    // release 가 열릴 때까지 해시 스레드를 붙잡는 encoder
+    private PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    void encode_and_matches_run_on_hash_executor() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry, 1, 10, Duration.ofSeconds(5));
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("erp.security.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void full_queue_is_rejected_with_too_many_requests() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blocking(started, release), meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+        // 스레드 1개 실행 중 + 대기열 1개
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("erp.security.password.queue").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(BusinessException.class)
+                .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.TOO_MANY_REQUESTS);
+
+        release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(meterRegistry.get("erp.security.password.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slow_hash_is_rejected_after_timeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blocking(started, release), meterRegistry, 1, 1, Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> encoder.encode("a"))
+                .isInstanceOf(BusinessException.class)
+                .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.TOO_MANY_REQUESTS);
+
+        release.countDown();
+    }
+}
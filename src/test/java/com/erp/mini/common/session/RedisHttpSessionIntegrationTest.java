@@ -0,0 +1,202 @@
+package com.erp.mini.common.session;
+
+import com.erp.mini.user.domain.UserTestDataFactory;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@Tag("integration")
+@Transactional
+@Import(TestAuditorConfig.class)
+@SpringBootTest(properties = "erp.session.redis.enabled=true")
+@ActiveProfiles("integration")
+class RedisHttpSessionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserTestDataFactory userTestDataFactory;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerRedis(registry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        Set<String> keys = stringRedisTemplate.keys("erp:session:*");
+
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    // 인스턴스마다 near-cache 를 따로 가지는 저장소
+    private RedisHttpSessionRepository newNode(Duration touchInterval) {
+        return new RedisHttpSessionRepository(
+                connectionFactory, meterRegistry, Duration.ofMinutes(30), touchInterval, Duration.ofMinutes(1), 100);
+    }
+
+    // near-cache 없이 Redis 에 기록된 접근 시각 조회
+    private long storedAccessedTime(String id) {
+        return newNode(Duration.ZERO).findById(id).getLastAccessedTime().toEpochMilli();
+    }
+
+    @Test
+    void login_session_is_stored_in_redis() throws Exception {
+        userTestDataFactory.createUser("admin", "12345");
+
+        Cookie sessionCookie = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("employeeNumber", "12345")
+                        .param("password", "rawPassword"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn()
+                .getResponse()
+                .getCookie("JSESSIONID");
+
+        assertThat(sessionCookie).isNotNull();
+        assertThat(stringRedisTemplate.keys("erp:session:*")).hasSize(1);
+
+        mockMvc.perform(get("/api/item/slice").cookie(sessionCookie))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/item/slice"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void session_saved_on_one_node_is_found_on_another() {
+        RedisHttpSessionRepository nodeA = newNode(Duration.ofSeconds(60));
+        RedisHttpSessionRepository nodeB = newNode(Duration.ofSeconds(60));
+
+        RedisHttpSessionRepository.RedisHttpSession session = nodeA.createSession();
+        session.setAttribute("name", "value");
+        nodeA.save(session);
+
+        RedisHttpSessionRepository.RedisHttpSession found = nodeB.findById(session.getId());
+
+        assertThat(found).isNotNull();
+        assertThat((String) found.getAttribute("name")).isEqualTo("value");
+        assertThat(found.getCreationTime().toEpochMilli()).isEqualTo(session.getCreationTime().toEpochMilli());
+
+        nodeA.deleteById(session.getId());
+
+        assertThat(newNode(Duration.ofSeconds(60)).findById(session.getId())).isNull();
+    }
+
+    @Test
+    void access_only_change_is_written_after_touch_interval() {
+        RedisHttpSessionRepository repository = newNode(Duration.ofSeconds(60));
+
+        RedisHttpSessionRepository.RedisHttpSession session = repository.createSession();
+        repository.save(session);
+        long created = storedAccessedTime(session.getId());
+
+        // 속성 변경 없이 접근 시각만 바뀐 요청은 기록하지 않음
+        RedisHttpSessionRepository.RedisHttpSession next = repository.findById(session.getId());
+        next.setLastAccessedTime(Instant.ofEpochMilli(created).plusSeconds(10));
+        repository.save(next);
+
+        assertThat(storedAccessedTime(session.getId())).isEqualTo(created);
+
+        // 속성이 바뀌면 접근 시각도 함께 기록
+        next = repository.findById(session.getId());
+        next.setLastAccessedTime(Instant.ofEpochMilli(created).plusSeconds(20));
+        next.setAttribute("name", "value");
+        next.setAttribute("name", "changed");
+        repository.save(next);
+
+        assertThat(storedAccessedTime(session.getId())).isEqualTo(created + 20_000);
+
+        // touch-interval 이 지나면 접근 시각만 기록
+        next = repository.findById(session.getId());
+        next.setLastAccessedTime(Instant.ofEpochMilli(created).plusSeconds(90));
+        repository.save(next);
+
+        assertThat(storedAccessedTime(session.getId())).isEqualTo(created + 90_000);
+        assertThat((String) repository.findById(session.getId()).getAttribute("name")).isEqualTo("changed");
+    }
+
+    @Test
+    void changed_session_id_moves_stored_session() {
+        RedisHttpSessionRepository repository = newNode(Duration.ofSeconds(60));
+
+        RedisHttpSessionRepository.RedisHttpSession session = repository.createSession();
+        session.setAttribute("name", "value");
+        repository.save(session);
+
+        String oldId = session.getId();
+        RedisHttpSessionRepository.RedisHttpSession found = repository.findById(oldId);
+        String newId = found.changeSessionId();
+        repository.save(found);
+
+        assertThat(repository.findById(oldId)).isNull();
+        assertThat((String) newNode(Duration.ofSeconds(60)).findById(newId).getAttribute("name")).isEqualTo("value");
+    }
+
+    @Test
+    void save_after_delete_on_another_node_does_not_recreate_session() {
+        RedisHttpSessionRepository nodeA = newNode(Duration.ofSeconds(60));
+        RedisHttpSessionRepository nodeB = newNode(Duration.ofSeconds(60));
+
+        RedisHttpSessionRepository.RedisHttpSession session = nodeA.createSession();
+        session.setAttribute("name", "value");
+        nodeA.save(session);
+
+        // nodeB 가 요청 처리 중일 때 nodeA 에서 로그아웃
+        RedisHttpSessionRepository.RedisHttpSession inFlight = nodeB.findById(session.getId());
+        nodeA.deleteById(session.getId());
+
+        inFlight.setAttribute("name", "changed");
+        nodeB.save(inFlight);
+
+        assertThat(stringRedisTemplate.hasKey("erp:session:" + session.getId())).isFalse();
+        assertThat(nodeB.findById(session.getId())).isNull();
+    }
+
+    @Test
+    void hash_without_required_fields_is_treated_as_missing() {
+        stringRedisTemplate.opsForHash().put("erp:session:broken", "attr:name", "value");
+
+        assertThat(newNode(Duration.ofSeconds(60)).findById("broken")).isNull();
+        assertThat(stringRedisTemplate.hasKey("erp:session:broken")).isFalse();
+    }
+}
@@ -1,13 +1,22 @@
 package com.erp.mini.inventory.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -20,11 +29,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.CursorResponse;
+import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
 import com.erp.mini.inventory.domain.RefType;
 import com.erp.mini.inventory.domain.TransactionType;
 import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxExportFormat;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
 import com.erp.mini.inventory.dto.ItxSearchDto;
 import com.erp.mini.inventory.service.InventoryTransactionService;
@@ -85,6 +99,65 @@ class InventoryTransactionControllerTest {
         }
     }
 
+    @Nested
+    @CustomMockUser(id = 1L, employeeNumber = "EMP001")
+    class search_itx_by_cursor_test {
+        @Test
+        void search_success_returns_next_cursor() throws Exception {
+            ItxSearchDto dto = new ItxSearchDto(1L, "IC1", "Item1", "WH1", "Warehouse1",
+                    TransactionType.INBOUND, 10L, LocalDate.now().atStartOfDay(), "user1");
+
+            given(inventoryTransactionService.getInventoryTransactionByCursor(any(ItxSearchCondition.class), eq("token"), anyInt()))
+                    .willReturn(CursorResponse.of(List.of(dto), "next-token"));
+
+            mockMvc.perform(get("/api/inventory/transaction/cursor")
+                    .param("cursor", "token")
+                    .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].itemCode").value("IC1"))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andDo(print());
+        }
+
+        @Test
+        void search_fail_with_invalid_cursor() throws Exception {
+            given(inventoryTransactionService.getInventoryTransactionByCursor(any(ItxSearchCondition.class), eq("broken"), anyInt()))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_REQUEST, "올바르지 않은 커서입니다."));
+
+            mockMvc.perform(get("/api/inventory/transaction/cursor")
+                    .param("cursor", "broken"))
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+    }
+
+    @Nested
+    @CustomMockUser(id = 1L, employeeNumber = "EMP001")
+    class export_itx_test {
+        @Test
+        void export_success_as_ndjson() throws Exception {
+            willAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(2);
+                outputStream.write("{\"itxId\":1}\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).given(inventoryTransactionService)
+                    .exportInventoryTransaction(any(ItxSearchCondition.class), eq(ItxExportFormat.NDJSON), any(OutputStream.class));
+
+            MvcResult result = mockMvc.perform(get("/api/inventory/transaction/export")
+                    .param("itemId", "1")
+                    .param("format", "NDJSON"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"inventory-transactions.ndjson\""))
+                    .andExpect(content().string("{\"itxId\":1}\n"))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     @CustomMockUser(id = 1L, employeeNumber = "EMP001")
     class detail_itx_test {
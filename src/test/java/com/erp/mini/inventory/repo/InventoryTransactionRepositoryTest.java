@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,9 +23,10 @@ import com.erp.mini.common.config.JpaConfig;
 import com.erp.mini.inventory.domain.InventoryTransaction;
 import com.erp.mini.inventory.domain.RefType;
 import com.erp.mini.inventory.domain.TransactionType;
-import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxCursor;
+import com.erp.mini.inventory.dto.ItxDetailRow;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
-import com.erp.mini.inventory.dto.ItxSearchDto;
+import com.erp.mini.inventory.dto.ItxSearchRow;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.item.domain.ItemStatus;
 import com.erp.mini.partner.domain.Partner;
@@ -113,7 +116,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            Page<ItxSearchDto> result = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> result = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(null, null, null, null, null),
                     PageRequest.of(0, 10)
             );
@@ -141,7 +144,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            Page<ItxSearchDto> result = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> result = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(item1.getId(), null, null, null, null),
                     PageRequest.of(0, 10)
             );
@@ -169,7 +172,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            Page<ItxSearchDto> result = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> result = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(null, warehouse1.getId(), null, null, null),
                     PageRequest.of(0, 10)
             );
@@ -198,7 +201,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            Page<ItxSearchDto> result = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> result = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(null, null, null, null, TransactionType.INBOUND),
                     PageRequest.of(0, 10)
             );
@@ -224,7 +227,7 @@ public class InventoryTransactionRepositoryTest {
             LocalDate today = LocalDate.now();
 
             // when
-            Page<ItxSearchDto> result = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> result = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(null, null, today, today, null),
                     PageRequest.of(0, 10)
             );
@@ -249,11 +252,11 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            Page<ItxSearchDto> page1 = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> page1 = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(null, null, null, null, null),
                     PageRequest.of(0, 10)
             );
-            Page<ItxSearchDto> page2 = inventoryTransactionRepository.findInventoryTransaction(
+            Page<ItxSearchRow> page2 = inventoryTransactionRepository.findInventoryTransaction(
                     new ItxSearchCondition(null, null, null, null, null),
                     PageRequest.of(1, 10)
             );
@@ -265,6 +268,94 @@ public class InventoryTransactionRepositoryTest {
         }
     }
 
+    @Nested
+    class findInventoryTransactionByCursor_test {
+        @Test
+        void findInventoryTransactionByCursor_success_walks_all_rows_without_duplicates() {
+            // given
+            Item item = saveItem("설탕", "SUGAR001");
+            Warehouse warehouse = saveWarehouse("서울창고", "서울시");
+            Partner supplier = savePartner("SUP001", PartnerType.SUPPLIER, "010-1111-1111", "supplier@co.kr");
+            PurchaseOrder po = savePurchaseOrder(supplier);
+
+            for (int i = 0; i < 15; i++) {
+                InventoryTransaction tx = InventoryTransaction.purchaseInbound(item, warehouse, 100, po.getId());
+                em.persist(tx);
+            }
+            em.flush();
+            em.clear();
+
+            ItxSearchCondition condition = new ItxSearchCondition(null, null, null, null, null);
+
+            // when
+            List<ItxSearchRow> first = inventoryTransactionRepository.findInventoryTransactionByCursor(condition, null, 10);
+            ItxCursor cursor = ItxCursor.from(first.get(9));
+            List<ItxSearchRow> second = inventoryTransactionRepository.findInventoryTransactionByCursor(condition, cursor, 10);
+
+            // then
+            assertThat(first).hasSize(11);
+            assertThat(second).hasSize(5);
+            assertThat(second)
+                    .extracting(ItxSearchRow::itxId)
+                    .allMatch(id -> id < first.get(9).itxId());
+        }
+
+        @Test
+        void findInventoryTransactionByCursor_success_filter_by_item() {
+            // given
+            Item item1 = saveItem("설탕", "SUGAR001");
+            Item item2 = saveItem("소금", "SALT001");
+            Warehouse warehouse = saveWarehouse("서울창고", "서울시");
+            Partner supplier = savePartner("SUP001", PartnerType.SUPPLIER, "010-1111-1111", "supplier@co.kr");
+            PurchaseOrder po = savePurchaseOrder(supplier);
+
+            em.persist(InventoryTransaction.purchaseInbound(item1, warehouse, 100, po.getId()));
+            em.persist(InventoryTransaction.purchaseInbound(item2, warehouse, 50, po.getId()));
+            em.flush();
+            em.clear();
+
+            // when
+            List<ItxSearchRow> result = inventoryTransactionRepository.findInventoryTransactionByCursor(
+                    new ItxSearchCondition(item1.getId(), null, null, null, null), null, 10);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).itemCode()).isEqualTo("SUGAR001");
+        }
+    }
+
+    @Nested
+    class streamInventoryTransaction_test {
+        @Test
+        void streamInventoryTransaction_success_in_created_order_with_filter() {
+            // given
+            Item item1 = saveItem("설탕", "SUGAR001");
+            Item item2 = saveItem("소금", "SALT001");
+            Warehouse warehouse = saveWarehouse("서울창고", "서울시");
+            Partner supplier = savePartner("SUP001", PartnerType.SUPPLIER, "010-1111-1111", "supplier@co.kr");
+            PurchaseOrder po = savePurchaseOrder(supplier);
+
+            for (int i = 0; i < 5; i++) {
+                em.persist(InventoryTransaction.purchaseInbound(item1, warehouse, 10, po.getId()));
+            }
+            em.persist(InventoryTransaction.purchaseInbound(item2, warehouse, 20, po.getId()));
+            em.flush();
+            em.clear();
+
+            // when
+            List<ItxSearchRow> result;
+            try (Stream<ItxSearchRow> stream = inventoryTransactionRepository.streamInventoryTransaction(
+                    new ItxSearchCondition(item1.getId(), null, null, null, null))) {
+                result = stream.toList();
+            }
+
+            // then
+            assertThat(result).hasSize(5);
+            assertThat(result).allMatch(dto -> dto.itemCode().equals("SUGAR001"));
+            assertThat(result).extracting(ItxSearchRow::itxId).isSorted();
+        }
+    }
+
     @Nested
     class findInventoryTransactionDetail_test {
         @Test
@@ -281,7 +372,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            ItxDetailResponse detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
+            ItxDetailRow detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
 
             // then
             assertThat(detail).isNotNull();
@@ -306,7 +397,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            ItxDetailResponse detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
+            ItxDetailRow detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
 
             // then
             assertThat(detail).isNotNull();
@@ -331,7 +422,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            ItxDetailResponse detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
+            ItxDetailRow detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
 
             // then
             assertThat(detail).isNotNull();
@@ -354,7 +445,7 @@ public class InventoryTransactionRepositoryTest {
             em.clear();
 
             // when
-            ItxDetailResponse detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
+            ItxDetailRow detail = inventoryTransactionRepository.findInventoryTransactionDetail(tx.getId());
 
             // then
             assertThat(detail).isNotNull();
@@ -368,7 +459,7 @@ public class InventoryTransactionRepositoryTest {
         @Test
         void findInventoryTransactionDetail_return_null_when_not_found() {
             // when
-            ItxDetailResponse detail = inventoryTransactionRepository.findInventoryTransactionDetail(99999L);
+            ItxDetailRow detail = inventoryTransactionRepository.findInventoryTransactionDetail(99999L);
 
             // then
             assertThat(detail).isNull();
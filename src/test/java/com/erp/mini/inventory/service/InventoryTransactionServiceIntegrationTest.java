@@ -1,8 +1,11 @@
 package com.erp.mini.inventory.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
@@ -11,15 +14,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
 import com.erp.mini.inventory.domain.InventoryTransaction;
 import com.erp.mini.inventory.domain.RefType;
 import com.erp.mini.inventory.domain.TransactionType;
 import com.erp.mini.inventory.dto.ItxDetailResponse;
+import com.erp.mini.inventory.dto.ItxExportFormat;
 import com.erp.mini.inventory.dto.ItxSearchCondition;
 import com.erp.mini.inventory.dto.ItxSearchDto;
 import com.erp.mini.inventory.repo.InventoryTransactionRepository;
@@ -33,6 +40,10 @@ import com.erp.mini.sales.domain.OrderCustomerInfo;
 import com.erp.mini.sales.domain.SalesOrder;
 import com.erp.mini.sales.domain.ShippingAddress;
 import com.erp.mini.sales.repo.SalesOrderRepository;
+import com.erp.mini.user.domain.User;
+import com.erp.mini.user.dto.AddUserRequest;
+import com.erp.mini.user.repo.UserRepository;
+import com.erp.mini.user.service.UserService;
 import com.erp.mini.util.TestAuditorConfig;
 import com.erp.mini.util.TestContainerManager;
 import com.erp.mini.warehouse.domain.Warehouse;
@@ -62,6 +73,15 @@ class InventoryTransactionServiceIntegrationTest {
     @Autowired
     private SalesOrderRepository salesOrderRepository;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @DynamicPropertySource
     static void properties(DynamicPropertyRegistry registry) {
         TestContainerManager.registerMySQL(registry);
@@ -74,6 +94,7 @@ class InventoryTransactionServiceIntegrationTest {
         itemRepository.deleteAll();
         warehouseRepository.deleteAll();
         partnerRepository.deleteAll();
+        userRepository.deleteAll();
     }
 
     private Item createItem(String name, String code) {
@@ -127,6 +148,81 @@ class InventoryTransactionServiceIntegrationTest {
         }
     }
 
+    @Nested
+    class getInventoryTransactionByCursor_test {
+        @Test
+        void size_out_of_range_rejected() {
+            ItxSearchCondition condition = new ItxSearchCondition(null, null, null, null, null);
+
+            for (int size : new int[]{0, -1, 101}) {
+                assertThatThrownBy(() -> inventoryTransactionService.getInventoryTransactionByCursor(condition, null, size))
+                        .isInstanceOf(BusinessException.class)
+                        .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.BAD_REQUEST);
+            }
+        }
+    }
+
+    @Nested
+    class exportInventoryTransaction_test {
+        @Test
+        void export_csv_with_escaped_values() throws Exception {
+            Item item = createItem("설탕, 백설", "A001");
+            Warehouse wh = createWarehouse("WH1");
+
+            inventoryTransactionRepository.save(InventoryTransaction.purchaseInbound(item, wh, 10, 1L));
+            inventoryTransactionRepository.save(InventoryTransaction.purchaseInbound(item, wh, 20, 1L));
+            inventoryTransactionRepository.flush();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            inventoryTransactionService.exportInventoryTransaction(
+                    new ItxSearchCondition(item.getId(), null, null, null, null), ItxExportFormat.CSV, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).startsWith("\uFEFFitxId,");
+            assertThat(lines[1]).contains("A001,\"설탕, 백설\",").contains(",INBOUND,10,");
+            assertThat(lines[2]).contains(",INBOUND,20,");
+        }
+
+        @Test
+        void export_csv_neutralizes_formula_values() throws Exception {
+            Item item = createItem("=HYPERLINK(\"http://x\",\"a\")", "A001");
+            Warehouse wh = createWarehouse("@WH1");
+
+            inventoryTransactionRepository.save(InventoryTransaction.purchaseInbound(item, wh, 10, 1L));
+            inventoryTransactionRepository.flush();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            inventoryTransactionService.exportInventoryTransaction(
+                    new ItxSearchCondition(item.getId(), null, null, null, null), ItxExportFormat.CSV, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+            // 수식 시작 문자 앞에 ' 를 붙인 뒤 RFC 4180 규칙으로 감쌈
+            assertThat(lines[1]).contains("A001,\"'=HYPERLINK(\"\"http://x\"\",\"\"a\"\")\",");
+            assertThat(lines[1]).contains(",'@WH1,");
+        }
+
+        @Test
+        void export_ndjson_one_object_per_line() throws Exception {
+            Item item = createItem("A", "A001");
+            Warehouse wh = createWarehouse("WH1");
+
+            inventoryTransactionRepository.save(InventoryTransaction.purchaseInbound(item, wh, 10, 1L));
+            inventoryTransactionRepository.flush();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            inventoryTransactionService.exportInventoryTransaction(
+                    new ItxSearchCondition(null, null, null, null, null), ItxExportFormat.NDJSON, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+            assertThat(lines).hasSize(1);
+            assertThat(lines[0]).startsWith("{").contains("\"itemCode\":\"A001\"");
+        }
+    }
+
     @Nested
     class getInventoryTransactionDetail_test {
         @Test
@@ -143,6 +239,28 @@ class InventoryTransactionServiceIntegrationTest {
             assertThat(detail.refType()).isEqualTo(RefType.PURCHASE_ORDER);
         }
 
+        @Test
+        void detail_created_by_name_from_user_cache() {
+            // 등록 시 캐시에 추가되므로 users 조인 없이 작성자 이름 표시
+            userService.addUser(new AddUserRequest("작성자", "EMP-ITX-01", "password"));
+            User user = userRepository.findByEmployeeNumber("EMP-ITX-01").orElseThrow();
+
+            Item item = createItem("A", "A001");
+            Warehouse wh = createWarehouse("WH1");
+            InventoryTransaction saved = inventoryTransactionRepository.save(
+                    InventoryTransaction.purchaseInbound(item, wh, 20, 2L));
+
+            jdbcTemplate.update("update inventory_transactions set created_by = ? where id = ?",
+                    user.getId(), saved.getId());
+
+            ItxDetailResponse detail = inventoryTransactionService.getInventoryTransactionDetail(saved.getId());
+            assertThat(detail.createdBy()).isEqualTo("작성자");
+
+            PageResponse<ItxSearchDto> page = inventoryTransactionService.getInventoryTransaction(
+                    new ItxSearchCondition(item.getId(), null, null, null, null), PageRequest.of(0, 10));
+            assertThat(page.content()).extracting(ItxSearchDto::createdBy).containsExactly("작성자");
+        }
+
         @Test
         void detail_null_when_not_found() {
             ItxDetailResponse detail = inventoryTransactionService.getInventoryTransactionDetail(999L);
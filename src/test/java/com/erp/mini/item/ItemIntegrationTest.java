@@ -85,9 +85,10 @@ public class ItemIntegrationTest {
 
                         assertThat(itemRepository.findAll().size()).isEqualTo(1);
 
-                        Item findItem = itemRepository.findByCode("IC000001")
-                                        .orElseThrow();
+                        // 코드 번호는 구간 단위로 예약되어 gap 이 생길 수 있으므로 형식만 검증
+                        Item findItem = itemRepository.findAll().get(0);
 
+                        assertThat(findItem.getCode()).matches("IC\\d{6}");
                         assertThat(findItem.getBasePrice()).isEqualTo(request.basePrice());
                         assertThat(findItem.getName()).isEqualTo(request.name());
                         assertThat(findItem.getStatus()).isEqualTo(request.itemStatus());
@@ -3,6 +3,7 @@ package com.erp.mini.item.controller;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
 import com.erp.mini.common.response.PageResponse;
+import com.erp.mini.common.response.SliceResponse;
 import com.erp.mini.item.domain.ItemStatus;
 import com.erp.mini.item.dto.AddItemRequest;
 import com.erp.mini.item.dto.ChangeItemPriceRequest;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -134,6 +136,28 @@ class ItemControllerTest {
                     .andExpect(jsonPath("$.data.pageInfo.totalElements").value(contents.size()))
                     .andDo(print());
         }
+
+        @Test
+        void search_item_slice_success() throws Exception {
+            Pageable pageable = PageRequest.of(0, 2);
+            List<SearchItemResponse> contents =
+                    List.of(
+                            new SearchItemResponse(1L, "ITEM - 1", "IC000001", ItemStatus.ACTIVE),
+                            new SearchItemResponse(2L, "ITEM - 2", "IC000002", ItemStatus.ACTIVE)
+                    );
+
+            SliceResponse<SearchItemResponse> response = SliceResponse.from(new SliceImpl<>(contents, pageable, true));
+
+            given(itemService.getItemBySearchSlice(any(SearchItemCondition.class), any(Pageable.class))).willReturn(response);
+
+            mockMvc.perform(get("/api/item/slice")
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.sliceInfo.page").value(1))
+                    .andExpect(jsonPath("$.data.sliceInfo.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.pageInfo").doesNotExist())
+                    .andDo(print());
+        }
     }
 
     @Nested
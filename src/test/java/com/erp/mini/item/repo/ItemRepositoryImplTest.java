@@ -19,6 +19,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -87,4 +88,18 @@ class ItemRepositoryImplTest {
         assertThat(page2.getContent()).hasSize(0);
         assertThat(page2.getTotalElements()).isEqualTo(0);
     }
+
+    @Test
+    void searchSlice_test() {
+        SearchItemCondition searchItemCondition = new SearchItemCondition(null, null);
+
+        Slice<SearchItemResponse> first = itemRepository.searchSlice(searchItemCondition, PageRequest.of(0, 4));
+        Slice<SearchItemResponse> last = itemRepository.searchSlice(searchItemCondition, PageRequest.of(2, 4));
+
+        assertThat(first.getContent()).hasSize(4);
+        assertThat(first.hasNext()).isTrue();
+
+        assertThat(last.getContent()).hasSize(2);
+        assertThat(last.hasNext()).isFalse();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.erp.mini.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCodeAllocatorTest {
+
+    @Mock
+    private ItemCodeBlockReserver itemCodeBlockReserver;
+
+    @Test
+    void allocate_within_block_without_reserving_again() {
+        given(itemCodeBlockReserver.reserve(3)).willReturn(1L, 101L);
+
+        ItemCodeAllocator allocator = new ItemCodeAllocator(itemCodeBlockReserver, 3);
+
+        List<Long> values = List.of(allocator.next(), allocator.next(), allocator.next(), allocator.next());
+
+        assertThat(values).containsExactly(1L, 2L, 3L, 101L);
+        then(itemCodeBlockReserver).should(times(2)).reserve(3);
+    }
+
+    @Test
+    void concurrent_allocation_is_unique() throws Exception {
+        AtomicLong sequence = new AtomicLong(1);
+        given(itemCodeBlockReserver.reserve(10)).willAnswer(invocation -> sequence.getAndAdd(10));
+
+        ItemCodeAllocator allocator = new ItemCodeAllocator(itemCodeBlockReserver, 10);
+
+        int threads = 8;
+        int perThread = 500;
+        Set<Long> allocated = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        allocated.add(allocator.next());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allocated).hasSize(threads * perThread);
+        then(itemCodeBlockReserver).should(times(threads * perThread / 10)).reserve(10);
+    }
+
+    @Test
+    void invalid_block_size() {
+        assertThatThrownBy(() -> new ItemCodeAllocator(itemCodeBlockReserver, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
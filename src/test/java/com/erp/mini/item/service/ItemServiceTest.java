@@ -1,23 +1,21 @@
 package com.erp.mini.item.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.PageResponse;
 import com.erp.mini.item.domain.Item;
-import com.erp.mini.item.domain.ItemCodeSequence;
 import com.erp.mini.item.domain.ItemFixture;
 import com.erp.mini.item.domain.ItemStatus;
 import com.erp.mini.item.dto.AddItemRequest;
 import com.erp.mini.item.dto.ChangeItemPriceRequest;
 import com.erp.mini.item.dto.SearchItemCondition;
 import com.erp.mini.item.dto.SearchItemResponse;
-import com.erp.mini.item.repo.ItemCodeSequenceRepository;
 import com.erp.mini.item.repo.ItemRepository;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -43,7 +41,10 @@ class ItemServiceTest {
     private ItemRepository itemRepository;
 
     @Mock
-    private ItemCodeSequenceRepository itemCodeSequenceRepository;
+    private ItemCodeAllocator itemCodeAllocator;
+
+    @Mock
+    private MasterDataCache masterDataCache;
 
     @InjectMocks
     private ItemService itemService;
@@ -56,13 +57,11 @@ class ItemServiceTest {
                     "테스트 상품", BigDecimal.valueOf(15000.00), ItemStatus.ACTIVE
             );
 
-            ItemCodeSequence sequence = Mockito.mock(ItemCodeSequence.class);
-            given(sequence.getNextAndIncrement()).willReturn(1L);
-            given(itemCodeSequenceRepository.getItemCodeSequence()).willReturn(sequence);
+            given(itemCodeAllocator.next()).willReturn(1L);
 
             itemService.addItem(request);
 
-            then(itemCodeSequenceRepository).should().getItemCodeSequence();
+            then(itemCodeAllocator).should().next();
             then(itemRepository).should().save(argThat(item ->
                     item.getName().equals(request.name())
                             && item.getCode().equals("IC000001")
@@ -82,6 +81,7 @@ class ItemServiceTest {
             itemService.deactivateItem(item.getId());
 
             then(itemRepository).should().findById(item.getId());
+            then(masterDataCache).should().evictItem(item.getId());
             assertThat(item.getStatus()).isEqualTo(ItemStatus.INACTIVE);
         }
 
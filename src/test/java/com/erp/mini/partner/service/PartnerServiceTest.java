@@ -1,5 +1,6 @@
 package com.erp.mini.partner.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.PageResponse;
 import com.erp.mini.partner.domain.Partner;
@@ -33,6 +34,9 @@ class PartnerServiceTest {
     @Mock
     private PartnerRepository partnerRepository;
 
+    @Mock
+    private MasterDataCache masterDataCache;
+
     @InjectMocks
     private PartnerService partnerService;
 
@@ -206,5 +206,24 @@ class PurchaseOrderControllerTest {
                     .andExpect(status().isBadRequest())
                     .andDo(print());
         }
+
+        @Test
+        void get_purchase_details_success() throws Exception {
+            PurchaseDetailResponse response = new PurchaseDetailResponse(
+                    new PurchaseHeaderDto(
+                            2L, "C2", "파트너", PurchaseStatus.CREATED,
+                            LocalDateTime.now(), LocalDateTime.now(), "관리자", "관리자"
+                    ),
+                    List.of()
+            );
+
+            given(purchaseOrderService.getPurchaseOrderDetails(List.of(2L, 1L))).willReturn(List.of(response));
+
+            mockMvc.perform(get("/api/purchase-order/details").param("ids", "2", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].header.partnerCode").value("C2"))
+                    .andExpect(jsonPath("$.data[0].lines").isEmpty())
+                    .andDo(print());
+        }
     }
 }
\ No newline at end of file
@@ -76,6 +76,20 @@ class PurchaseOrderTest {
             assertThat(purchaseOrder.getPurchaseOrderLines()).isEmpty();
         }
 
+        @Test
+        void add_line_success_after_remove_same_key() {
+            PurchaseOrder purchaseOrder = PurchaseOrder.createPurchaseOrder(partner);
+            purchaseOrder.addLine(item, warehouse, 10, new BigDecimal("2000.00"));
+
+            ReflectionTestUtils.setField(purchaseOrder.getPurchaseOrderLines().get(0), "id", 1L);
+            purchaseOrder.removeLine(1L);
+
+            purchaseOrder.addLine(item, warehouse, 5, new BigDecimal("2000.00"));
+
+            assertThat(purchaseOrder.getPurchaseOrderLines()).hasSize(1);
+            assertThat(purchaseOrder.getPurchaseOrderLines().get(0).getQty()).isEqualTo(5);
+        }
+
         @Test
         void remove_line_fail_with_line_not_found() {
             PurchaseOrder purchaseOrder = PurchaseOrder.createPurchaseOrder(partner);
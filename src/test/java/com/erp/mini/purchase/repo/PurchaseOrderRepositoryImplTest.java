@@ -23,8 +23,7 @@ import com.erp.mini.partner.domain.Partner;
 import com.erp.mini.partner.domain.PartnerType;
 import com.erp.mini.purchase.domain.PurchaseOrder;
 import com.erp.mini.purchase.domain.PurchaseStatus;
-import com.erp.mini.purchase.dto.PurchaseHeaderDto;
-import com.erp.mini.purchase.dto.PurchaseLineDto;
+import com.erp.mini.purchase.dto.PurchaseDetailRow;
 import com.erp.mini.util.TestAuditorConfig;
 import com.erp.mini.util.TestContainerManager;
 import com.erp.mini.util.TestQuerydslConfig;
@@ -94,27 +93,47 @@ class PurchaseOrderRepositoryImplTest {
 
         @Test
         void get_purchase_header_test() {
-                PurchaseHeaderDto header = repository.getPurchaseDetailHeader(id);
+                List<PurchaseDetailRow> rows = repository.getPurchaseDetailRows(List.of(id));
 
-                assertThat(header).isNotNull();
+                assertThat(rows).isNotEmpty();
+                assertThat(rows).extracting(PurchaseDetailRow::purchaseOrderId).containsOnly(id);
+
+                PurchaseDetailRow header = rows.get(0);
                 assertThat(header.partnerName()).isEqualTo(partner.getName());
                 assertThat(header.partnerCode()).isEqualTo(partner.getCode());
                 assertThat(header.status()).isEqualTo(PurchaseStatus.CREATED);
+                assertThat(header.createdBy()).isEqualTo(1L);
         }
 
         @Test
         void get_purchase_lines_test() {
-                List<PurchaseLineDto> lines = repository.getPurchaseDetailLines(id);
+                List<PurchaseDetailRow> lines = repository.getPurchaseDetailRows(List.of(id));
 
                 assertThat(lines).isNotNull();
                 assertThat(lines.size()).isEqualTo(2);
                 assertThat(lines)
                                 .extracting(
-                                                PurchaseLineDto::itemCode,
-                                                PurchaseLineDto::qty,
-                                                PurchaseLineDto::unitCost)
+                                                PurchaseDetailRow::itemCode,
+                                                PurchaseDetailRow::qty,
+                                                PurchaseDetailRow::unitCost)
                                 .containsExactlyInAnyOrder(
                                                 tuple(item1.getCode(), 10L, new BigDecimal("2000.00")),
                                                 tuple(item2.getCode(), 10L, new BigDecimal("3000.00")));
         }
+
+        @Test
+        void get_purchase_rows_for_multiple_orders_test() {
+                PurchaseOrder empty = repository.save(PurchaseOrder.createPurchaseOrder(em.merge(partner)));
+
+                em.flush();
+                em.clear();
+
+                List<PurchaseDetailRow> rows = repository.getPurchaseDetailRows(List.of(empty.getId(), id));
+
+                // 주문 id 순, 라인이 없는 주문은 헤더 1행
+                assertThat(rows).hasSize(3);
+                assertThat(rows).extracting(PurchaseDetailRow::purchaseOrderId)
+                                .containsExactly(id, id, empty.getId());
+                assertThat(rows.get(2).hasLine()).isFalse();
+        }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -59,6 +60,9 @@ class PurchaseOrderServiceIntegrationTest {
     @Autowired
     private InventoryTransactionRepository inventoryTransactionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @DynamicPropertySource
     static void properties(DynamicPropertyRegistry registry) {
         TestContainerManager.registerMySQL(registry);
@@ -66,6 +70,7 @@ class PurchaseOrderServiceIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        jdbcTemplate.update("delete from item_stock_summary");
         inventoryTransactionRepository.deleteAll();
         stockRepository.deleteAll();
         purchaseOrderRepository.deleteAll();
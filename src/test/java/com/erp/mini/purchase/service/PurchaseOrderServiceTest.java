@@ -4,12 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,13 +21,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.erp.mini.common.cache.MasterDataCache;
+import com.erp.mini.common.cache.UserNameCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.item.domain.ItemFixture;
+import com.erp.mini.item.dto.ItemSnapshot;
 import com.erp.mini.item.repo.ItemRepository;
 import com.erp.mini.partner.domain.Partner;
 import com.erp.mini.partner.domain.PartnerFixture;
 import com.erp.mini.partner.domain.PartnerType;
+import com.erp.mini.partner.dto.PartnerSnapshot;
 import com.erp.mini.partner.repo.PartnerRepository;
 import com.erp.mini.purchase.domain.PurchaseOrder;
 import com.erp.mini.purchase.domain.PurchaseOrderFixture;
@@ -34,12 +39,12 @@ import com.erp.mini.purchase.domain.PurchaseOrderLine;
 import com.erp.mini.purchase.domain.PurchaseStatus;
 import com.erp.mini.purchase.dto.AddPurchaseOrderLineRequest;
 import com.erp.mini.purchase.dto.PurchaseDetailResponse;
-import com.erp.mini.purchase.dto.PurchaseHeaderDto;
-import com.erp.mini.purchase.dto.PurchaseLineDto;
+import com.erp.mini.purchase.dto.PurchaseDetailRow;
 import com.erp.mini.purchase.dto.PurchaseOrderRequest;
 import com.erp.mini.purchase.repo.PurchaseOrderRepository;
 import com.erp.mini.warehouse.domain.Warehouse;
 import com.erp.mini.warehouse.domain.WarehouseFixture;
+import com.erp.mini.warehouse.dto.WarehouseSnapshot;
 import com.erp.mini.warehouse.repo.WarehouseRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +62,12 @@ class PurchaseOrderServiceTest {
     @Mock
     private WarehouseRepository warehouseRepository;
 
+    @Mock
+    private MasterDataCache masterDataCache;
+
+    @Mock
+    private UserNameCache userNameCache;
+
     @InjectMocks
     private PurchaseOrderService purchaseOrderService;
 
@@ -66,13 +77,16 @@ class PurchaseOrderServiceTest {
         void add_purchase_success() {
             Partner partner = PartnerFixture.create(
                     "공급처", "SUP000001", PartnerType.SUPPLIER, null, null);
-            given(partnerRepository.findById(1L)).willReturn(Optional.of(partner));
+            given(masterDataCache.getPartner(1L)).willReturn(PartnerSnapshot.from(partner));
 
             Item item = ItemFixture.create();
             Warehouse warehouse = WarehouseFixture.create();
 
-            given(itemRepository.findAllById(any())).willReturn(List.of(item));
-            given(warehouseRepository.findAllById(any())).willReturn(List.of(warehouse));
+            given(masterDataCache.getItems(any())).willReturn(Map.of(item.getId(), ItemSnapshot.from(item)));
+            given(masterDataCache.getWarehouses(any()))
+                    .willReturn(Map.of(warehouse.getId(), WarehouseSnapshot.from(warehouse)));
+            given(itemRepository.getReferenceById(item.getId())).willReturn(item);
+            given(warehouseRepository.getReferenceById(warehouse.getId())).willReturn(warehouse);
 
             PurchaseOrderRequest request = new PurchaseOrderRequest(
                     1L,
@@ -89,7 +103,7 @@ class PurchaseOrderServiceTest {
 
         @Test
         void add_purchase_fail_with_partner_not_found() {
-            given(partnerRepository.findById(1L)).willReturn(Optional.empty());
+            given(masterDataCache.getPartner(1L)).willReturn(null);
 
             PurchaseOrderRequest request = new PurchaseOrderRequest(
                     1L,
@@ -110,13 +124,12 @@ class PurchaseOrderServiceTest {
         void add_purchase_fail_with_item_not_found() {
             Partner partner = PartnerFixture.create(
                     "공급처", "SUP000001", PartnerType.SUPPLIER, null, null);
-            given(partnerRepository.findById(1L)).willReturn(Optional.of(partner));
+            given(masterDataCache.getPartner(1L)).willReturn(PartnerSnapshot.from(partner));
 
             Item item = ItemFixture.create();
             Warehouse warehouse = WarehouseFixture.create();
 
-            given(itemRepository.findAllById(any())).willReturn(List.of(item));
-            given(warehouseRepository.findAllById(any())).willReturn(List.of(warehouse));
+            given(masterDataCache.getItems(any())).willReturn(Map.of(item.getId(), ItemSnapshot.from(item)));
 
             PurchaseOrderRequest request = new PurchaseOrderRequest(
                     1L,
@@ -136,14 +149,17 @@ class PurchaseOrderServiceTest {
         void add_purchase_fail_with_warehouse_not_found() {
             Partner partner = PartnerFixture.create(
                     "공급처", "SUP000001", PartnerType.SUPPLIER, null, null);
-            given(partnerRepository.findById(1L)).willReturn(Optional.of(partner));
+            given(masterDataCache.getPartner(1L)).willReturn(PartnerSnapshot.from(partner));
 
             Item item = ItemFixture.create();
             Item item2 = ItemFixture.create();
             Warehouse warehouse = WarehouseFixture.create();
 
-            given(itemRepository.findAllById(any())).willReturn(List.of(item, item2));
-            given(warehouseRepository.findAllById(any())).willReturn(List.of(warehouse));
+            given(masterDataCache.getItems(any())).willReturn(Map.of(
+                    item.getId(), ItemSnapshot.from(item),
+                    item2.getId(), ItemSnapshot.from(item2)));
+            given(masterDataCache.getWarehouses(any()))
+                    .willReturn(Map.of(warehouse.getId(), WarehouseSnapshot.from(warehouse)));
 
             PurchaseOrderRequest request = new PurchaseOrderRequest(
                     1L,
@@ -170,8 +186,10 @@ class PurchaseOrderServiceTest {
             PurchaseOrder purchaseOrder = PurchaseOrderFixture.create(partner);
 
             given(purchaseOrderRepository.findByIdWithLines(1L)).willReturn(Optional.of(purchaseOrder));
-            given(itemRepository.findById(any())).willReturn(Optional.of(item));
-            given(warehouseRepository.findById(any())).willReturn(Optional.of(warehouse));
+            given(masterDataCache.getItem(any())).willReturn(ItemSnapshot.from(item));
+            given(masterDataCache.getWarehouse(any())).willReturn(WarehouseSnapshot.from(warehouse));
+            given(itemRepository.getReferenceById(any())).willReturn(item);
+            given(warehouseRepository.getReferenceById(any())).willReturn(warehouse);
 
             AddPurchaseOrderLineRequest request = new AddPurchaseOrderLineRequest(1L, 1L, BigDecimal.valueOf(1000),
                     10L);
@@ -202,7 +220,7 @@ class PurchaseOrderServiceTest {
             PurchaseOrder purchaseOrder = PurchaseOrderFixture.create(partner);
 
             given(purchaseOrderRepository.findByIdWithLines(1L)).willReturn(Optional.of(purchaseOrder));
-            given(itemRepository.findById(any())).willReturn(Optional.empty());
+            given(masterDataCache.getItem(any())).willReturn(null);
 
             AddPurchaseOrderLineRequest request = new AddPurchaseOrderLineRequest(1L, 1L, BigDecimal.valueOf(1000),
                     10L);
@@ -222,7 +240,7 @@ class PurchaseOrderServiceTest {
             PurchaseOrder purchaseOrder = PurchaseOrderFixture.create(partner);
 
             given(purchaseOrderRepository.findByIdWithLines(1L)).willReturn(Optional.of(purchaseOrder));
-            given(itemRepository.findById(any())).willReturn(Optional.of(item));
+            given(masterDataCache.getItem(any())).willReturn(ItemSnapshot.from(item));
 
             AddPurchaseOrderLineRequest request = new AddPurchaseOrderLineRequest(1L, 1L, BigDecimal.valueOf(1000),
                     10L);
@@ -326,23 +344,61 @@ class PurchaseOrderServiceTest {
 
     @Nested
     class get_purchase_order_detail_test {
+        private PurchaseDetailRow row(Long purchaseOrderId, Long lineId, String itemCode) {
+            return new PurchaseDetailRow(
+                    purchaseOrderId, "SUP000001", "공급처", PurchaseStatus.CREATED, null, null, 1L, 2L,
+                    lineId, itemCode, "상품", "WH1", "창고", "어딘가",
+                    lineId == null ? null : 10L,
+                    lineId == null ? null : BigDecimal.valueOf(1000),
+                    lineId == null ? null : BigDecimal.valueOf(10000)
+            );
+        }
+
         @Test
         void get_purchase_order_detail_success() {
-            PurchaseHeaderDto header = mock(PurchaseHeaderDto.class);
-            List<PurchaseLineDto> lines = List.of(mock(PurchaseLineDto.class));
-
-            given(purchaseOrderRepository.getPurchaseDetailHeader(1L)).willReturn(header);
-            given(purchaseOrderRepository.getPurchaseDetailLines(1L)).willReturn(lines);
+            given(purchaseOrderRepository.getPurchaseDetailRows(List.of(1L)))
+                    .willReturn(List.of(row(1L, 1L, "ITM-1"), row(1L, 2L, "ITM-2")));
+            given(userNameCache.getNames(Set.of(1L, 2L))).willReturn(Map.of(1L, "생성자", 2L, "수정자"));
 
             PurchaseDetailResponse response = purchaseOrderService.getPurchaseOrderDetail(1L);
 
-            assertThat(response.header()).isEqualTo(header);
-            assertThat(response.lines()).isEqualTo(lines);
+            assertThat(response.header().id()).isEqualTo(1L);
+            assertThat(response.header().createdBy()).isEqualTo("생성자");
+            assertThat(response.header().updatedBy()).isEqualTo("수정자");
+            assertThat(response.lines()).extracting("itemCode").containsExactly("ITM-1", "ITM-2");
+        }
+
+        @Test
+        void get_purchase_order_details_in_request_order() {
+            given(purchaseOrderRepository.getPurchaseDetailRows(List.of(2L, 1L, 3L)))
+                    .willReturn(List.of(row(1L, 1L, "ITM-1"), row(2L, null, null)));
+            given(userNameCache.getNames(Set.of(1L, 2L))).willReturn(Map.of(1L, "생성자"));
+
+            ReflectionTestUtils.setField(purchaseOrderService, "maxDetailBatchSize", 100);
+
+            List<PurchaseDetailResponse> responses = purchaseOrderService.getPurchaseOrderDetails(List.of(2L, 1L, 3L, 1L));
+
+            // 없는 구매건(3) 제외, 라인이 없는 구매건은 빈 라인
+            assertThat(responses).extracting(r -> r.header().id()).containsExactly(2L, 1L);
+            assertThat(responses.get(0).lines()).isEmpty();
+            assertThat(responses.get(1).header().updatedBy()).isNull();
+        }
+
+        @Test
+        void get_purchase_order_details_fail_with_too_many_ids() {
+            ReflectionTestUtils.setField(purchaseOrderService, "maxDetailBatchSize", 2);
+
+            assertThatThrownBy(() -> purchaseOrderService.getPurchaseOrderDetails(List.of(1L, 2L, 3L)))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> {
+                        BusinessException ex = (BusinessException) e;
+                        assertThat(ex.getErrorCode().getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    });
         }
 
         @Test
         void get_purchase_order_detail_fail_with_purchase_order_not_found() {
-            given(purchaseOrderRepository.getPurchaseDetailHeader(1L)).willReturn(null);
+            given(purchaseOrderRepository.getPurchaseDetailRows(List.of(1L))).willReturn(List.of());
 
             assertThatThrownBy(() -> purchaseOrderService.getPurchaseOrderDetail(1L))
                     .isInstanceOf(BusinessException.class)
@@ -1,6 +1,8 @@
 package com.erp.mini.sales.controller;
 
 import com.erp.mini.sales.dto.AddSalesOrderLineRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderResponse;
 import com.erp.mini.sales.dto.SalesDetailResponse;
 import com.erp.mini.sales.dto.SalesHeaderDto;
 import com.erp.mini.sales.dto.SalesLineDto;
@@ -21,6 +23,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -83,6 +86,75 @@ class SalesOrderControllerTest {
         }
     }
 
+    @Nested
+    @CustomMockUser(id = 1L, employeeNumber = "EMP001")
+    class bulk_sales_test {
+        @Test
+        void bulk_sales_success() throws Exception {
+            SalesOrderRequest order = new SalesOrderRequest(
+                    1L,
+                    "구매자",
+                    "010-1234-5678",
+                    "12345",
+                    "주소1",
+                    "주소2",
+                    List.of(new SalesOrderRequest.SaleLine(1L, 1L, BigDecimal.valueOf(1500), 5L))
+            );
+
+            BulkSalesOrderResponse response = BulkSalesOrderResponse.of(List.of(
+                    BulkSalesOrderResponse.Result.ordered(0, 10L),
+                    BulkSalesOrderResponse.Result.failed(1, 11L, "수량이 부족합니다.")
+            ));
+
+            given(salesOrderService.createAndOrderSales(any())).willReturn(response);
+
+            mockMvc.perform(post("/api/sales-order/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BulkSalesOrderRequest(List.of(order, order)))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.ordered").value(1))
+                    .andExpect(jsonPath("$.data.failed").value(1))
+                    .andExpect(jsonPath("$.data.results[1].message").value("수량이 부족합니다."))
+                    .andDo(print());
+        }
+
+        @Test
+        void bulk_sales_passes_invalid_order_to_service() throws Exception {
+            SalesOrderRequest invalid = new SalesOrderRequest(
+                    1L,
+                    "",
+                    "010-1234-5678",
+                    "12345",
+                    "주소1",
+                    "주소2",
+                    List.of(new SalesOrderRequest.SaleLine(1L, 1L, BigDecimal.valueOf(1500), 5L))
+            );
+
+            BulkSalesOrderResponse response = BulkSalesOrderResponse.of(List.of(
+                    BulkSalesOrderResponse.Result.failed(0, null, "customerName: 구매자명은 필수입니다.")
+            ));
+
+            given(salesOrderService.createAndOrderSales(any())).willReturn(response);
+
+            // 판매건별 검증은 서비스에서 처리하므로 잘못된 판매건이 있어도 요청 전체를 거절하지 않음
+            mockMvc.perform(post("/api/sales-order/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BulkSalesOrderRequest(List.of(invalid)))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.failed").value(1))
+                    .andDo(print());
+        }
+
+        @Test
+        void bulk_sales_fail_with_empty_orders() throws Exception {
+            mockMvc.perform(post("/api/sales-order/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BulkSalesOrderRequest(List.of()))))
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+    }
+
     @Nested
     @CustomMockUser(id = 1L, employeeNumber = "EMP001")
     class add_sales_line_test {
@@ -204,6 +276,24 @@ class SalesOrderControllerTest {
                     .andExpect(status().isBadRequest())
                     .andDo(print());
         }
+
+        @Test
+        void get_sales_details_success() throws Exception {
+            SalesHeaderDto header = new SalesHeaderDto(
+                    2L, "P2", "파트너", "구매자", "010-1234-5678",
+                    "12345", "주소1", "주소2", null,
+                    LocalDateTime.now(), LocalDateTime.now(), "admin", "admin"
+            );
+
+            given(salesOrderService.getSalesOrderDetails(List.of(2L, 1L)))
+                    .willReturn(List.of(new SalesDetailResponse(header, List.of())));
+
+            mockMvc.perform(get("/api/sales-order/details").param("ids", "2", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].header.partnerCode").value("P2"))
+                    .andExpect(jsonPath("$.data[0].lines").isEmpty())
+                    .andDo(print());
+        }
     }
 
     @Nested
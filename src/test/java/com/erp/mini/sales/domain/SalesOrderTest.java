@@ -150,6 +150,28 @@ class SalesOrderTest {
             assertThat(so.getSalesOrderLines().get(0).getItem()).isEqualTo(item2);
         }
 
+        @Test
+        void removeLine_success_when_id_assigned_after_lookup() {
+            SalesOrder so = SalesOrder.createSalesOrder(
+                    customer,
+                    new OrderCustomerInfo("허준", "010-9999-9999"),
+                    new ShippingAddress("00009", "서울", "마포")
+            );
+
+            so.addLine(item1, warehouse1, 5L, BigDecimal.valueOf(1500));
+            assertThatThrownBy(() -> so.removeLine(1L))
+                    .isInstanceOf(BusinessException.class);
+
+            // 조회 이후 flush 로 id가 채워진 상황
+            ReflectionTestUtils.setField(so.getSalesOrderLines().get(0), "id", 1L);
+            so.removeLine(1L);
+
+            so.addLine(item1, warehouse1, 3L, BigDecimal.valueOf(1500));
+
+            assertThat(so.getSalesOrderLines()).hasSize(1);
+            assertThat(so.getSalesOrderLines().get(0).getQty()).isEqualTo(3L);
+        }
+
         @Test
         void removeLine_fail_when_not_created() {
             SalesOrder so = SalesOrder.createSalesOrder(
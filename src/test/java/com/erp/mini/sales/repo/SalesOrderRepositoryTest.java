@@ -8,8 +8,7 @@ import com.erp.mini.partner.domain.PartnerType;
 import com.erp.mini.sales.domain.OrderCustomerInfo;
 import com.erp.mini.sales.domain.SalesOrder;
 import com.erp.mini.sales.domain.ShippingAddress;
-import com.erp.mini.sales.dto.SalesHeaderDto;
-import com.erp.mini.sales.dto.SalesLineDto;
+import com.erp.mini.sales.dto.SalesDetailRow;
 import com.erp.mini.util.TestAuditorConfig;
 import com.erp.mini.util.TestContainerManager;
 import com.erp.mini.util.TestQuerydslConfig;
@@ -99,25 +98,27 @@ class SalesOrderRepositoryTest {
     }
 
     @Test
-    void getSalesDetailHeader_test() {
+    void getSalesDetailRows_without_lines_test() {
         Partner customer = saveCustomer("고객사", "CUST002", "010-2222-2222");
         SalesOrder so = saveSalesOrder(customer, "이순신", "010-1111-1111", "54321", "부산시", "중구");
 
         em.flush();
         em.clear();
 
-        SalesHeaderDto result = salesOrderRepository.getSalesDetailHeader(so.getId());
+        List<SalesDetailRow> result = salesOrderRepository.getSalesDetailRows(List.of(so.getId()));
 
-        assertThat(result).isNotNull();
-        assertThat(result.salesOrderId()).isEqualTo(so.getId());
-        assertThat(result.partnerCode()).isEqualTo(customer.getCode());
-        assertThat(result.partnerName()).isEqualTo(customer.getName());
-        assertThat(result.customerName()).isEqualTo("이순신");
-        assertThat(result.customerPhone()).isEqualTo("010-1111-1111");
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).salesOrderId()).isEqualTo(so.getId());
+        assertThat(result.get(0).partnerCode()).isEqualTo(customer.getCode());
+        assertThat(result.get(0).partnerName()).isEqualTo(customer.getName());
+        assertThat(result.get(0).customerName()).isEqualTo("이순신");
+        assertThat(result.get(0).customerPhone()).isEqualTo("010-1111-1111");
+        assertThat(result.get(0).createdBy()).isEqualTo(1L);
+        assertThat(result.get(0).hasLine()).isFalse();
     }
 
     @Test
-    void getSalesDetailLines_test() {
+    void getSalesDetailRows_test() {
         Partner customer = saveCustomer("고객사", "CUST003", "010-3333-3333");
         Item item1 = saveItem("상품A", "PROD-A", BigDecimal.valueOf(5000));
         Item item2 = saveItem("상품B", "PROD-B", BigDecimal.valueOf(8000));
@@ -131,13 +132,15 @@ class SalesOrderRepositoryTest {
         em.flush();
         em.clear();
 
-        List<SalesLineDto> result = salesOrderRepository.getSalesDetailLines(so.getId());
+        List<SalesDetailRow> result = salesOrderRepository.getSalesDetailRows(List.of(so.getId()));
 
         assertThat(result).hasSize(2);
+        assertThat(result).extracting(SalesDetailRow::salesOrderId).containsOnly(so.getId());
         assertThat(result.get(0).itemCode()).isEqualTo("PROD-A");
         assertThat(result.get(0).qty()).isEqualTo(10L);
         assertThat(result.get(1).itemCode()).isEqualTo("PROD-B");
         assertThat(result.get(1).qty()).isEqualTo(5L);
+        assertThat(result.get(1).totalCost()).isEqualByComparingTo("40000");
     }
 
     @Test
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
@@ -12,12 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.inventory.domain.InventoryTransaction;
 import com.erp.mini.inventory.domain.TransactionType;
 import com.erp.mini.inventory.repo.InventoryTransactionRepository;
 import com.erp.mini.item.domain.Item;
@@ -31,6 +34,8 @@ import com.erp.mini.sales.domain.SalesOrder;
 import com.erp.mini.sales.domain.SalesStatus;
 import com.erp.mini.sales.domain.ShippingAddress;
 import com.erp.mini.sales.dto.AddSalesOrderLineRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderResponse;
 import com.erp.mini.sales.dto.SalesOrderRequest;
 import com.erp.mini.sales.repo.SalesOrderRepository;
 import com.erp.mini.stock.domain.Stock;
@@ -67,6 +72,9 @@ class SalesOrderServiceIntegrationTest {
     @Autowired
     private InventoryTransactionRepository inventoryTransactionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @DynamicPropertySource
     static void properties(DynamicPropertyRegistry registry) {
         TestContainerManager.registerMySQL(registry);
@@ -74,6 +82,7 @@ class SalesOrderServiceIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        jdbcTemplate.update("delete from item_stock_summary");
         inventoryTransactionRepository.deleteAll();
         stockRepository.deleteAll();
         salesOrderRepository.deleteAll();
@@ -433,6 +442,93 @@ class SalesOrderServiceIntegrationTest {
         }
     }
 
+    @Nested
+    class createAndOrderSales_test {
+
+        private SalesOrderRequest request(Long partnerId, Long itemId, Long warehouseId, long qty) {
+            return new SalesOrderRequest(
+                    partnerId,
+                    "김철수",
+                    "010-9876-5432",
+                    "12345",
+                    "서울시",
+                    "강남구",
+                    List.of(new SalesOrderRequest.SaleLine(itemId, warehouseId, BigDecimal.valueOf(1000), qty)));
+        }
+
+        @Test
+        void bulk_orders_with_partial_failure() {
+            Partner customer = createCustomer("고객사B", "CUST-B");
+            Item item = createItem("상품B", "PROD-B1");
+            Warehouse wh = createWarehouse("창고B");
+
+            prepareStock(item, wh, 100L);
+
+            BulkSalesOrderRequest request = new BulkSalesOrderRequest(List.of(
+                    request(customer.getId(), item.getId(), wh.getId(), 60L), // 주문 확정
+                    request(customer.getId(), item.getId(), wh.getId(), 50L), // 재고 부족 (남은 40)
+                    request(999999L, item.getId(), wh.getId(), 1L),           // 거래처 없음
+                    request(customer.getId(), item.getId(), wh.getId(), 40L)  // 주문 확정
+            ));
+
+            BulkSalesOrderResponse response = salesOrderService.createAndOrderSales(request);
+
+            assertThat(response.total()).isEqualTo(4);
+            assertThat(response.ordered()).isEqualTo(2);
+            assertThat(response.failed()).isEqualTo(2);
+
+            var results = response.results();
+            assertThat(results.get(0).ordered()).isTrue();
+            assertThat(results.get(1).ordered()).isFalse();
+            assertThat(results.get(1).salesOrderId()).isNotNull();
+            assertThat(results.get(2).ordered()).isFalse();
+            assertThat(results.get(2).salesOrderId()).isNull();
+            assertThat(results.get(3).ordered()).isTrue();
+
+            assertThat(stockRepository.findAll().get(0).getQty()).isEqualTo(0L);
+
+            // 재고 부족 건은 생성 상태로 저장
+            assertThat(salesOrderRepository.findById(results.get(1).salesOrderId()).orElseThrow().getStatus())
+                    .isEqualTo(SalesStatus.CREATED);
+            assertThat(salesOrderRepository.findById(results.get(0).salesOrderId()).orElseThrow().getStatus())
+                    .isEqualTo(SalesStatus.ORDERED);
+
+            var outbound = inventoryTransactionRepository.findAll().stream()
+                    .filter(t -> t.getType() == TransactionType.OUTBOUND)
+                    .toList();
+            assertThat(outbound).hasSize(2);
+            assertThat(outbound).extracting(InventoryTransaction::getRefId)
+                    .containsExactlyInAnyOrder(results.get(0).salesOrderId(), results.get(3).salesOrderId());
+        }
+
+        @Test
+        void bulk_orders_report_invalid_order_as_failed() {
+            Partner customer = createCustomer("고객사C", "CUST-C");
+            Item item = createItem("상품C", "PROD-C1");
+            Warehouse wh = createWarehouse("창고C");
+
+            prepareStock(item, wh, 100L);
+
+            BulkSalesOrderRequest request = new BulkSalesOrderRequest(List.of(
+                    request(customer.getId(), item.getId(), wh.getId(), 0L), // 수량 검증 실패
+                    request(customer.getId(), item.getId(), wh.getId(), 30L)
+            ));
+
+            BulkSalesOrderResponse response = salesOrderService.createAndOrderSales(request);
+
+            assertThat(response.ordered()).isEqualTo(1);
+            assertThat(response.failed()).isEqualTo(1);
+
+            var failed = response.results().get(0);
+            assertThat(failed.ordered()).isFalse();
+            assertThat(failed.salesOrderId()).isNull();
+            assertThat(failed.message()).contains("saleLines[0].qty");
+
+            assertThat(response.results().get(1).ordered()).isTrue();
+            assertThat(stockRepository.findAll().get(0).getQty()).isEqualTo(70L);
+        }
+    }
+
     @Nested
     class cancelSales_test {
 
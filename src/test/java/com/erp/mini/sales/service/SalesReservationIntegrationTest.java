@@ -0,0 +1,292 @@
+package com.erp.mini.sales.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.inventory.domain.TransactionType;
+import com.erp.mini.inventory.repo.InventoryTransactionRepository;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.partner.domain.Partner;
+import com.erp.mini.partner.domain.PartnerType;
+import com.erp.mini.partner.repo.PartnerRepository;
+import com.erp.mini.sales.domain.OrderCustomerInfo;
+import com.erp.mini.sales.domain.SalesOrder;
+import com.erp.mini.sales.domain.SalesStatus;
+import com.erp.mini.sales.domain.ShippingAddress;
+import com.erp.mini.sales.dto.BulkSalesOrderRequest;
+import com.erp.mini.sales.dto.BulkSalesOrderResponse;
+import com.erp.mini.sales.dto.SalesOrderRequest;
+import com.erp.mini.sales.repo.SalesOrderRepository;
+import com.erp.mini.stock.domain.Stock;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.repo.StockRepository;
+import com.erp.mini.stock.repo.StockReservationRedisRepository;
+import com.erp.mini.stock.service.StockService;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+
+@SpringBootTest(properties = {
+        "erp.stock.reservation.enabled=true",
+        // 스케줄 실행은 막고 테스트에서 직접 반영
+        "erp.stock.reservation.reconcile-interval-ms=3600000",
+        "erp.stock.reservation.recover-interval-ms=3600000"
+})
+@Import(TestAuditorConfig.class)
+@ActiveProfiles("integration")
+class SalesReservationIntegrationTest {
+
+    @Autowired
+    private SalesOrderService salesOrderService;
+
+    @Autowired
+    private SalesReservationReconciler salesReservationReconciler;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockReservationRedisRepository stockReservationRedisRepository;
+
+    @Autowired
+    private SalesOrderRepository salesOrderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerRedis(registry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from stock_reservation_applies");
+        jdbcTemplate.update("delete from item_stock_summary");
+        inventoryTransactionRepository.deleteAll();
+        stockRepository.deleteAll();
+        salesOrderRepository.deleteAll();
+        itemRepository.deleteAll();
+        warehouseRepository.deleteAll();
+        partnerRepository.deleteAll();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    private StockKey prepareStock(long qty) {
+        Item item = itemRepository.save(Item.createItem("상품", "PROD-R", BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+        Warehouse wh = warehouseRepository.save(Warehouse.createWarehouse("창고", "loc", WarehouseStatus.ACTIVE));
+
+        Stock stock = Stock.createStock(item, wh);
+        stock.increase(qty);
+        stockRepository.save(stock);
+
+        return new StockKey(item.getId(), wh.getId());
+    }
+
+    private SalesOrder createSalesOrder(StockKey key, long qty) {
+        Partner customer = partnerRepository.save(
+                Partner.createPartner("CUST-R" + qty, PartnerType.CUSTOMER, "010-1234-5678", "r" + qty + "@co.kr"));
+
+        SalesOrder so = SalesOrder.createSalesOrder(
+                customer,
+                new OrderCustomerInfo("김철수", "010-9876-5432"),
+                new ShippingAddress("12345", "서울", "강남"));
+        so.addLine(itemRepository.getReferenceById(key.getItemId()),
+                warehouseRepository.getReferenceById(key.getWarehouseId()), qty, BigDecimal.valueOf(1000));
+
+        return salesOrderRepository.save(so);
+    }
+
+    private SalesOrderRequest bulkRequest(Long partnerId, StockKey key, long qty) {
+        return new SalesOrderRequest(
+                partnerId,
+                "김철수",
+                "010-9876-5432",
+                "12345",
+                "서울",
+                "강남",
+                List.of(new SalesOrderRequest.SaleLine(key.getItemId(), key.getWarehouseId(), BigDecimal.valueOf(1000), qty)));
+    }
+
+    private long stockQty() {
+        return stockRepository.findAll().get(0).getQty();
+    }
+
+    @Test
+    void order_reserves_counter_and_reconcile_applies_to_db() {
+        StockKey key = prepareStock(100L);
+        SalesOrder so = createSalesOrder(key, 10L);
+
+        salesOrderService.orderSales(so.getId());
+
+        // 주문 시점에는 Redis 카운터만 차감
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isEqualTo(90L);
+        assertThat(stockQty()).isEqualTo(100L);
+        assertThat(salesOrderRepository.findById(so.getId()).orElseThrow().getStatus()).isEqualTo(SalesStatus.ORDERED);
+
+        assertThat(salesReservationReconciler.reconcile()).isEqualTo(1);
+
+        assertThat(stockQty()).isEqualTo(90L);
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isEqualTo(90L);
+        assertThat(inventoryTransactionRepository.findAll())
+                .filteredOn(tx -> tx.getType() == TransactionType.OUTBOUND)
+                .hasSize(1);
+    }
+
+    @Test
+    void order_fail_when_counter_insufficient() {
+        StockKey key = prepareStock(100L);
+        SalesOrder first = createSalesOrder(key, 60L);
+        SalesOrder second = createSalesOrder(key, 50L);
+
+        salesOrderService.orderSales(first.getId());
+
+        // DB 반영 전이어도 카운터 기준으로 부족 판단
+        assertThatThrownBy(() -> salesOrderService.orderSales(second.getId()))
+                .isInstanceOf(BusinessException.class)
+                .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.CONFLICT);
+
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isEqualTo(40L);
+        assertThat(salesOrderRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(SalesStatus.CREATED);
+    }
+
+    @Test
+    void bulk_order_excludes_reserved_qty_not_yet_applied() {
+        StockKey key = prepareStock(100L);
+        SalesOrder reserved = createSalesOrder(key, 60L);
+
+        salesOrderService.orderSales(reserved.getId());
+
+        // DB 수량은 100 이지만 예약된 60 을 제외한 40 만 출고 가능
+        BulkSalesOrderResponse response = salesOrderService.createAndOrderSales(new BulkSalesOrderRequest(List.of(
+                bulkRequest(reserved.getPartner().getId(), key, 40L),
+                bulkRequest(reserved.getPartner().getId(), key, 10L)
+        )));
+
+        assertThat(response.ordered()).isEqualTo(1);
+        assertThat(response.results().get(1).ordered()).isFalse();
+        assertThat(stockQty()).isEqualTo(60L);
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isZero();
+
+        // 예약건도 부족 없이 반영
+        assertThat(salesReservationReconciler.reconcile()).isEqualTo(1);
+        assertThat(stockQty()).isZero();
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isZero();
+        assertThat(inventoryTransactionRepository.findAll())
+                .filteredOn(tx -> tx.getType() == TransactionType.OUTBOUND)
+                .hasSize(2);
+    }
+
+    @Test
+    void cancel_before_reconcile_releases_counter_only() {
+        StockKey key = prepareStock(100L);
+        SalesOrder so = createSalesOrder(key, 10L);
+
+        salesOrderService.orderSales(so.getId());
+        salesOrderService.cancelSales(so.getId());
+
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isEqualTo(100L);
+        assertThat(salesReservationReconciler.reconcile()).isZero();
+        assertThat(stockQty()).isEqualTo(100L);
+        assertThat(inventoryTransactionRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void cancel_after_reconcile_restores_db_and_counter() {
+        StockKey key = prepareStock(100L);
+        SalesOrder so = createSalesOrder(key, 10L);
+
+        salesOrderService.orderSales(so.getId());
+        salesReservationReconciler.reconcile();
+        salesOrderService.cancelSales(so.getId());
+
+        assertThat(stockQty()).isEqualTo(100L);
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isEqualTo(100L);
+    }
+
+    @Test
+    void reserved_order_applied_to_db_only_once() {
+        StockKey key = prepareStock(100L);
+        SalesOrder so = createSalesOrder(key, 10L);
+
+        salesOrderService.orderSales(so.getId());
+        salesReservationReconciler.reconcile();
+
+        // 담당 노드가 바뀌어 같은 예약을 다시 처리하는 경우
+        stockService.decreaseReserved(Map.of(key, 10L), so.getId());
+
+        assertThat(stockQty()).isEqualTo(90L);
+        assertThat(inventoryTransactionRepository.findAll())
+                .filteredOn(tx -> tx.getType() == TransactionType.OUTBOUND)
+                .hasSize(1);
+    }
+
+    @Test
+    void reconcile_skipped_while_other_node_is_leader() {
+        StockKey key = prepareStock(100L);
+        SalesOrder so = createSalesOrder(key, 10L);
+
+        salesOrderService.orderSales(so.getId());
+        salesReservationReconciler.releaseLeader();
+        assertThat(stockReservationRedisRepository.acquireLeader("other-node", 60000L)).isTrue();
+
+        assertThat(salesReservationReconciler.reconcile()).isZero();
+        assertThat(stockQty()).isEqualTo(100L);
+
+        stockReservationRedisRepository.releaseLeader("other-node");
+
+        assertThat(salesReservationReconciler.reconcile()).isEqualTo(1);
+        assertThat(stockQty()).isEqualTo(90L);
+    }
+
+    @Test
+    void inbound_after_counter_loaded_increases_counter() {
+        StockKey key = prepareStock(100L);
+        SalesOrder so = createSalesOrder(key, 10L);
+
+        salesOrderService.orderSales(so.getId());
+        stockService.increase(Map.of(key, 50L), 1L);
+
+        assertThat(stockReservationRedisRepository.getAvailable(key)).isEqualTo(140L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.erp.mini.seed;
+
+import com.erp.mini.user.domain.UserTestDataFactory;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(TestAuditorConfig.class)
+@ActiveProfiles("integration")
+class SeedDataGeneratorIntegrationTest {
+
+    @Autowired
+    private SeedDataGenerator seedDataGenerator;
+
+    @Autowired
+    private UserTestDataFactory userTestDataFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from inventory_transactions");
+        jdbcTemplate.update("delete from sales_order_lines");
+        jdbcTemplate.update("delete from sales_orders");
+        jdbcTemplate.update("delete from stocks");
+        jdbcTemplate.update("delete from item_stock_summary");
+        jdbcTemplate.update("delete from partners");
+        jdbcTemplate.update("delete from items");
+        jdbcTemplate.update("delete from warehouses");
+        jdbcTemplate.update("delete from users");
+        jdbcTemplate.update("update stock_snapshot_progress set last_closed_date = null where id = 1");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    @Test
+    void generate_rows_with_consistent_ledger() {
+        userTestDataFactory.createUser("admin", "12345");
+
+        // rowsPerInsert 보다 많은 행을 여러 스레드로 나눠 생성
+        seedDataGenerator.generate(new SeedDataShape(20, 5, 10, 3, 3, 300, 4, 10, 3, 50, 7L));
+
+        assertThat(count("select count(*) from items")).isEqualTo(20);
+        assertThat(count("select count(*) from warehouses")).isEqualTo(5);
+        assertThat(count("select count(*) from partners where type = 'CUSTOMER'")).isEqualTo(10);
+        assertThat(count("select count(*) from partners where type = 'SUPPLIER'")).isEqualTo(3);
+        assertThat(count("select count(*) from stocks")).isEqualTo(60);
+        assertThat(count("select count(*) from sales_orders")).isEqualTo(300);
+        assertThat(count("select count(*) from sales_order_lines")).isBetween(300L, 1200L);
+
+        // 재고 차감 이후 상태의 주문 라인마다 출고 이력
+        assertThat(count("select count(*) from inventory_transactions where type = 'OUTBOUND'")).isEqualTo(count("""
+                select count(*) from sales_order_lines l join sales_orders o on o.id = l.sales_order_id
+                where o.status <> 'CREATED'
+                """));
+
+        // (상품, 창고)별 이력 합계 = 재고 수량
+        assertThat(count("""
+                select count(*) from stocks s
+                where s.qty <> (select coalesce(sum(t.qty_delta), 0) from inventory_transactions t
+                                where t.item_id = s.item_id and t.warehouse_id = s.warehouse_id)
+                """)).isZero();
+
+        // 이력 순서대로 누적해도 음수 재고가 없음
+        assertThat(count("""
+                select coalesce(min(balance), 0) from (
+                    select sum(qty_delta) over (partition by item_id, warehouse_id order by created_at, id) as balance
+                    from inventory_transactions
+                ) b
+                """)).isGreaterThanOrEqualTo(0);
+
+        // 상품별 재고 요약 = 창고 합계
+        assertThat(count("""
+                select count(*) from item_stock_summary iss
+                join (select item_id, sum(qty) as qty from stocks group by item_id) s on s.item_id = iss.item_id
+                where iss.total_qty = s.qty
+                """)).isEqualTo(20);
+    }
+
+    @Test
+    void generate_without_user_fails() {
+        assertThatThrownBy(() -> seedDataGenerator.generate(new SeedDataShape(1, 1, 1, 0, 1, 1, 1, 1, 1, 10, 1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void generate_after_snapshot_closed_fails() {
+        userTestDataFactory.createUser("admin", "12345");
+        jdbcTemplate.update("update stock_snapshot_progress set last_closed_date = '2024-01-01' where id = 1");
+
+        assertThatThrownBy(() -> seedDataGenerator.generate(new SeedDataShape(1, 1, 1, 0, 1, 1, 1, 1, 1, 10, 1L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("last_closed_date");
+
+        assertThat(count("select count(*) from items")).isZero();
+    }
+}
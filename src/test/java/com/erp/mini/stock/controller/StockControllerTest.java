@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.junit.jupiter.api.Nested;
@@ -32,10 +33,13 @@ import com.erp.mini.stock.dto.AdjustStockRequest;
 import com.erp.mini.stock.dto.ItemInfoDto;
 import com.erp.mini.stock.dto.ItemStockInfoDto;
 import com.erp.mini.stock.dto.ItemStockResponse;
+import com.erp.mini.stock.dto.ItemStockSummaryDto;
+import com.erp.mini.stock.dto.StockHistoryResponse;
 import com.erp.mini.stock.dto.WarehouseInfoDto;
 import com.erp.mini.stock.dto.WarehouseStockInfoDto;
 import com.erp.mini.stock.dto.WarehouseStockResponse;
 import com.erp.mini.stock.service.StockService;
+import com.erp.mini.stock.service.StockSnapshotService;
 import com.erp.mini.util.CustomMockUser;
 import com.erp.mini.warehouse.domain.WarehouseStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -53,6 +57,9 @@ class StockControllerTest {
         @MockitoBean
         private StockService stockService;
 
+        @MockitoBean
+        private StockSnapshotService stockSnapshotService;
+
         // --- 재고 조정 테스트 ---
         @Nested
         @CustomMockUser(id = 1L, employeeNumber = "EMP001")
@@ -140,6 +147,63 @@ class StockControllerTest {
                 }
         }
 
+        // --- 상품별 총 재고 일괄 조회 테스트 ---
+        @Nested
+        @CustomMockUser(id = 1L, employeeNumber = "EMP001")
+        class getItemStockSummaries_test {
+
+                @Test
+                void getItemStockSummaries_success() throws Exception {
+                        given(stockService.getItemStockSummaries(List.of(1L, 2L))).willReturn(List.of(
+                                        new ItemStockSummaryDto(1L, 120L),
+                                        new ItemStockSummaryDto(2L, 0L)));
+
+                        mockMvc.perform(get("/api/stock/summary")
+                                        .param("itemIds", "1,2"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.data[0].itemId").value(1))
+                                        .andExpect(jsonPath("$.data[0].totalQty").value(120))
+                                        .andExpect(jsonPath("$.data[1].totalQty").value(0))
+                                        .andDo(print());
+                }
+        }
+
+        // --- 특정 일자 재고 조회 테스트 ---
+        @Nested
+        @CustomMockUser(id = 1L, employeeNumber = "EMP001")
+        class getStockHistory_test {
+
+                @Test
+                void getStockHistory_success() throws Exception {
+                        LocalDate date = LocalDate.of(2025, 1, 2);
+
+                        given(stockSnapshotService.getStockAt(1L, 2L, date))
+                                        .willReturn(new StockHistoryResponse(1L, 2L, date, 12L));
+
+                        mockMvc.perform(get("/api/stock/history")
+                                        .param("itemId", "1")
+                                        .param("warehouseId", "2")
+                                        .param("date", "2025-01-02"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.data.date").value("2025-01-02"))
+                                        .andExpect(jsonPath("$.data.qty").value(12))
+                                        .andDo(print());
+                }
+
+                @Test
+                void getStockHistory_fail_with_future_date() throws Exception {
+                        willThrow(new BusinessException(ErrorCode.BAD_REQUEST, "미래 일자의 재고는 조회할 수 없습니다."))
+                                        .given(stockSnapshotService).getStockAt(any(), any(), any());
+
+                        mockMvc.perform(get("/api/stock/history")
+                                        .param("itemId", "1")
+                                        .param("warehouseId", "2")
+                                        .param("date", "2999-01-01"))
+                                        .andExpect(status().isBadRequest())
+                                        .andDo(print());
+                }
+        }
+
         // --- 상품별 재고 조회 테스트 ---
         @Nested
         @CustomMockUser(id = 1L, employeeNumber = "EMP001")
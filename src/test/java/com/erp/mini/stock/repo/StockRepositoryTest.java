@@ -19,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -99,6 +100,30 @@ class StockRepositoryTest {
         assertThat(result.getContent()).hasSize(2);
     }
 
+    @Test
+    void getItemStockInfoSlice_test() {
+        Item item = saveItem("설탕", "IC000001");
+        Warehouse seoul = saveWarehouse("서울 창고", "서울시 어딘가");
+        Warehouse busan = saveWarehouse("부산 창고", "부산시 어딘가");
+
+        saveStock(item, seoul, 10);
+        saveStock(item, busan, 30);
+
+        em.flush();
+        em.clear();
+
+        Slice<ItemStockInfoDto> first
+                = stockRepository.getItemStockInfoSlice(item.getId(), PageRequest.of(0, 1));
+        Slice<ItemStockInfoDto> second
+                = stockRepository.getItemStockInfoSlice(item.getId(), PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(first.getContent().get(0).warehouseId()).isNotEqualTo(second.getContent().get(0).warehouseId());
+    }
+
     @Test
     void getWarehouseInfo_test() {
         Warehouse warehouse = saveWarehouse("서울 창고", "서울시 어딘가");
@@ -155,6 +180,36 @@ class StockRepositoryTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    void findAllByKeysForUpdate_only_exact_keys_in_sorted_order_test() {
+        Item sugar = saveItem("설탕", "IC000001");
+        Item salt = saveItem("소금", "IC000002");
+        Warehouse seoul = saveWarehouse("서울 창고", "서울시 어딘가");
+        Warehouse busan = saveWarehouse("부산 창고", "부산시 어딘가");
+
+        saveStock(sugar, seoul, 10);
+        saveStock(sugar, busan, 5);
+        saveStock(salt, seoul, 20);
+
+        em.flush();
+        em.clear();
+
+        // 정렬되지 않은 순서 + 존재하지 않는 조합(salt, busan) 포함
+        List<StockKey> keys = List.of(
+                new StockKey(salt.getId(), seoul.getId()),
+                new StockKey(salt.getId(), busan.getId()),
+                new StockKey(sugar.getId(), seoul.getId())
+        );
+
+        List<Stock> result = stockRepository.findAllByKeysForUpdate(keys);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getItem().getId()).isEqualTo(sugar.getId());
+        assertThat(result.get(0).getWarehouse().getId()).isEqualTo(seoul.getId());
+        assertThat(result.get(1).getItem().getId()).isEqualTo(salt.getId());
+        assertThat(result.get(1).getQty()).isEqualTo(20);
+    }
+
     @Test
     void findByItemAndWarehouseForUpdate_test() {
         Item salt = saveItem("소금", "IC000002");
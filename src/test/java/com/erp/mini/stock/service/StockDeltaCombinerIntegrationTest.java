@@ -0,0 +1,210 @@
+package com.erp.mini.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.inventory.domain.InventoryTransaction;
+import com.erp.mini.inventory.domain.TransactionType;
+import com.erp.mini.inventory.repo.InventoryTransactionRepository;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.dto.StockKey;
+import com.erp.mini.stock.repo.StockRepository;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "erp.stock.combining.enabled=true",
+        // 동시 요청이 한 묶음으로 모이도록 넉넉하게
+        "erp.stock.combining.window=20ms",
+        "erp.stock.combining.workers=1",
+        // 기다리는 호출자 수 = 커넥션 풀 크기 - worker 수
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@Import(TestAuditorConfig.class)
+@ActiveProfiles("integration")
+class StockDeltaCombinerIntegrationTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from item_stock_summary");
+        inventoryTransactionRepository.deleteAll();
+        stockRepository.deleteAll();
+        itemRepository.deleteAll();
+        warehouseRepository.deleteAll();
+    }
+
+    private StockKey createStock(long qty) {
+        Item item = itemRepository.save(Item.createItem("HOT", "ITM-HOT", BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+        Warehouse wh = warehouseRepository.save(Warehouse.createWarehouse("WH-HOT", "loc", WarehouseStatus.ACTIVE));
+
+        StockKey key = new StockKey(item.getId(), wh.getId());
+        stockService.increase(Map.of(key, qty), 1L);
+
+        return key;
+    }
+
+    private long getQty(StockKey key) {
+        return stockRepository.findAll().stream()
+                .filter(s -> s.getItem().getId().equals(key.getItemId()))
+                .findFirst()
+                .orElseThrow()
+                .getQty();
+    }
+
+    @Test
+    void hot_key_decreases_are_combined_with_per_request_shortage() throws Exception {
+        StockKey key = createStock(50L);
+
+        int requests = 80;
+        CountDownLatch ready = new CountDownLatch(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < requests; i++) {
+                long salesOrderId = 1000L + i;
+
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    stockService.decrease(Map.of(key, 1L), salesOrderId);
+                    return null;
+                }));
+            }
+
+            ready.await();
+            start.countDown();
+
+            int success = 0;
+            int conflict = 0;
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                    success++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BusinessException.class);
+                    assertThat(((BusinessException) e.getCause()).getErrorCode()).isEqualTo(ErrorCode.CONFLICT);
+                    conflict++;
+                }
+            }
+
+            assertThat(success).isEqualTo(50);
+            assertThat(conflict).isEqualTo(30);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(getQty(key)).isZero();
+        assertThat(inventoryTransactionRepository.findAll())
+                .filteredOn(tx -> tx.getType() == TransactionType.OUTBOUND)
+                .hasSize(50);
+
+        // 한 번에 여러 요청이 반영되었는지
+        assertThat(meterRegistry.get("erp.stock.combining.batch.size").summary().max()).isGreaterThan(1.0);
+    }
+
+    @Test
+    void increase_creates_stock_through_combiner() {
+        StockKey key = createStock(5L);
+
+        assertThat(getQty(key)).isEqualTo(5L);
+
+        List<InventoryTransaction> txs = inventoryTransactionRepository.findAll();
+        assertThat(txs).hasSize(1);
+        assertThat(txs.get(0).getType()).isEqualTo(TransactionType.INBOUND);
+        assertThat(txs.get(0).getRefId()).isEqualTo(1L);
+    }
+
+    @Test
+    void missing_stock_is_rejected() {
+        StockKey key = createStock(5L);
+        StockKey missing = new StockKey(key.getItemId(), -1L);
+
+        assertThatThrownBy(() -> stockService.decrease(Map.of(missing, 1L), 10L))
+                .isInstanceOf(BusinessException.class)
+                .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.NOT_FOUND);
+
+        assertThat(getQty(key)).isEqualTo(5L);
+    }
+
+    @Test
+    void caller_transaction_is_not_combined() {
+        StockKey key = createStock(10L);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 바깥 트랜잭션에 참여한 호출은 기존 경로로 처리되어 함께 롤백
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            stockService.decrease(Map.of(key, 3L), 20L);
+            throw new IllegalStateException("판매 상태 변경 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(getQty(key)).isEqualTo(10L);
+        assertThat(inventoryTransactionRepository.findAll())
+                .extracting(InventoryTransaction::getQtyDelta)
+                .containsExactly(10L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.erp.mini.stock.service;
+
+import com.erp.mini.common.response.BusinessException;
+import com.erp.mini.common.response.ErrorCode;
+import com.erp.mini.stock.dto.StockKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockKeyLockManagerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void same_key_waits_until_unlocked() throws Exception {
+        StockKeyLockManager lockManager = new StockKeyLockManager(meterRegistry, true, 16, Duration.ofSeconds(5));
+        StockKey key = new StockKey(1L, 1L);
+
+        int[] held = lockManager.lock(List.of(key));
+        CountDownLatch started = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> waiting = executor.submit(() -> {
+                started.countDown();
+                lockManager.unlock(lockManager.lock(List.of(key)));
+            });
+
+            started.await();
+            Thread.sleep(100);
+            assertThat(waiting.isDone()).isFalse();
+
+            lockManager.unlock(held);
+            waiting.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(meterRegistry.counter("erp.stock.lock.contended").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void lock_timeout_throws_conflict() throws Exception {
+        StockKeyLockManager lockManager = new StockKeyLockManager(meterRegistry, true, 16, Duration.ofMillis(50));
+        StockKey key = new StockKey(1L, 1L);
+
+        int[] held = lockManager.lock(List.of(key));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> waiting = executor.submit(() -> lockManager.lock(List.of(key)));
+
+            assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex.getCause()).getErrorCode())
+                            .isEqualTo(ErrorCode.CONFLICT));
+        } finally {
+            lockManager.unlock(held);
+            executor.shutdownNow();
+        }
+
+        assertThat(meterRegistry.counter("erp.stock.lock.timeout").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabled_lock_does_not_hold_stripes() {
+        StockKeyLockManager lockManager = new StockKeyLockManager(meterRegistry, false, 16, Duration.ofSeconds(5));
+
+        assertThat(lockManager.lock(List.of(new StockKey(1L, 1L)))).isEmpty();
+    }
+
+    @Test
+    void invalid_stripe_count() {
+        assertThatThrownBy(() -> new StockKeyLockManager(meterRegistry, true, 1000, Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -5,21 +5,28 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.ErrorCode;
@@ -29,6 +36,7 @@ import com.erp.mini.inventory.repo.InventoryTransactionRepository;
 import com.erp.mini.item.domain.Item;
 import com.erp.mini.item.domain.ItemStatus;
 import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.domain.Stock;
 import com.erp.mini.stock.dto.AdjustStockRequest;
 import com.erp.mini.stock.dto.ItemStockResponse;
 import com.erp.mini.stock.dto.StockKey;
@@ -59,6 +67,9 @@ class StockServiceIntegrationTest {
     @Autowired
     private InventoryTransactionRepository inventoryTransactionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @DynamicPropertySource
     static void properties(DynamicPropertyRegistry registry) {
         TestContainerManager.registerMySQL(registry);
@@ -66,6 +77,7 @@ class StockServiceIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        jdbcTemplate.update("delete from item_stock_summary");
         inventoryTransactionRepository.deleteAll();
         stockRepository.deleteAll();
         itemRepository.deleteAll();
@@ -109,6 +121,26 @@ class StockServiceIntegrationTest {
             assertThat(tx.getRefId()).isEqualTo(100L);
         }
 
+        @Test
+        void increase_many_lines_success() {
+            // 잠금 조회 청크(100) 및 batch 크기를 넘는 라인 수
+            Warehouse wh = createWarehouse("WH-MANY");
+            Map<StockKey, Long> lineMap = new HashMap<>();
+
+            for (int i = 0; i < 250; i++) {
+                Item item = createItem("M" + i, "ITM-M" + i);
+                lineMap.put(new StockKey(item.getId(), wh.getId()), 3L);
+            }
+
+            stockService.increase(lineMap, 110L);
+            stockService.increase(lineMap, 111L);
+
+            var stocks = stockRepository.findAll();
+            assertThat(stocks).hasSize(250);
+            assertThat(stocks).allMatch(s -> s.getQty() == 6L);
+            assertThat(inventoryTransactionRepository.findAll()).hasSize(500);
+        }
+
         @Test
         void increase_fail_with_bad_request() {
             // refId is required
@@ -251,6 +283,79 @@ class StockServiceIntegrationTest {
         }
     }
 
+    // --- 조건부 UPDATE 감소 테스트 ---
+    @Nested
+    class conditional_decrease_test {
+
+        private StockService target() {
+            return AopTestUtils.getUltimateTargetObject(stockService);
+        }
+
+        @BeforeEach
+        void enable() {
+            ReflectionTestUtils.setField(target(), "conditionalDecrease", true);
+        }
+
+        @AfterEach
+        void disable() {
+            ReflectionTestUtils.setField(target(), "conditionalDecrease", false);
+        }
+
+        @Test
+        void conditional_decrease_success() {
+            Item item = createItem("CD", "ITM-CD");
+            Warehouse wh = createWarehouse("WH-CD");
+
+            StockKey key = new StockKey(item.getId(), wh.getId());
+            stockService.increase(Collections.singletonMap(key, 50L), 600L);
+
+            stockService.decrease(Collections.singletonMap(key, 20L), 601L);
+
+            var s = stockRepository.findAll().get(0);
+            assertThat(s.getQty()).isEqualTo(30L);
+
+            var outbound = inventoryTransactionRepository.findAll().stream()
+                    .filter(t -> t.getType() == TransactionType.OUTBOUND)
+                    .toList();
+            assertThat(outbound).hasSize(1);
+            assertThat(outbound.get(0).getQtyDelta()).isEqualTo(-20L);
+            assertThat(outbound.get(0).getRefId()).isEqualTo(601L);
+            assertThat(outbound.get(0).getCreatedBy()).isEqualTo(1L);
+        }
+
+        @Test
+        void conditional_decrease_fail_with_shortage_rolls_back_all_lines() {
+            Item item = createItem("CE", "ITM-CE");
+            Item item2 = createItem("CF", "ITM-CF");
+            Warehouse wh = createWarehouse("WH-CE");
+
+            StockKey enough = new StockKey(item.getId(), wh.getId());
+            StockKey shortage = new StockKey(item2.getId(), wh.getId());
+            stockService.increase(Map.of(enough, 10L, shortage, 1L), 700L);
+
+            assertThatThrownBy(() -> stockService.decrease(Map.of(enough, 5L, shortage, 2L), 701L))
+                    .isInstanceOf(BusinessException.class)
+                    .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.CONFLICT);
+
+            assertThat(stockRepository.findAll())
+                    .extracting(Stock::getQty)
+                    .containsExactlyInAnyOrder(10L, 1L);
+            assertThat(inventoryTransactionRepository.findAll())
+                    .noneMatch(t -> t.getType() == TransactionType.OUTBOUND);
+        }
+
+        @Test
+        void conditional_decrease_fail_with_not_found() {
+            Item item = createItem("CG", "ITM-CG");
+            Warehouse wh = createWarehouse("WH-CG");
+            StockKey key = new StockKey(item.getId(), wh.getId());
+
+            assertThatThrownBy(() -> stockService.decrease(Collections.singletonMap(key, 1L), 800L))
+                    .isInstanceOf(BusinessException.class)
+                    .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.NOT_FOUND);
+        }
+    }
+
     // --- 복구(판매 취소) 테스트 ---
     @Nested
     class restore_test {
@@ -417,6 +522,41 @@ class StockServiceIntegrationTest {
         }
     }
 
+    // --- 상품별 총 재고 요약 테스트 ---
+    @Nested
+    class item_stock_summary_test {
+
+        @Test
+        void summary_follows_stock_changes() {
+            Item item = createItem("S", "ITM-S");
+            Item noStockItem = createItem("T", "ITM-T");
+            Warehouse wh1 = createWarehouse("WH-S1");
+            Warehouse wh2 = createWarehouse("WH-S2");
+
+            StockKey key1 = new StockKey(item.getId(), wh1.getId());
+            StockKey key2 = new StockKey(item.getId(), wh2.getId());
+
+            stockService.increase(Map.of(key1, 30L, key2, 20L), 1100L); // 50
+            stockService.decrease(Map.of(key1, 10L), 1101L);            // 40
+            stockService.restore(Map.of(key1, 5L), 1101L);              // 45
+            stockService.adjust(new AdjustStockRequest(item.getId(), wh2.getId(), 5L, "stocktake")); // 30
+
+            var result = stockService.getItemStockSummaries(List.of(item.getId(), noStockItem.getId()));
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).itemId()).isEqualTo(item.getId());
+            assertThat(result.get(0).totalQty()).isEqualTo(30L);
+            assertThat(result.get(1).totalQty()).isEqualTo(0L);
+        }
+
+        @Test
+        void summary_fail_with_empty_ids() {
+            assertThatThrownBy(() -> stockService.getItemStockSummaries(List.of()))
+                    .isInstanceOf(BusinessException.class)
+                    .matches(ex -> ((BusinessException) ex).getErrorCode() == ErrorCode.BAD_REQUEST);
+        }
+    }
+
     // --- 조회 테스트 ---
     @Nested
     class getItemStock_test {
@@ -0,0 +1,165 @@
+package com.erp.mini.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.erp.mini.inventory.repo.InventoryTransactionRepository;
+import com.erp.mini.item.domain.Item;
+import com.erp.mini.item.domain.ItemStatus;
+import com.erp.mini.item.repo.ItemRepository;
+import com.erp.mini.stock.dto.StockHistoryResponse;
+import com.erp.mini.util.TestAuditorConfig;
+import com.erp.mini.util.TestContainerManager;
+import com.erp.mini.warehouse.domain.Warehouse;
+import com.erp.mini.warehouse.domain.WarehouseStatus;
+import com.erp.mini.warehouse.repo.WarehouseRepository;
+
+@SpringBootTest
+@Import(TestAuditorConfig.class)
+@ActiveProfiles("integration")
+class StockSnapshotIntegrationTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate DAY2 = DAY1.plusDays(1);
+    private static final LocalDate DAY3 = DAY1.plusDays(2);
+    private static final LocalDate DAY4 = DAY1.plusDays(3);
+
+    @Autowired
+    private StockSnapshotService stockSnapshotService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long itemId;
+    private Long warehouseId;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Item item = itemRepository.save(Item.createItem("A", "ITM-A", BigDecimal.valueOf(1000), ItemStatus.ACTIVE));
+        Warehouse warehouse = warehouseRepository.save(Warehouse.createWarehouse("WH-A", "loc", WarehouseStatus.ACTIVE));
+
+        itemId = item.getId();
+        warehouseId = warehouse.getId();
+
+        // DAY1 +10 -3, DAY2 +5, DAY3 변동 없음, DAY4 -2
+        insertAdjust(DAY1.atTime(9, 0), 10L);
+        insertAdjust(DAY1.atTime(23, 59, 59), -3L);
+        insertAdjust(DAY2.atTime(0, 0), 5L);
+        insertAdjust(DAY4.atTime(12, 0), -2L);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from stock_daily_snapshots");
+        inventoryTransactionRepository.deleteAll();
+        itemRepository.deleteAll();
+        warehouseRepository.deleteAll();
+        jdbcTemplate.update("update stock_snapshot_progress set last_closed_date = null where id = 1");
+    }
+
+    private void insertAdjust(LocalDateTime createdAt, long delta) {
+        jdbcTemplate.update("""
+                insert into inventory_transactions (item_id, warehouse_id, type, qty_delta, reason, created_by, created_at)
+                values (?, ?, 'ADJUST', ?, 'test', 1, ?)
+                """, itemId, warehouseId, delta, Timestamp.valueOf(createdAt));
+    }
+
+    private long qtyAt(LocalDate date) {
+        StockHistoryResponse response = stockSnapshotService.getStockAt(itemId, warehouseId, date);
+        return response.qty();
+    }
+
+    @Test
+    void close_days_from_first_transaction_in_order() {
+        assertThat(stockSnapshotService.closeNextDay(DAY3)).isEqualTo(DAY1);
+        assertThat(stockSnapshotService.closeNextDay(DAY3)).isEqualTo(DAY2);
+        assertThat(stockSnapshotService.closeNextDay(DAY3)).isEqualTo(DAY3);
+        assertThat(stockSnapshotService.closeNextDay(DAY3)).isNull();
+
+        // 변동이 있었던 일자만 저장
+        Integer count = jdbcTemplate.queryForObject("select count(*) from stock_daily_snapshots", Integer.class);
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void stock_at_closed_and_open_days() {
+        int closed = 0;
+        while (stockSnapshotService.closeNextDay(DAY3) != null) {
+            closed++;
+        }
+
+        assertThat(closed).isEqualTo(3);
+
+        assertThat(qtyAt(DAY1.minusDays(1))).isZero();
+        assertThat(qtyAt(DAY1)).isEqualTo(7L);
+        assertThat(qtyAt(DAY2)).isEqualTo(12L);
+        assertThat(qtyAt(DAY3)).isEqualTo(12L);
+
+        // 미마감 일자는 마지막 스냅샷 + 이후 이력
+        assertThat(qtyAt(DAY4)).isEqualTo(10L);
+        assertThat(qtyAt(LocalDate.now())).isEqualTo(10L);
+    }
+
+    @Test
+    void stock_at_without_any_snapshot() {
+        assertThat(qtyAt(DAY1)).isEqualTo(7L);
+        assertThat(qtyAt(DAY4)).isEqualTo(10L);
+    }
+
+    @Test
+    void re_close_same_day_overwrites_snapshot() {
+        stockSnapshotService.closeNextDay(DAY1);
+
+        // 마감 후 들어온 지연 이력을 반영하기 위해 같은 일자를 다시 마감
+        insertAdjust(DAY1.atTime(10, 0), 1L);
+        jdbcTemplate.update("update stock_snapshot_progress set last_closed_date = null where id = 1");
+        stockSnapshotService.closeNextDay(DAY1);
+
+        assertThat(qtyAt(DAY1)).isEqualTo(8L);
+    }
+
+    @Test
+    void reclose_recent_days_applies_late_commits() {
+        for (int i = 0; i < 3; i++) {
+            stockSnapshotService.closeNextDay(DAY3);
+        }
+
+        // DAY2 마감 이후 커밋된 DAY2 이력
+        insertAdjust(DAY2.atTime(23, 59, 59), 1L);
+
+        assertThat(stockSnapshotService.recloseRecentDays(2)).isEqualTo(2);
+
+        assertThat(qtyAt(DAY1)).isEqualTo(7L);
+        assertThat(qtyAt(DAY2)).isEqualTo(13L);
+        assertThat(qtyAt(DAY3)).isEqualTo(13L);
+    }
+}
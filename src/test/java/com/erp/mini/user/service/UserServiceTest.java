@@ -1,5 +1,6 @@
 package com.erp.mini.user.service;
 
+import com.erp.mini.common.cache.UserNameCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.user.domain.User;
 import com.erp.mini.user.domain.UserFixture;
@@ -20,7 +21,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -33,6 +36,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserNameCache userNameCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -58,6 +64,7 @@ class UserServiceTest {
                             && user.getPassword().equals(savedPassword)
                             && user.getEmployeeNumber().equals(employeeNumber)
             ));
+            then(userNameCache).should().add(any(), eq(request.name()));
         }
 
         @Test
@@ -8,6 +8,13 @@ import org.testcontainers.utility.DockerImageName;
 public class TestContainerManager {
 
     public static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("testdb")
+            .withUsername("root")
+            .withPassword("password")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    // 읽기 전용 트랜잭션 분리 확인용 replica 대역 (복제는 하지 않음)
+    public static final MySQLContainer<?> REPLICA = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
             .withDatabaseName("testdb")
             .withUsername("root")
             .withPassword("password");
@@ -28,6 +35,12 @@ public class TestContainerManager {
         }
     }
 
+    public static void startReplica() {
+        if (!REPLICA.isRunning()) {
+            REPLICA.start();
+        }
+    }
+
     public static void startRedis() {
         if (!REDIS.isRunning()) {
             REDIS.start();
@@ -42,6 +55,14 @@ public class TestContainerManager {
         registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
     }
 
+    public static void registerReplica(DynamicPropertyRegistry registry) {
+        startReplica();
+        registry.add("erp.datasource.replica.enabled", () -> "true");
+        registry.add("erp.datasource.replica.urls", REPLICA::getJdbcUrl);
+        registry.add("erp.datasource.replica.username", REPLICA::getUsername);
+        registry.add("erp.datasource.replica.password", REPLICA::getPassword);
+    }
+
     public static void registerRedis(DynamicPropertyRegistry registry) {
         startRedis();
         registry.add("spring.data.redis.host", REDIS::getHost);
@@ -1,5 +1,6 @@
 package com.erp.mini.warehouse.service;
 
+import com.erp.mini.common.cache.MasterDataCache;
 import com.erp.mini.common.response.BusinessException;
 import com.erp.mini.common.response.PageResponse;
 import com.erp.mini.warehouse.domain.Warehouse;
@@ -34,6 +35,9 @@ class WarehouseServiceTest {
     @Mock
     private WarehouseRepository warehouseRepository;
 
+    @Mock
+    private MasterDataCache masterDataCache;
+
     @InjectMocks
     private WarehouseService warehouseService;
 